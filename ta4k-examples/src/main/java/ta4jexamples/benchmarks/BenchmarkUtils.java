@@ -0,0 +1,120 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.benchmarks;
+
+import eu.verdelhan.ta4j.BaseTick;
+import eu.verdelhan.ta4j.BaseTimeSeries;
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Helpers for the ta4j benchmarks.
+ * <p>
+ * Benchmarks run on reproducible random-walk series of 1-minute ticks, so that they don't depend on the size of the
+ * CSV files shipped with the examples.
+ */
+public class BenchmarkUtils {
+
+    /** Seed of the random walks */
+    private static final long SEED = 42L;
+
+    /**
+     * @param tickCount the number of ticks of the series
+     * @param backend the numeric backend of the tick values
+     * @return a random-walk time series of 1-minute ticks
+     */
+    public static TimeSeries randomWalkSeries(int tickCount, Decimal.Backend backend) {
+        return new BaseTimeSeries("random_walk", randomWalkTicks(tickCount, backend));
+    }
+
+    /**
+     * @param tickCount the number of ticks to generate
+     * @param backend the numeric backend of the tick values
+     * @return a list of random-walk 1-minute ticks
+     */
+    public static List<Tick> randomWalkTicks(int tickCount, Decimal.Backend backend) {
+        return randomWalkTicks(tickCount, backend, SEED);
+    }
+
+    /**
+     * @param tickCount the number of ticks to generate
+     * @param backend the numeric backend of the tick values
+     * @param seed the seed of the random walk
+     * @return a list of random-walk 1-minute ticks
+     */
+    public static List<Tick> randomWalkTicks(int tickCount, Decimal.Backend backend, long seed) {
+        Random random = new Random(seed);
+        List<Tick> ticks = new ArrayList<>(tickCount);
+        Duration period = Duration.ofMinutes(1);
+        ZonedDateTime endTime = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+        double close = 1000;
+        for (int i = 0; i < tickCount; i++) {
+            double open = close;
+            close = Math.max(1, open + random.nextGaussian() * 2);
+            double high = Math.max(open, close) + random.nextDouble();
+            double low = Math.min(open, close) - random.nextDouble();
+            double volume = 1 + random.nextInt(100);
+            endTime = endTime.plus(period);
+            ticks.add(new BaseTick(period, endTime,
+                    backend.decimalOf(open),
+                    backend.decimalOf(high),
+                    backend.decimalOf(low),
+                    backend.decimalOf(close),
+                    backend.decimalOf(volume)));
+        }
+        return ticks;
+    }
+
+    /**
+     * Measures the average duration of a task.
+     * <p>
+     * The task is run a few times before being measured, to let the JIT compiler warm up.
+     * @param warmUpRuns the number of unmeasured runs
+     * @param measuredRuns the number of measured runs
+     * @param task the task to be measured (its result is kept in order to avoid dead-code elimination)
+     * @return the average duration of a measured run, in milliseconds
+     */
+    public static double averageMillis(int warmUpRuns, int measuredRuns, Supplier<?> task) {
+        Object blackhole = null;
+        for (int i = 0; i < warmUpRuns; i++) {
+            blackhole = task.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < measuredRuns; i++) {
+            blackhole = task.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (blackhole == null) {
+            System.out.println("(no result)");
+        }
+        return elapsed / 1e6 / measuredRuns;
+    }
+}
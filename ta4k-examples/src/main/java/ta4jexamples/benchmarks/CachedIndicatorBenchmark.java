@@ -0,0 +1,110 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.benchmarks;
+
+import eu.verdelhan.ta4j.BaseStrategy;
+import eu.verdelhan.ta4j.BaseTimeSeries;
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Rule;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.EMAIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.trading.rules.OverIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.UnderIndicatorRule;
+import java.util.List;
+
+/**
+ * Benchmark of the {@link CachedIndicator indicator cache} on a moving time series.
+ * <p>
+ * A strategy built on 50 indicators runs over a series limited to 10k ticks, while new ticks are appended (i.e.
+ * while the oldest ticks and results are dropped from the series and the caches).
+ */
+public class CachedIndicatorBenchmark {
+
+    private static final int MAXIMUM_TICK_COUNT = 10_000;
+
+    private static final int STREAMED_TICK_COUNT = 20_000;
+
+    /** Number of short/long EMA pairs of the strategy (i.e. half of the indicators) */
+    private static final int EMA_PAIR_COUNT = 25;
+
+    /**
+     * @param series a time series
+     * @return a strategy entering when a short EMA is over its long EMA, exiting when it is under
+     */
+    private static Strategy buildStrategy(TimeSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        Rule entryRule = null;
+        Rule exitRule = null;
+        for (int i = 1; i <= EMA_PAIR_COUNT; i++) {
+            EMAIndicator shortEma = new EMAIndicator(closePrice, i + 1);
+            EMAIndicator longEma = new EMAIndicator(closePrice, 4 * i + 10);
+            Rule over = new OverIndicatorRule(shortEma, longEma);
+            Rule under = new UnderIndicatorRule(shortEma, longEma);
+            entryRule = entryRule == null ? over : entryRule.or(over);
+            exitRule = exitRule == null ? under : exitRule.or(under);
+        }
+        return new BaseStrategy(entryRule, exitRule);
+    }
+
+    /**
+     * Streams ticks into a moving series, evaluating the strategy on each new tick.
+     * @param ticks the ticks (the first MAXIMUM_TICK_COUNT ones are loaded before streaming)
+     * @return the number of entry and exit signals
+     */
+    private static Integer streamTicks(List<Tick> ticks) {
+        TimeSeries series = new BaseTimeSeries("moving_random_walk", ticks.subList(0, MAXIMUM_TICK_COUNT));
+        series.setMaximumTickCount(MAXIMUM_TICK_COUNT);
+        Strategy strategy = buildStrategy(series);
+        strategy.shouldEnter(series.getEndIndex());
+
+        int signals = 0;
+        for (Tick tick : ticks.subList(MAXIMUM_TICK_COUNT, ticks.size())) {
+            series.addTick(tick);
+            int endIndex = series.getEndIndex();
+            if (strategy.shouldEnter(endIndex)) {
+                signals++;
+            }
+            if (strategy.shouldExit(endIndex)) {
+                signals++;
+            }
+        }
+        return signals;
+    }
+
+    public static void main(String[] args) {
+        List<Tick> ticks = BenchmarkUtils.randomWalkTicks(MAXIMUM_TICK_COUNT + STREAMED_TICK_COUNT,
+                Decimal.Backend.PRECISE);
+
+        System.out.println("Signals: " + streamTicks(ticks));
+        double millis = BenchmarkUtils.averageMillis(3, 5, () -> streamTicks(ticks));
+
+        System.out.printf("%d-indicator strategy on a %d-tick moving series, %d streamed ticks%n",
+                2 * EMA_PAIR_COUNT, MAXIMUM_TICK_COUNT, STREAMED_TICK_COUNT);
+        System.out.printf("  total:    %10.1f ms%n", millis);
+        System.out.printf("  per tick: %10.1f us%n", millis * 1000 / STREAMED_TICK_COUNT);
+    }
+}
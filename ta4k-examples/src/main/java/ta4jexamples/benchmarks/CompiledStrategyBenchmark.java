@@ -0,0 +1,105 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.benchmarks;
+
+import eu.verdelhan.ta4j.BaseStrategy;
+import eu.verdelhan.ta4j.ColumnarTimeSeries;
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Rule;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.TimeSeriesManager;
+import eu.verdelhan.ta4j.TradingRecord;
+import eu.verdelhan.ta4j.compiled.CompiledStrategy;
+import eu.verdelhan.ta4j.compiled.StrategyCompiler;
+import eu.verdelhan.ta4j.indicators.EMAIndicator;
+import eu.verdelhan.ta4j.indicators.MACDIndicator;
+import eu.verdelhan.ta4j.indicators.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.DifferenceIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.MaxPriceIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.MinPriceIndicator;
+import eu.verdelhan.ta4j.trading.rules.CrossedDownIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.CrossedUpIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.OverIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.UnderIndicatorRule;
+
+/**
+ * Benchmark of the {@link StrategyCompiler strategy compiler}.
+ * <p>
+ * A 37-node strategy (moving averages, MACD, crosses) is backtested on a 1M-tick series, as is and compiled.
+ * Both runs start from fresh indicators. The number of ticks may be given as first argument.
+ */
+public class CompiledStrategyBenchmark {
+
+    private static final int DEFAULT_TICK_COUNT = 1_000_000;
+
+    /**
+     * @param series a time series
+     * @return a strategy built on moving averages, MACD and crosses
+     */
+    private static Strategy buildStrategy(TimeSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        MaxPriceIndicator maxPrice = new MaxPriceIndicator(series);
+        MinPriceIndicator minPrice = new MinPriceIndicator(series);
+        SMAIndicator sma5 = new SMAIndicator(closePrice, 5);
+        SMAIndicator sma20 = new SMAIndicator(closePrice, 20);
+        SMAIndicator sma200 = new SMAIndicator(closePrice, 200);
+        EMAIndicator ema10 = new EMAIndicator(closePrice, 10);
+        EMAIndicator ema50 = new EMAIndicator(closePrice, 50);
+        EMAIndicator ema20OfMax = new EMAIndicator(maxPrice, 20);
+        EMAIndicator ema20OfMin = new EMAIndicator(minPrice, 20);
+        MACDIndicator macd = new MACDIndicator(closePrice, 12, 26);
+        EMAIndicator signal = new EMAIndicator(macd, 9);
+        DifferenceIndicator histogram = new DifferenceIndicator(macd, signal);
+
+        Rule entryRule = new CrossedUpIndicatorRule(sma5, sma20)
+                .and(new OverIndicatorRule(closePrice, sma200))
+                .or(new CrossedUpIndicatorRule(ema10, ema50).and(new OverIndicatorRule(histogram, Decimal.ZERO)))
+                .or(new CrossedUpIndicatorRule(closePrice, ema20OfMax).and(new UnderIndicatorRule(macd, Decimal.ZERO).negation()));
+        Rule exitRule = new CrossedDownIndicatorRule(sma5, sma20)
+                .or(new CrossedDownIndicatorRule(histogram, Decimal.ZERO).and(new UnderIndicatorRule(closePrice, ema50)))
+                .or(new CrossedDownIndicatorRule(closePrice, ema20OfMin));
+        return new BaseStrategy(entryRule, exitRule, 200);
+    }
+
+    public static void main(String[] args) {
+        int tickCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TICK_COUNT;
+        TimeSeries series = new ColumnarTimeSeries("random_walk",
+                BenchmarkUtils.randomWalkTicks(tickCount, Decimal.Backend.DOUBLE));
+        TimeSeriesManager manager = new TimeSeriesManager(series);
+
+        CompiledStrategy compiled = StrategyCompiler.compile(series, buildStrategy(series));
+        System.out.printf("%d-node strategy on a %d-tick series%n", compiled.getNodeCount(), tickCount);
+        TradingRecord interpretedRecord = manager.run(buildStrategy(series));
+        TradingRecord compiledRecord = manager.run(compiled);
+        System.out.printf("  trades: %d (same trades: %b)%n", interpretedRecord.getTradeCount(),
+                interpretedRecord.getTrades().equals(compiledRecord.getTrades()));
+
+        double interpreted = BenchmarkUtils.averageMillis(2, 3, () -> manager.run(buildStrategy(series)));
+        double fused = BenchmarkUtils.averageMillis(2, 3,
+                () -> manager.run(StrategyCompiler.compile(series, buildStrategy(series))));
+        System.out.printf("  interpreted %10.1f ms %8.3f us/tick%n", interpreted, interpreted * 1000 / tickCount);
+        System.out.printf("  compiled    %10.1f ms %8.3f us/tick%n", fused, fused * 1000 / tickCount);
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.benchmarks;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.TimeSeriesManager;
+import eu.verdelhan.ta4j.TradingRecord;
+import ta4jexamples.strategies.MovingMomentumStrategy;
+
+/**
+ * Benchmark of the {@link Decimal.Backend numeric backends}.
+ * <p>
+ * Runs the moving momentum strategy over the same random-walk series built with precise and double-backed values.
+ */
+public class DecimalBackendBenchmark {
+
+    private static final int TICK_COUNT = 20_000;
+
+    /**
+     * @param series a time series
+     * @return the trading record of a moving momentum strategy run (with fresh indicator caches)
+     */
+    private static TradingRecord runMovingMomentum(TimeSeries series) {
+        Strategy strategy = MovingMomentumStrategy.buildStrategy(series);
+        return new TimeSeriesManager(series).run(strategy);
+    }
+
+    public static void main(String[] args) {
+        TimeSeries preciseSeries = BenchmarkUtils.randomWalkSeries(TICK_COUNT, Decimal.Backend.PRECISE);
+        TimeSeries doubleSeries = BenchmarkUtils.randomWalkSeries(TICK_COUNT, Decimal.Backend.DOUBLE);
+
+        System.out.println("Trades (precise backend): " + runMovingMomentum(preciseSeries).getTradeCount());
+        System.out.println("Trades (double backend): " + runMovingMomentum(doubleSeries).getTradeCount());
+
+        double preciseMillis = BenchmarkUtils.averageMillis(3, 5, () -> runMovingMomentum(preciseSeries));
+        double doubleMillis = BenchmarkUtils.averageMillis(3, 5, () -> runMovingMomentum(doubleSeries));
+
+        System.out.printf("TimeSeriesManager.run(MovingMomentumStrategy) over %d ticks%n", TICK_COUNT);
+        System.out.printf("  precise backend: %10.1f ms%n", preciseMillis);
+        System.out.printf("  double backend:  %10.1f ms%n", doubleMillis);
+        System.out.printf("  speedup:         %10.1fx%n", preciseMillis / doubleMillis);
+    }
+}
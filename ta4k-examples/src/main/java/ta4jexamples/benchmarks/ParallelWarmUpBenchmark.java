@@ -0,0 +1,125 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.benchmarks;
+
+import eu.verdelhan.ta4j.ColumnarTimeSeries;
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.CCIIndicator;
+import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DoubleEMAIndicator;
+import eu.verdelhan.ta4j.indicators.EMAIndicator;
+import eu.verdelhan.ta4j.indicators.HMAIndicator;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
+import eu.verdelhan.ta4j.indicators.MACDIndicator;
+import eu.verdelhan.ta4j.indicators.ParallelWarmUpExecutor;
+import eu.verdelhan.ta4j.indicators.RSIIndicator;
+import eu.verdelhan.ta4j.indicators.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.StochasticOscillatorDIndicator;
+import eu.verdelhan.ta4j.indicators.StochasticOscillatorKIndicator;
+import eu.verdelhan.ta4j.indicators.TripleEMAIndicator;
+import eu.verdelhan.ta4j.indicators.WilliamsRIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.ichimoku.IchimokuSenkouSpanAIndicator;
+import eu.verdelhan.ta4j.indicators.ichimoku.IchimokuSenkouSpanBIndicator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmark of the {@link ParallelWarmUpExecutor parallel warm-up executor}.
+ * <p>
+ * 100 indicators are precomputed on a 1M-tick series, one after the other and in parallel (one thread per available
+ * processor). The number of ticks and the parallelism may be given as arguments.
+ */
+public class ParallelWarmUpBenchmark {
+
+    private static final int DEFAULT_TICK_COUNT = 1_000_000;
+
+    /**
+     * @param series a time series
+     * @return 100 indicators on the series
+     */
+    private static List<Indicator<Decimal>> buildIndicators(TimeSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        List<Indicator<Decimal>> indicators = new ArrayList<>();
+        for (int timeFrame = 5; indicators.size() < 100; timeFrame += 5) {
+            StochasticOscillatorKIndicator stochasticK = new StochasticOscillatorKIndicator(series, timeFrame);
+            indicators.addAll(Arrays.asList(
+                    new SMAIndicator(closePrice, timeFrame),
+                    new EMAIndicator(closePrice, timeFrame),
+                    new MACDIndicator(closePrice, timeFrame, 2 * timeFrame),
+                    new RSIIndicator(closePrice, timeFrame),
+                    new CCIIndicator(series, timeFrame),
+                    new StochasticOscillatorDIndicator(stochasticK),
+                    new WilliamsRIndicator(series, timeFrame),
+                    new DoubleEMAIndicator(closePrice, timeFrame),
+                    new TripleEMAIndicator(closePrice, timeFrame),
+                    new HMAIndicator(closePrice, timeFrame),
+                    new IchimokuSenkouSpanAIndicator(series, timeFrame, 2 * timeFrame),
+                    new IchimokuSenkouSpanBIndicator(series, 4 * timeFrame)));
+        }
+        return indicators.subList(0, 100);
+    }
+
+    /**
+     * @param series a time series
+     * @param parallelism the number of threads (0 for a sequential evaluation)
+     * @return the value of the last indicator at the end of the series
+     */
+    private static Double precompute(TimeSeries series, int parallelism) {
+        // Fresh series (i.e. fresh indicator registry and caches)
+        TimeSeries freshSeries = new ColumnarTimeSeries(series.getName(), series.getTickData());
+        freshSeries.setIndicatorRegistry(new IndicatorRegistry());
+        List<Indicator<Decimal>> indicators = buildIndicators(freshSeries);
+        int endIndex = freshSeries.getEndIndex();
+        if (parallelism == 0) {
+            for (Indicator<Decimal> indicator : indicators) {
+                ((CachedIndicator<Decimal>) indicator).warmUp(endIndex);
+            }
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                new ParallelWarmUpExecutor(pool).warmUp(endIndex, indicators);
+            } finally {
+                pool.shutdown();
+            }
+        }
+        return indicators.get(indicators.size() - 1).getValue(endIndex).toDouble();
+    }
+
+    public static void main(String[] args) {
+        int tickCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TICK_COUNT;
+        int parallelism = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        TimeSeries series = new ColumnarTimeSeries("random_walk",
+                BenchmarkUtils.randomWalkTicks(tickCount, Decimal.Backend.DOUBLE));
+
+        System.out.printf("100 indicators on a %d-tick series%n", tickCount);
+        double sequential = BenchmarkUtils.averageMillis(1, 3, () -> precompute(series, 0));
+        double parallel = BenchmarkUtils.averageMillis(1, 3, () -> precompute(series, parallelism));
+        System.out.printf("  sequential %10.1f ms%n", sequential);
+        System.out.printf("  %2d threads %10.1f ms (speedup %.1f)%n", parallelism, parallel, sequential / parallel);
+    }
+}
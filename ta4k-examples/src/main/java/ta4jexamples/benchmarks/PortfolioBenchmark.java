@@ -0,0 +1,120 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.benchmarks;
+
+import eu.verdelhan.ta4j.BaseStrategy;
+import eu.verdelhan.ta4j.ColumnarTimeSeries;
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.TimeSeriesManager;
+import eu.verdelhan.ta4j.indicators.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.portfolio.PortfolioManager;
+import eu.verdelhan.ta4j.portfolio.PortfolioTradingRecord;
+import eu.verdelhan.ta4j.trading.rules.CrossedDownIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.CrossedUpIndicatorRule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmark of the {@link PortfolioManager portfolio manager}.
+ * <p>
+ * An SMA crossover strategy is run on 1,000 symbols of 2,000 ticks: with a hand-written loop (one
+ * {@link TimeSeriesManager} run per symbol), with the portfolio manager without position limit (symbols run by shards
+ * in parallel) and with a limit of 20 open positions (symbols merged in timestamp order). The number of symbols, the
+ * number of ticks and the parallelism may be given as arguments.
+ */
+public class PortfolioBenchmark {
+
+    private static final int DEFAULT_SYMBOL_COUNT = 1_000;
+
+    private static final int DEFAULT_TICK_COUNT = 2_000;
+
+    private static final int MAXIMUM_OPEN_POSITIONS = 20;
+
+    /**
+     * @param series a time series
+     * @return an SMA crossover strategy (new indicators)
+     */
+    private static Strategy buildStrategy(TimeSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator shortSma = new SMAIndicator(closePrice, 10);
+        SMAIndicator longSma = new SMAIndicator(closePrice, 50);
+        return new BaseStrategy(new CrossedUpIndicatorRule(shortSma, longSma),
+                new CrossedDownIndicatorRule(shortSma, longSma));
+    }
+
+    /**
+     * Hand-written loop: one run per symbol.
+     * @return the number of trades
+     */
+    private static Integer handWrittenLoop(List<TimeSeries> symbols) {
+        int tradeCount = 0;
+        for (TimeSeries series : symbols) {
+            tradeCount += new TimeSeriesManager(series).run(buildStrategy(series)).getTradeCount();
+        }
+        return tradeCount;
+    }
+
+    /**
+     * Portfolio run.
+     * @return the trading records of the portfolio
+     */
+    private static PortfolioTradingRecord portfolioRun(List<TimeSeries> symbols, int maximumOpenPositions,
+            ForkJoinPool pool) {
+        PortfolioManager portfolio = new PortfolioManager();
+        if (maximumOpenPositions != Integer.MAX_VALUE) {
+            portfolio.setMaximumOpenPositions(maximumOpenPositions);
+        }
+        for (TimeSeries series : symbols) {
+            portfolio.addSymbol(series.getName(), series, buildStrategy(series));
+        }
+        return portfolio.run(pool);
+    }
+
+    public static void main(String[] args) {
+        int symbolCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SYMBOL_COUNT;
+        int tickCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TICK_COUNT;
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        List<TimeSeries> symbols = new ArrayList<>(symbolCount);
+        for (int i = 0; i < symbolCount; i++) {
+            symbols.add(new ColumnarTimeSeries("S" + i, BenchmarkUtils.randomWalkTicks(tickCount, Decimal.Backend.DOUBLE, i)));
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        System.out.printf("SMA crossover on %d symbols of %d ticks%n", symbolCount, tickCount);
+        PortfolioTradingRecord limited = portfolioRun(symbols, MAXIMUM_OPEN_POSITIONS, pool);
+        System.out.printf("  trades: %d (hand-written loop), %d (portfolio), %d (portfolio, %d positions max, %d entries rejected)%n",
+                handWrittenLoop(symbols), portfolioRun(symbols, Integer.MAX_VALUE, pool).getTradeCount(),
+                limited.getTradeCount(), MAXIMUM_OPEN_POSITIONS, limited.getRejectedEntryCount());
+        double handWritten = BenchmarkUtils.averageMillis(1, 3, () -> handWrittenLoop(symbols));
+        double portfolio = BenchmarkUtils.averageMillis(1, 3, () -> portfolioRun(symbols, Integer.MAX_VALUE, pool));
+        double portfolioLimited = BenchmarkUtils.averageMillis(1, 3, () -> portfolioRun(symbols, MAXIMUM_OPEN_POSITIONS, pool));
+        System.out.printf("  hand-written loop                 %10.1f ms%n", handWritten);
+        System.out.printf("  portfolio (%2d thr.)               %10.1f ms%n", parallelism, portfolio);
+        System.out.printf("  portfolio (%2d thr., %d positions) %10.1f ms%n", parallelism, MAXIMUM_OPEN_POSITIONS, portfolioLimited);
+        pool.shutdown();
+    }
+}
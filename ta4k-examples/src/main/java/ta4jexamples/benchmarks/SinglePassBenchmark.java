@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.benchmarks;
+
+import eu.verdelhan.ta4j.BaseStrategy;
+import eu.verdelhan.ta4j.ColumnarTimeSeries;
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.TimeSeriesManager;
+import eu.verdelhan.ta4j.TradingRecord;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
+import eu.verdelhan.ta4j.indicators.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.trading.rules.CrossedDownIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.CrossedUpIndicatorRule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark of the single-pass run of several strategies (see {@link TimeSeriesManager#run(List)}).
+ * <p>
+ * 200 SMA crossover strategies, sharing their moving averages, are run on a 200k-tick series: one run per strategy
+ * and all the strategies in a single pass. The indicators are computed beforehand, so that only the runs are
+ * measured. The number of ticks may be given as argument.
+ */
+public class SinglePassBenchmark {
+
+    private static final int DEFAULT_TICK_COUNT = 200_000;
+
+    /**
+     * @param series the time series
+     * @return 200 SMA crossover strategies (moving averages shared through the registry)
+     */
+    private static List<Strategy> buildStrategies(TimeSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        IndicatorRegistry registry = new IndicatorRegistry();
+        List<Strategy> strategies = new ArrayList<>();
+        for (int shortTimeFrame = 2; shortTimeFrame <= 40; shortTimeFrame += 2) {
+            for (int longTimeFrame = 50; longTimeFrame <= 140; longTimeFrame += 10) {
+                int shortTf = shortTimeFrame;
+                int longTf = longTimeFrame;
+                SMAIndicator shortSma = registry.get(SMAIndicator.class, () -> new SMAIndicator(closePrice, shortTf), closePrice, shortTf);
+                SMAIndicator longSma = registry.get(SMAIndicator.class, () -> new SMAIndicator(closePrice, longTf), closePrice, longTf);
+                strategies.add(new BaseStrategy(new CrossedUpIndicatorRule(shortSma, longSma),
+                        new CrossedDownIndicatorRule(shortSma, longSma)));
+            }
+        }
+        return strategies;
+    }
+
+    private static int countTrades(List<TradingRecord> tradingRecords) {
+        int tradeCount = 0;
+        for (TradingRecord tradingRecord : tradingRecords) {
+            tradeCount += tradingRecord.getTradeCount();
+        }
+        return tradeCount;
+    }
+
+    /**
+     * @return the trading records of one run per strategy
+     */
+    private static List<TradingRecord> runOneByOne(TimeSeriesManager manager, List<Strategy> strategies) {
+        List<TradingRecord> tradingRecords = new ArrayList<>();
+        for (Strategy strategy : strategies) {
+            tradingRecords.add(manager.run(strategy));
+        }
+        return tradingRecords;
+    }
+
+    public static void main(String[] args) {
+        int tickCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TICK_COUNT;
+        TimeSeries series = new ColumnarTimeSeries("random_walk",
+                BenchmarkUtils.randomWalkTicks(tickCount, Decimal.Backend.DOUBLE));
+
+        System.out.printf("200 SMA crossover strategies on a %d-tick series%n", tickCount);
+        // Indicators computed during the runs (fresh series, i.e. fresh indicator registry and caches)
+        Supplier<List<TradingRecord>> coldRunsOneByOne = () -> {
+            TimeSeries freshSeries = new ColumnarTimeSeries(series.getName(), series.getTickData());
+            return runOneByOne(new TimeSeriesManager(freshSeries), buildStrategies(freshSeries));
+        };
+        Supplier<List<TradingRecord>> coldSinglePass = () -> {
+            TimeSeries freshSeries = new ColumnarTimeSeries(series.getName(), series.getTickData());
+            return new TimeSeriesManager(freshSeries).run(buildStrategies(freshSeries));
+        };
+        System.out.printf("  trades: %d (one run per strategy), %d (single pass)%n",
+                countTrades(coldRunsOneByOne.get()), countTrades(coldSinglePass.get()));
+        double coldOneByOne = BenchmarkUtils.averageMillis(1, 3, coldRunsOneByOne);
+        double coldSingle = BenchmarkUtils.averageMillis(1, 3, coldSinglePass);
+
+        // Indicators already computed
+        TimeSeriesManager manager = new TimeSeriesManager(series);
+        List<Strategy> strategies = buildStrategies(series);
+        manager.run(strategies);
+        double warmOneByOne = BenchmarkUtils.averageMillis(2, 5, () -> runOneByOne(manager, strategies));
+        double warmSingle = BenchmarkUtils.averageMillis(2, 5, () -> manager.run(strategies));
+
+        System.out.println("                        indicators computed   indicators already computed");
+        System.out.printf("  one run per strategy   %10.1f ms         %10.1f ms%n", coldOneByOne, warmOneByOne);
+        System.out.printf("  single pass            %10.1f ms         %10.1f ms%n", coldSingle, warmSingle);
+    }
+}
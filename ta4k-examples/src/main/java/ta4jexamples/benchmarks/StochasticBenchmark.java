@@ -0,0 +1,84 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.benchmarks;
+
+import eu.verdelhan.ta4j.ColumnarTimeSeries;
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.StochasticOscillatorDIndicator;
+import eu.verdelhan.ta4j.indicators.StochasticOscillatorKIndicator;
+import eu.verdelhan.ta4j.indicators.StochasticRSIIndicator;
+import java.util.function.Function;
+
+/**
+ * Benchmark of the stochastic indicators on a 1M-tick series.
+ * <p>
+ * Each indicator is built on a fresh series and evaluated on every tick, in order (i.e. the way a backtest reads
+ * it). The number of ticks may be given as first argument.
+ */
+public class StochasticBenchmark {
+
+    private static final int DEFAULT_TICK_COUNT = 1_000_000;
+
+    private static final int TIME_FRAME = 14;
+
+    /**
+     * Evaluates a fresh indicator on all the ticks of a series.
+     * @param series the time series
+     * @param factory the indicator factory
+     * @return the sum of the indicator values
+     */
+    private static Double evaluate(TimeSeries series, Function<TimeSeries, Indicator<Decimal>> factory) {
+        Indicator<Decimal> indicator = factory.apply(series);
+        double sum = 0;
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            sum += indicator.getValue(i).toDouble();
+        }
+        return sum;
+    }
+
+    /**
+     * Measures and prints the per-tick cost of an indicator.
+     * @param name the indicator name
+     * @param series the time series
+     * @param factory the indicator factory
+     */
+    private static void measure(String name, TimeSeries series, Function<TimeSeries, Indicator<Decimal>> factory) {
+        double millis = BenchmarkUtils.averageMillis(2, 3, () -> evaluate(series, factory));
+        System.out.printf("  %-12s %10.1f ms %8.3f us/tick%n", name, millis, millis * 1000 / series.getTickCount());
+    }
+
+    public static void main(String[] args) {
+        int tickCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TICK_COUNT;
+        // Primitive columns: a 1M-tick series of boxed decimals would mostly measure the garbage collector
+        TimeSeries series = new ColumnarTimeSeries("random_walk",
+                BenchmarkUtils.randomWalkTicks(tickCount, Decimal.Backend.DOUBLE));
+
+        System.out.printf("Stochastic indicators (time frame %d) on a %d-tick series%n", TIME_FRAME, tickCount);
+        measure("%K", series, s -> new StochasticOscillatorKIndicator(s, TIME_FRAME));
+        measure("%D", series, s -> new StochasticOscillatorDIndicator(
+                new StochasticOscillatorKIndicator(s, TIME_FRAME)));
+        measure("StochRSI", series, s -> new StochasticRSIIndicator(s, TIME_FRAME));
+    }
+}
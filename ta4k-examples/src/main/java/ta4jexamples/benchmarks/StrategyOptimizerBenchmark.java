@@ -0,0 +1,135 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.benchmarks;
+
+import eu.verdelhan.ta4j.AnalysisCriterion;
+import eu.verdelhan.ta4j.BaseStrategy;
+import eu.verdelhan.ta4j.ColumnarTimeSeries;
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.TimeSeriesManager;
+import eu.verdelhan.ta4j.analysis.criteria.TotalProfitCriterion;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
+import eu.verdelhan.ta4j.indicators.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.optimization.OptimizationResult;
+import eu.verdelhan.ta4j.optimization.Parameter;
+import eu.verdelhan.ta4j.optimization.StrategyOptimizer;
+import eu.verdelhan.ta4j.trading.rules.CrossedDownIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.CrossedUpIndicatorRule;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmark of the {@link StrategyOptimizer strategy optimizer}.
+ * <p>
+ * The short/long time frames of an SMA crossover strategy are swept on a 100k-tick series: with hand-built
+ * strategies (new indicators for each combination, one run after the other) and with the optimizer (indicators
+ * shared through the registry, strategies run in parallel). The number of ticks and the parallelism may be given as
+ * arguments.
+ */
+public class StrategyOptimizerBenchmark {
+
+    private static final int DEFAULT_TICK_COUNT = 100_000;
+
+    private static final Parameter SHORT_TIME_FRAME = Parameter.range("short", 2, 40, 2);
+
+    private static final Parameter LONG_TIME_FRAME = Parameter.range("long", 10, 200, 10);
+
+    /**
+     * @param shortSma the short moving average
+     * @param longSma the long moving average
+     * @return an SMA crossover strategy
+     */
+    private static Strategy buildStrategy(SMAIndicator shortSma, SMAIndicator longSma) {
+        return new BaseStrategy(new CrossedUpIndicatorRule(shortSma, longSma),
+                new CrossedDownIndicatorRule(shortSma, longSma));
+    }
+
+    /**
+     * Hand-built sweep: new indicators for each combination, sequential runs.
+     * @return the best criterion value
+     */
+    private static Double handBuiltSweep(TimeSeries series, AnalysisCriterion criterion) {
+        TimeSeriesManager manager = new TimeSeriesManager(series);
+        double best = Double.NaN;
+        for (int i = 0; i < SHORT_TIME_FRAME.getValueCount(); i++) {
+            for (int j = 0; j < LONG_TIME_FRAME.getValueCount(); j++) {
+                int shortTimeFrame = SHORT_TIME_FRAME.getValue(i);
+                int longTimeFrame = LONG_TIME_FRAME.getValue(j);
+                if (shortTimeFrame < longTimeFrame) {
+                    ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+                    Strategy strategy = buildStrategy(new SMAIndicator(closePrice, shortTimeFrame),
+                            new SMAIndicator(closePrice, longTimeFrame));
+                    double value = criterion.calculate(series, manager.run(strategy));
+                    if (Double.isNaN(best) || criterion.betterThan(value, best)) {
+                        best = value;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Optimizer sweep: shared indicators, parallel runs.
+     * @return the best criterion value
+     */
+    private static Double optimizerSweep(TimeSeries series, AnalysisCriterion criterion, ForkJoinPool pool) {
+        // Fresh series (i.e. fresh caches)
+        TimeSeries freshSeries = new ColumnarTimeSeries(series.getName(), series.getTickData());
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(freshSeries);
+        StrategyOptimizer optimizer = new StrategyOptimizer(freshSeries, criterion, parameters -> {
+            // Registry installed on the series by the optimizer
+            IndicatorRegistry registry = IndicatorRegistry.of(freshSeries);
+            int shortTimeFrame = parameters.get("short");
+            int longTimeFrame = parameters.get("long");
+            return buildStrategy(
+                    registry.get(SMAIndicator.class, () -> new SMAIndicator(closePrice, shortTimeFrame), closePrice, shortTimeFrame),
+                    registry.get(SMAIndicator.class, () -> new SMAIndicator(closePrice, longTimeFrame), closePrice, longTimeFrame));
+        }, SHORT_TIME_FRAME, LONG_TIME_FRAME);
+        optimizer.setFilter(parameters -> parameters.get("short") < parameters.get("long"));
+        List<OptimizationResult> results = optimizer.gridSearch(pool);
+        return results.get(0).getCriterionValue();
+    }
+
+    public static void main(String[] args) {
+        int tickCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TICK_COUNT;
+        int parallelism = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        TimeSeries series = new ColumnarTimeSeries("random_walk",
+                BenchmarkUtils.randomWalkTicks(tickCount, Decimal.Backend.DOUBLE));
+        AnalysisCriterion criterion = new TotalProfitCriterion();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        System.out.printf("SMA crossover sweep (%s, %s) on a %d-tick series%n", SHORT_TIME_FRAME, LONG_TIME_FRAME,
+                tickCount);
+        System.out.printf("  best: %f (hand-built), %f (optimizer)%n", handBuiltSweep(series, criterion),
+                optimizerSweep(series, criterion, pool));
+        double handBuilt = BenchmarkUtils.averageMillis(0, 1, () -> handBuiltSweep(series, criterion));
+        double optimizer = BenchmarkUtils.averageMillis(0, 1, () -> optimizerSweep(series, criterion, pool));
+        System.out.printf("  hand-built          %10.1f ms%n", handBuilt);
+        System.out.printf("  optimizer (%2d thr.) %10.1f ms%n", parallelism, optimizer);
+        pool.shutdown();
+    }
+}
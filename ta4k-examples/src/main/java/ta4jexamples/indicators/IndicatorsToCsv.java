@@ -22,9 +22,12 @@
  */
 package ta4jexamples.indicators;
 
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.helpers.AverageTrueRangeIndicator;
 import eu.verdelhan.ta4j.indicators.statistics.StandardDeviationIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 import eu.verdelhan.ta4j.indicators.PPOIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.PriceVariationIndicator;
@@ -37,6 +40,8 @@ import eu.verdelhan.ta4j.indicators.WilliamsRIndicator;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import ta4jexamples.loaders.CsvTradesLoader;
@@ -89,22 +94,20 @@ public class IndicatorsToCsv {
         /**
          * Adding indicators values
          */
+        List<Indicator<Decimal>> indicators = Arrays.asList(closePrice, typicalPrice, priceVariation,
+                shortSma, longSma, shortEma, longEma, ppo, roc, rsi, williamsR, atr, sd);
         final int nbTicks = series.getTickCount();
+        // Bulk access: each indicator is computed in one sequential sweep
+        double[][] columns = new double[indicators.size()][nbTicks];
+        for (int c = 0; c < columns.length; c++) {
+            DecimalCachedIndicator.getValues(indicators.get(c), 0, nbTicks - 1, columns[c]);
+        }
         for (int i = 0; i < nbTicks; i++) {
-            sb.append(series.getTick(i).getEndTime()).append(',')
-            .append(closePrice.getValue(i)).append(',')
-            .append(typicalPrice.getValue(i)).append(',')
-            .append(priceVariation.getValue(i)).append(',')
-            .append(shortSma.getValue(i)).append(',')
-            .append(longSma.getValue(i)).append(',')
-            .append(shortEma.getValue(i)).append(',')
-            .append(longEma.getValue(i)).append(',')
-            .append(ppo.getValue(i)).append(',')
-            .append(roc.getValue(i)).append(',')
-            .append(rsi.getValue(i)).append(',')
-            .append(williamsR.getValue(i)).append(',')
-            .append(atr.getValue(i)).append(',')
-            .append(sd.getValue(i)).append('\n');
+            sb.append(series.getTick(i).getEndTime());
+            for (double[] column : columns) {
+                sb.append(',').append(column[i]);
+            }
+            sb.append('\n');
         }
 
         /**
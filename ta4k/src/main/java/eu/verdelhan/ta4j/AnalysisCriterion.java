@@ -23,6 +23,7 @@
 package eu.verdelhan.ta4j;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * An analysis criterion.
@@ -71,6 +72,33 @@ public interface AnalysisCriterion {
         return bestStrategy;
     }
 
+    /**
+     * Parallel version of {@link #chooseBest(TimeSeriesManager, List)}.
+     * <p>
+     * The strategies are run concurrently (see {@link TimeSeriesManager#run(List, ForkJoinPool)}). As in the
+     * sequential version, the first strategy wins in case of a tie.
+     * @param manager the time series manager
+     * @param strategies a list of strategies
+     * @param pool the pool running the strategies
+     * @return the best strategy (among the provided ones) according to the criterion
+     */
+    default Strategy chooseBest(TimeSeriesManager manager, List<Strategy> strategies, ForkJoinPool pool) {
+
+        List<TradingRecord> tradingRecords = manager.run(strategies, pool);
+        Strategy bestStrategy = strategies.get(0);
+        double bestCriterionValue = calculate(manager.getTimeSeries(), tradingRecords.get(0));
+
+        for (int i = 1; i < strategies.size(); i++) {
+            double currentCriterionValue = calculate(manager.getTimeSeries(), tradingRecords.get(i));
+
+            if (betterThan(currentCriterionValue, bestCriterionValue)) {
+                bestStrategy = strategies.get(i);
+                bestCriterionValue = currentCriterionValue;
+            }
+        }
+        return bestStrategy;
+    }
+
     /**
      * @param criterionValue1 the first value
      * @param criterionValue2 the second value
@@ -113,7 +113,9 @@ public class BaseStrategy implements Strategy {
      * @param enter true if the strategy should enter, false otherwise
      */
     protected void traceShouldEnter(int index, boolean enter) {
-        log.trace(">>> {}#shouldEnter({}): {}", getClass().getSimpleName(), index, enter);
+        if (log.isTraceEnabled()) {
+            log.trace(">>> {}#shouldEnter({}): {}", getClass().getSimpleName(), index, enter);
+        }
     }
 
     /**
@@ -122,6 +124,8 @@ public class BaseStrategy implements Strategy {
      * @param exit true if the strategy should exit, false otherwise
      */
     protected void traceShouldExit(int index, boolean exit) {
-        log.trace(">>> {}#shouldExit({}): {}", getClass().getSimpleName(), index, exit);
+        if (log.isTraceEnabled()) {
+            log.trace(">>> {}#shouldExit({}): {}", getClass().getSimpleName(), index, exit);
+        }
     }
 }
@@ -22,6 +22,7 @@
  */
 package eu.verdelhan.ta4j;
 
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import java.time.ZonedDateTime;
@@ -31,6 +32,8 @@ import org.slf4j.LoggerFactory;
 /**
  * Base implementation of a {@link TimeSeries}.
  * <p>
+ * Once a maximum tick count has been set and a tick is added, the ticks are kept in a circular buffer:
+ * adding a tick and removing the oldest one are then O(1).
  */
 public class BaseTimeSeries implements TimeSeries {
 
@@ -45,14 +48,16 @@ public class BaseTimeSeries implements TimeSeries {
     private int seriesBeginIndex = -1;
     /** End index of the time series */
     private int seriesEndIndex = -1;
-    /** List of ticks */
-    private final List<Tick> ticks;
+    /** List of ticks (a circular one once the series is moving, i.e. has a maximum tick count) */
+    private List<Tick> ticks;
     /** Maximum number of ticks for the time series */
     private int maximumTickCount = Integer.MAX_VALUE;
     /** Number of removed ticks */
     private int removedTicksCount = 0;
     /** True if the current series is constrained (i.e. its indexes cannot change), false otherwise */
     private boolean constrained = false;
+    /** Registry sharing the indicators of the series (null if not shared) */
+    private transient IndicatorRegistry indicatorRegistry;
 
     /**
      * Constructor of an unnamed series.
@@ -192,7 +197,13 @@ public class BaseTimeSeries implements TimeSeries {
             throw new IllegalArgumentException("Maximum tick count must be strictly positive");
         }
         this.maximumTickCount = maximumTickCount;
+        // Trimming first so that the removed ticks are counted
         removeExceedingTicks();
+        if (ticks instanceof CircularTickList
+                && ((CircularTickList) ticks).getMaximumCapacity() != maximumTickCount + 1) {
+            // Resizing the circular buffer
+            ticks = new CircularTickList(maximumTickCount + 1, ticks);
+        }
     }
 
     @Override
@@ -205,6 +216,16 @@ public class BaseTimeSeries implements TimeSeries {
         return removedTicksCount;
     }
 
+    @Override
+    public IndicatorRegistry getIndicatorRegistry() {
+        return indicatorRegistry;
+    }
+
+    @Override
+    public void setIndicatorRegistry(IndicatorRegistry indicatorRegistry) {
+        this.indicatorRegistry = indicatorRegistry;
+    }
+
     @Override
     public void addTick(Tick tick) {
         if (tick == null) {
@@ -218,6 +239,11 @@ public class BaseTimeSeries implements TimeSeries {
             }
         }
 
+        if (maximumTickCount != Integer.MAX_VALUE && !(ticks instanceof CircularTickList)) {
+            // The series is moving: switching to a circular tick list
+            // (one slot more than the maximum tick count, for the tick added before the removal of the first one)
+            ticks = new CircularTickList(maximumTickCount + 1, ticks);
+        }
         ticks.add(tick);
         if (seriesBeginIndex == -1) {
             // Begin index set to 0 only if if wasn't initialized
@@ -235,8 +261,10 @@ public class BaseTimeSeries implements TimeSeries {
         if (tickCount > maximumTickCount) {
             // Removing old ticks
             int nbTicksToRemove = tickCount - maximumTickCount;
-            for (int i = 0; i < nbTicksToRemove; i++) {
-                ticks.remove(0);
+            if (ticks instanceof CircularTickList) {
+                ((CircularTickList) ticks).removeFirst(nbTicksToRemove);
+            } else {
+                ticks.subList(0, nbTicksToRemove).clear();
             }
             // Updating removed ticks count
             removedTicksCount += nbTicksToRemove;
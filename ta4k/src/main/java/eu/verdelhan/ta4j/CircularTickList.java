@@ -0,0 +1,196 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Circular list of {@link Tick ticks}, bounded to a maximum capacity.
+ * <p>
+ * Tick storage of moving time series (i.e. with a maximum tick count).
+ * Appending a tick and removing the first ones are O(1) and, once the buffer has reached its maximum capacity,
+ * allocation-free.<br>
+ * Only these operations are supported: ticks cannot be inserted or removed in the middle of the list.
+ */
+final class CircularTickList extends AbstractList<Tick> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = -2493219526812394175L;
+
+    /** Initial capacity of the buffer */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Maximum capacity of the buffer */
+    private final int maximumCapacity;
+
+    /** The buffer */
+    private Tick[] elements;
+
+    /** Position of the first tick in the buffer */
+    private int head = 0;
+
+    /** Number of ticks in the list */
+    private int size = 0;
+
+    /**
+     * Constructor.
+     * @param maximumCapacity the maximum number of ticks in the list
+     * @param ticks the initial ticks of the list (only the last maximumCapacity ones are kept)
+     */
+    CircularTickList(int maximumCapacity, Collection<Tick> ticks) {
+        if (maximumCapacity <= 0) {
+            throw new IllegalArgumentException("Maximum capacity must be strictly positive");
+        }
+        this.maximumCapacity = maximumCapacity;
+        int tickCount = Math.min(ticks.size(), maximumCapacity);
+        elements = new Tick[Math.min(maximumCapacity, Math.max(INITIAL_CAPACITY, tickCount))];
+        int nbTicksToSkip = ticks.size() - tickCount;
+        for (Tick tick : ticks) {
+            if (nbTicksToSkip > 0) {
+                nbTicksToSkip--;
+            } else {
+                elements[size++] = tick;
+            }
+        }
+    }
+
+    /**
+     * @return the maximum number of ticks in the list
+     */
+    int getMaximumCapacity() {
+        return maximumCapacity;
+    }
+
+    @Override
+    public Tick get(int index) {
+        checkIndex(index);
+        return elements[position(index)];
+    }
+
+    @Override
+    public Tick set(int index, Tick tick) {
+        checkIndex(index);
+        int position = position(index);
+        Tick previous = elements[position];
+        elements[position] = tick;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only appending is supported (i.e. index must be equal to the size of the list).
+     */
+    @Override
+    public void add(int index, Tick tick) {
+        if (index != size) {
+            throw new UnsupportedOperationException("Ticks can only be appended to a circular tick list");
+        }
+        if (size == elements.length) {
+            grow();
+        }
+        elements[position(size)] = tick;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the first tick can be removed.
+     */
+    @Override
+    public Tick remove(int index) {
+        if (index != 0) {
+            throw new UnsupportedOperationException("Only the first tick can be removed from a circular tick list");
+        }
+        checkIndex(index);
+        Tick first = elements[head];
+        removeFirst(1);
+        return first;
+    }
+
+    /**
+     * Removes the first ticks of the list.
+     * @param count the number of ticks to remove
+     */
+    void removeFirst(int count) {
+        if (count < 0 || count > size) {
+            throw new IndexOutOfBoundsException("Cannot remove " + count + " ticks from a list of " + size + " ticks");
+        }
+        for (int i = 0; i < count; i++) {
+            // Releasing the removed ticks
+            elements[head] = null;
+            head = head + 1 == elements.length ? 0 : head + 1;
+        }
+        size -= count;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, null);
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Grows the buffer (up to its maximum capacity).
+     */
+    private void grow() {
+        if (elements.length == maximumCapacity) {
+            throw new IllegalStateException("Circular tick list is full (" + maximumCapacity + " ticks)");
+        }
+        int newCapacity = (int) Math.min((long) elements.length * 2, maximumCapacity);
+        Tick[] newElements = new Tick[newCapacity];
+        for (int i = 0; i < size; i++) {
+            newElements[i] = elements[position(i)];
+        }
+        elements = newElements;
+        head = 0;
+    }
+
+    /**
+     * @param index an index of the list
+     * @return the position of the element in the buffer
+     */
+    private int position(int index) {
+        int position = head + index;
+        return position >= elements.length ? position - elements.length : position;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+}
@@ -0,0 +1,506 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.AbstractList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Column-oriented implementation of a {@link TimeSeries}.
+ * <p>
+ * Tick data are stored in parallel primitive arrays (one per tick field) instead of a list of {@link Tick} objects.
+ * It takes a small fraction of the heap of a {@link BaseTimeSeries} and walking the series reads contiguous memory.
+ * <p>
+ * {@link #getTick(int)} returns a lightweight view over the columns. Its values are double-backed
+ * {@link Decimal decimals} (see {@link Decimal.Backend#DOUBLE}) and missing prices are returned as {@link Decimal#NaN}.
+ * Times are stored as epoch milliseconds and returned in the time zone of the first tick added to the series.
+ */
+public class ColumnarTimeSeries implements TimeSeries {
+
+    private static final long serialVersionUID = 5283743281935614571L;
+    /** Name for unnamed series */
+    private static final String UNNAMED_SERIES_NAME = "unamed_series";
+    /** Initial capacity of the columns */
+    private static final int DEFAULT_CAPACITY = 16;
+    /** The logger */
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    /** Name of the series */
+    private final String name;
+    /** Time zone of the returned times */
+    private ZoneId zone = ZoneOffset.UTC;
+    /** Begin index of the time series */
+    private int seriesBeginIndex = -1;
+    /** End index of the time series */
+    private int seriesEndIndex = -1;
+    /** Maximum number of ticks for the time series */
+    private int maximumTickCount = Integer.MAX_VALUE;
+    /** Number of removed ticks */
+    private int removedTicksCount = 0;
+    /** Position of the first retained tick in the columns */
+    private int offset = 0;
+    /** Number of retained ticks */
+    private int size = 0;
+    /** Registry sharing the indicators of the series (null if not shared) */
+    private transient IndicatorRegistry indicatorRegistry;
+
+    /** Columns */
+    private long[] beginTimes;
+    private long[] endTimes;
+    private double[] openPrices;
+    private double[] maxPrices;
+    private double[] minPrices;
+    private double[] closePrices;
+    private double[] volumes;
+    private double[] amounts;
+    private int[] trades;
+
+    /**
+     * Constructor of an unnamed series.
+     */
+    public ColumnarTimeSeries() {
+        this(UNNAMED_SERIES_NAME);
+    }
+
+    /**
+     * Constructor.
+     * @param name the name of the series
+     */
+    public ColumnarTimeSeries(String name) {
+        this(name, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     * @param name the name of the series
+     * @param initialCapacity the number of ticks the series can hold before growing its columns
+     */
+    public ColumnarTimeSeries(String name, int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be strictly positive");
+        }
+        this.name = name;
+        allocateColumns(initialCapacity);
+    }
+
+    /**
+     * Constructor.
+     * <p>
+     * The data of the provided ticks are copied into the columns of the series.
+     * @param name the name of the series
+     * @param ticks the list of ticks of the series
+     */
+    public ColumnarTimeSeries(String name, List<Tick> ticks) {
+        this(name, Math.max(DEFAULT_CAPACITY, ticks.size()));
+        for (Tick tick : ticks) {
+            addTick(tick);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Tick getTick(int i) {
+        int innerIndex = i - removedTicksCount;
+        if (innerIndex < 0) {
+            if (i < 0) {
+                // Cannot return the i-th tick if i < 0
+                throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, i));
+            }
+            log.trace("Time series `{}` ({} ticks): tick {} already removed, use {}-th instead", name, size, i, removedTicksCount);
+            if (size == 0) {
+                throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, removedTicksCount));
+            }
+            return new ColumnarTick(removedTicksCount);
+        } else if (innerIndex >= size) {
+            // Cannot return the n-th tick if n >= size
+            throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, i));
+        }
+        return new ColumnarTick(i);
+    }
+
+    @Override
+    public int getTickCount() {
+        if (seriesEndIndex < 0) {
+            return 0;
+        }
+        final int startIndex = Math.max(removedTicksCount, seriesBeginIndex);
+        return seriesEndIndex - startIndex + 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned list is a read-only view over the columns of the series.
+     */
+    @Override
+    public List<Tick> getTickData() {
+        return new AbstractList<Tick>() {
+            @Override
+            public Tick get(int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(ColumnarTimeSeries.this, index));
+                }
+                return new ColumnarTick(removedTicksCount + index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public int getBeginIndex() {
+        return seriesBeginIndex;
+    }
+
+    @Override
+    public int getEndIndex() {
+        return seriesEndIndex;
+    }
+
+    @Override
+    public void setMaximumTickCount(int maximumTickCount) {
+        if (maximumTickCount <= 0) {
+            throw new IllegalArgumentException("Maximum tick count must be strictly positive");
+        }
+        this.maximumTickCount = maximumTickCount;
+        removeExceedingTicks();
+    }
+
+    @Override
+    public int getMaximumTickCount() {
+        return maximumTickCount;
+    }
+
+    @Override
+    public int getRemovedTicksCount() {
+        return removedTicksCount;
+    }
+
+    /**
+     * @return {@link Decimal.Backend#DOUBLE} (the prices are stored as {@code double}s)
+     */
+    @Override
+    public Decimal.Backend getBackend() {
+        return Decimal.Backend.DOUBLE;
+    }
+
+    @Override
+    public IndicatorRegistry getIndicatorRegistry() {
+        return indicatorRegistry;
+    }
+
+    @Override
+    public void setIndicatorRegistry(IndicatorRegistry indicatorRegistry) {
+        this.indicatorRegistry = indicatorRegistry;
+    }
+
+    @Override
+    public void addTick(Tick tick) {
+        if (tick == null) {
+            throw new IllegalArgumentException("Cannot add null tick");
+        }
+        if (size == 0) {
+            zone = tick.getEndTime().getZone();
+        }
+        addTick(tick.getBeginTime().toInstant().toEpochMilli(), tick.getEndTime().toInstant().toEpochMilli(),
+                toDouble(tick.getOpenPrice()), toDouble(tick.getMaxPrice()), toDouble(tick.getMinPrice()),
+                toDouble(tick.getClosePrice()), toDouble(tick.getVolume()), toDouble(tick.getAmount()), tick.getTrades());
+    }
+
+    /**
+     * Adds a tick at the end of the series, without building any {@link Tick} object.
+     * @param timePeriod the time period of the tick
+     * @param endTime the end time of the tick
+     * @param openPrice the open price
+     * @param highPrice the high price
+     * @param lowPrice the low price
+     * @param closePrice the close price
+     * @param volume the volume
+     * @see TimeSeries#addTick(Tick)
+     */
+    public void addTick(Duration timePeriod, ZonedDateTime endTime, double openPrice, double highPrice, double lowPrice, double closePrice, double volume) {
+        addTick(timePeriod, endTime, openPrice, highPrice, lowPrice, closePrice, volume, 0, 0);
+    }
+
+    /**
+     * Adds a tick at the end of the series, without building any {@link Tick} object.
+     * @param timePeriod the time period of the tick
+     * @param endTime the end time of the tick
+     * @param openPrice the open price
+     * @param highPrice the high price
+     * @param lowPrice the low price
+     * @param closePrice the close price
+     * @param volume the volume
+     * @param amount the traded amount
+     * @param tradeCount the number of trades
+     * @see TimeSeries#addTick(Tick)
+     */
+    public void addTick(Duration timePeriod, ZonedDateTime endTime, double openPrice, double highPrice, double lowPrice, double closePrice, double volume, double amount, int tradeCount) {
+        if (timePeriod == null) {
+            throw new IllegalArgumentException("Time period cannot be null");
+        }
+        if (endTime == null) {
+            throw new IllegalArgumentException("End time cannot be null");
+        }
+        if (size == 0) {
+            zone = endTime.getZone();
+        }
+        long endMillis = endTime.toInstant().toEpochMilli();
+        addTick(endMillis - timePeriod.toMillis(), endMillis, openPrice, highPrice, lowPrice, closePrice, volume, amount, tradeCount);
+    }
+
+    private void addTick(long beginMillis, long endMillis, double openPrice, double highPrice, double lowPrice, double closePrice, double volume, double amount, int tradeCount) {
+        if (size > 0 && endMillis <= endTimes[offset + size - 1]) {
+            throw new IllegalArgumentException("Cannot add a tick with end time <= to series end time");
+        }
+        ensureCapacity();
+        int position = offset + size;
+        beginTimes[position] = beginMillis;
+        endTimes[position] = endMillis;
+        openPrices[position] = openPrice;
+        maxPrices[position] = highPrice;
+        minPrices[position] = lowPrice;
+        closePrices[position] = closePrice;
+        volumes[position] = volume;
+        amounts[position] = amount;
+        trades[position] = tradeCount;
+        size++;
+
+        if (seriesBeginIndex == -1) {
+            // Begin index set to 0 only if if wasn't initialized
+            seriesBeginIndex = 0;
+        }
+        seriesEndIndex++;
+        removeExceedingTicks();
+    }
+
+    /**
+     * Removes the N first ticks which exceed the maximum tick count.
+     * <p>
+     * Ticks are only dropped from the retained window; the columns are compacted when they are full.
+     */
+    private void removeExceedingTicks() {
+        if (size > maximumTickCount) {
+            int nbTicksToRemove = size - maximumTickCount;
+            offset += nbTicksToRemove;
+            size -= nbTicksToRemove;
+            // Updating removed ticks count
+            removedTicksCount += nbTicksToRemove;
+        }
+    }
+
+    /**
+     * Makes room for a new tick at the end of the columns.
+     * <p>
+     * When the columns are full, retained ticks are moved to the beginning of the columns, which are doubled if
+     * more than half full. Each tick is therefore moved an amortized constant number of times.
+     */
+    private void ensureCapacity() {
+        int capacity = closePrices.length;
+        if (offset + size < capacity) {
+            return;
+        }
+        int newCapacity = size < capacity / 2 ? capacity : capacity * 2;
+        beginTimes = compact(beginTimes, newCapacity);
+        endTimes = compact(endTimes, newCapacity);
+        openPrices = compact(openPrices, newCapacity);
+        maxPrices = compact(maxPrices, newCapacity);
+        minPrices = compact(minPrices, newCapacity);
+        closePrices = compact(closePrices, newCapacity);
+        volumes = compact(volumes, newCapacity);
+        amounts = compact(amounts, newCapacity);
+        trades = compact(trades, newCapacity);
+        offset = 0;
+    }
+
+    private long[] compact(long[] column, int capacity) {
+        long[] target = capacity == column.length ? column : new long[capacity];
+        System.arraycopy(column, offset, target, 0, size);
+        return target;
+    }
+
+    private double[] compact(double[] column, int capacity) {
+        double[] target = capacity == column.length ? column : new double[capacity];
+        System.arraycopy(column, offset, target, 0, size);
+        return target;
+    }
+
+    private int[] compact(int[] column, int capacity) {
+        int[] target = capacity == column.length ? column : new int[capacity];
+        System.arraycopy(column, offset, target, 0, size);
+        return target;
+    }
+
+    private void allocateColumns(int capacity) {
+        beginTimes = new long[capacity];
+        endTimes = new long[capacity];
+        openPrices = new double[capacity];
+        maxPrices = new double[capacity];
+        minPrices = new double[capacity];
+        closePrices = new double[capacity];
+        volumes = new double[capacity];
+        amounts = new double[capacity];
+        trades = new int[capacity];
+    }
+
+    /**
+     * @param index a tick index
+     * @return the position of the tick in the columns
+     * @throws IllegalStateException if the tick has been removed from the series
+     */
+    private int position(int index) {
+        int innerIndex = index - removedTicksCount;
+        if (innerIndex < 0) {
+            throw new IllegalStateException("Tick " + index + " has been removed from the series `" + name + "`");
+        }
+        return offset + innerIndex;
+    }
+
+    private static double toDouble(Decimal value) {
+        return value == null ? Double.NaN : value.toDouble();
+    }
+
+    private static Decimal toDecimal(double value) {
+        return Decimal.Backend.DOUBLE.decimalOf(value);
+    }
+
+    /**
+     * @param series a time series
+     * @param index an out of bounds tick index
+     * @return a message for an OutOfBoundsException
+     */
+    private static String buildOutOfBoundsMessage(ColumnarTimeSeries series, int index) {
+        return "Size of series: " + series.size + " ticks, "
+                + series.removedTicksCount + " ticks removed, index = " + index;
+    }
+
+    /**
+     * A {@link Tick tick} view over the columns of the series.
+     * <p>
+     * The view reads (and, through {@link #addTrade(Decimal, Decimal)}, writes) the columns of the series.
+     * It cannot be used anymore once its tick has been removed from the series.
+     */
+    private class ColumnarTick implements Tick {
+
+        private static final long serialVersionUID = -6171591373574296147L;
+
+        /** The index of the tick in the series */
+        private final int index;
+
+        ColumnarTick(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Decimal getOpenPrice() {
+            return toDecimal(openPrices[position(index)]);
+        }
+
+        @Override
+        public Decimal getMinPrice() {
+            return toDecimal(minPrices[position(index)]);
+        }
+
+        @Override
+        public Decimal getMaxPrice() {
+            return toDecimal(maxPrices[position(index)]);
+        }
+
+        @Override
+        public Decimal getClosePrice() {
+            return toDecimal(closePrices[position(index)]);
+        }
+
+        @Override
+        public Decimal getVolume() {
+            return toDecimal(volumes[position(index)]);
+        }
+
+        @Override
+        public int getTrades() {
+            return trades[position(index)];
+        }
+
+        @Override
+        public Decimal getAmount() {
+            return toDecimal(amounts[position(index)]);
+        }
+
+        @Override
+        public Duration getTimePeriod() {
+            int position = position(index);
+            return Duration.ofMillis(endTimes[position] - beginTimes[position]);
+        }
+
+        @Override
+        public ZonedDateTime getBeginTime() {
+            return ZonedDateTime.ofInstant(Instant.ofEpochMilli(beginTimes[position(index)]), zone);
+        }
+
+        @Override
+        public ZonedDateTime getEndTime() {
+            return ZonedDateTime.ofInstant(Instant.ofEpochMilli(endTimes[position(index)]), zone);
+        }
+
+        @Override
+        public void addTrade(Decimal tradeVolume, Decimal tradePrice) {
+            int position = position(index);
+            double price = tradePrice.toDouble();
+            double volume = tradeVolume.toDouble();
+            if (Double.isNaN(openPrices[position])) {
+                openPrices[position] = price;
+            }
+            closePrices[position] = price;
+            if (Double.isNaN(maxPrices[position]) || maxPrices[position] < price) {
+                maxPrices[position] = price;
+            }
+            if (Double.isNaN(minPrices[position]) || minPrices[position] > price) {
+                minPrices[position] = price;
+            }
+            volumes[position] += volume;
+            amounts[position] += volume * price;
+            trades[position]++;
+        }
+
+        @Override
+        public String toString() {
+            int position = position(index);
+            return String.format("{end time: %1s, close price: %2$f, open price: %3$f, min price: %4$f, max price: %5$f, volume: %6$f}",
+                    getEndTime(), closePrices[position], openPrices[position], minPrices[position], maxPrices[position], volumes[position]);
+        }
+    }
+}
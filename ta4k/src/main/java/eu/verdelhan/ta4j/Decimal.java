@@ -26,12 +26,14 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
-import java.util.Objects;
 
 /**
  * Immutable, arbitrary-precision signed decimal numbers designed for technical analysis.
  * <p>
  * A {@code Decimal} consists of a {@code BigDecimal} with arbitrary {@link MathContext} (precision and rounding mode).
+ * <p>
+ * Alternatively, a {@code Decimal} may be backed by a primitive {@code double} (see {@link Backend#DOUBLE}).
+ * Such values trade precision for speed: their arithmetic does not allocate any {@code BigDecimal}.
  *
  * @see BigDecimal
  * @see MathContext
@@ -54,14 +56,70 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
     public static final Decimal HUNDRED = valueOf(100);
     public static final Decimal THOUSAND = valueOf(1000);
 
+    /**
+     * Numeric backend of a {@code Decimal}.
+     * <p>
+     * The result of an operation has the backend of its operands, {@link #DOUBLE} winning over {@link #PRECISE}.
+     * Building the ticks of a time series with a backend is therefore enough to run the indicators, the rules
+     * and the criteria computed over this series with this backend.
+     */
+    public enum Backend {
+
+        /** {@code BigDecimal} arithmetic with the {@link Decimal#MATH_CONTEXT} (default) */
+        PRECISE,
+
+        /** Primitive {@code double} arithmetic; much faster but subject to binary floating-point rounding */
+        DOUBLE;
+
+        /**
+         * @param val the double value
+         * @return a {@code Decimal} of this backend
+         */
+        public Decimal decimalOf(double val) {
+            return this == DOUBLE ? ofDouble(val) : Decimal.valueOf(val);
+        }
+
+        /**
+         * @param val the string representation of the decimal value
+         * @return a {@code Decimal} of this backend
+         */
+        public Decimal decimalOf(String val) {
+            return this == DOUBLE ? ofDouble(Double.parseDouble(val)) : Decimal.valueOf(val);
+        }
+
+        /**
+         * @param val the long value
+         * @return a {@code Decimal} of this backend
+         */
+        public Decimal decimalOf(long val) {
+            return this == DOUBLE ? ofDouble(val) : Decimal.valueOf(val);
+        }
+
+        /**
+         * @param val a decimal value
+         * @return the provided value converted to this backend
+         */
+        public Decimal convert(Decimal val) {
+            if (val == NaN || val.getBackend() == this) {
+                return val;
+            }
+            return this == DOUBLE ? ofDouble(val.toDouble()) : new Decimal(new BigDecimal(val.doubleDelegate, MATH_CONTEXT));
+        }
+    }
+
+    /** The precise value (null for NaN and for double-backed values) */
     private final BigDecimal delegate;
 
+    /** The value of double-backed decimals */
+    private final double doubleDelegate;
+
     /**
      * Constructor.
      * Only used for NaN instance.
      */
     private Decimal() {
         delegate = null;
+        doubleDelegate = Double.NaN;
     }
 
     /**
@@ -70,6 +128,7 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
      */
     private Decimal(String val) {
         delegate = new BigDecimal(val, MATH_CONTEXT);
+        doubleDelegate = 0;
     }
 
     /**
@@ -78,18 +137,43 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
      */
     private Decimal(double val) {
         delegate = new BigDecimal(val, MATH_CONTEXT);
+        doubleDelegate = 0;
     }
 
     private Decimal(int val) {
         delegate = new BigDecimal(val, MATH_CONTEXT);
+        doubleDelegate = 0;
     }
 
     private Decimal(long val) {
         delegate = new BigDecimal(val, MATH_CONTEXT);
+        doubleDelegate = 0;
     }
 
     private Decimal(BigDecimal val) {
         delegate = val;
+        doubleDelegate = 0;
+    }
+
+    /**
+     * Constructor of a double-backed decimal.
+     * @param val the double value
+     * @param backend unused, only here to differ from the precise {@link #Decimal(double)} constructor
+     */
+    private Decimal(double val, Backend backend) {
+        delegate = null;
+        doubleDelegate = val;
+    }
+
+    /**
+     * @param val the double value
+     * @return a double-backed {@code Decimal}, or NaN
+     */
+    private static Decimal ofDouble(double val) {
+        if (Double.isNaN(val)) {
+            return NaN;
+        }
+        return new Decimal(val, Backend.DOUBLE);
     }
 
     /**
@@ -103,6 +187,9 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if ((this == NaN) || (augend == NaN)) {
             return NaN;
         }
+        if (delegate == null || augend.delegate == null) {
+            return ofDouble(toDouble() + augend.toDouble());
+        }
         return new Decimal(delegate.add(augend.delegate, MATH_CONTEXT));
     }
 
@@ -117,6 +204,9 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if ((this == NaN) || (subtrahend == NaN)) {
             return NaN;
         }
+        if (delegate == null || subtrahend.delegate == null) {
+            return ofDouble(toDouble() - subtrahend.toDouble());
+        }
         return new Decimal(delegate.subtract(subtrahend.delegate, MATH_CONTEXT));
     }
 
@@ -131,6 +221,9 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if ((this == NaN) || (multiplicand == NaN)) {
             return NaN;
         }
+        if (delegate == null || multiplicand.delegate == null) {
+            return ofDouble(toDouble() * multiplicand.toDouble());
+        }
         return new Decimal(delegate.multiply(multiplicand.delegate, MATH_CONTEXT));
     }
 
@@ -145,6 +238,9 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if ((this == NaN) || (divisor == NaN) || divisor.isZero()) {
             return NaN;
         }
+        if (delegate == null || divisor.delegate == null) {
+            return ofDouble(toDouble() / divisor.toDouble());
+        }
         return new Decimal(delegate.divide(divisor.delegate, MATH_CONTEXT));
     }
 
@@ -159,6 +255,9 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if ((this == NaN) || (divisor == NaN) || divisor.isZero()) {
             return NaN;
         }
+        if (delegate == null || divisor.delegate == null) {
+            return ofDouble(toDouble() % divisor.toDouble());
+        }
         return new Decimal(delegate.remainder(divisor.delegate, MATH_CONTEXT));
     }
 
@@ -173,6 +272,9 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if (this == NaN) {
             return NaN;
         }
+        if (delegate == null) {
+            return ofDouble(Math.pow(doubleDelegate, n));
+        }
         return new Decimal(delegate.pow(n, MATH_CONTEXT));
     }
     
@@ -186,6 +288,9 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if (this == NaN) {
             return NaN;
         }
+        if (delegate == null) {
+            return ofDouble(StrictMath.log(doubleDelegate));
+        }
         return new Decimal(StrictMath.log(delegate.doubleValue()));
     }
 
@@ -199,6 +304,9 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if (this == NaN) {
             return NaN;
         }
+        if (delegate == null) {
+            return ofDouble(StrictMath.sqrt(doubleDelegate));
+        }
         return new Decimal(StrictMath.sqrt(delegate.doubleValue()));
     }
 
@@ -211,6 +319,9 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if (this == NaN) {
             return NaN;
         }
+        if (delegate == null) {
+            return ofDouble(Math.abs(doubleDelegate));
+        }
         return new Decimal(delegate.abs());
     }
 
@@ -342,6 +453,11 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if ((this == NaN) || (other == NaN)) {
             return 0;
         }
+        if (delegate == null || other.delegate == null) {
+            final double value = toDouble();
+            final double otherValue = other.toDouble();
+            return value < otherValue ? -1 : (value > otherValue ? 1 : 0);
+        }
         return delegate.compareTo(other.delegate);
     }
 
@@ -384,25 +500,45 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if (this == NaN) {
             return Double.NaN;
         }
+        if (delegate == null) {
+            return doubleDelegate;
+        }
         return delegate.doubleValue();
     }
 
+    /**
+     * @return the numeric backend of this {@code Decimal} ({@link Backend#PRECISE} for NaN)
+     */
+    public Backend getBackend() {
+        return (this == NaN || delegate != null) ? Backend.PRECISE : Backend.DOUBLE;
+    }
+
     @Override
     public String toString() {
         if (this == NaN) {
             return "NaN";
         }
+        if (delegate == null) {
+            return Double.toString(doubleDelegate);
+        }
         return delegate.toString();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(delegate);
+        // Consistent with equals(), which compares values regardless of the backend and the scale
+        final double value = toDouble();
+        // -0.0 equals 0.0
+        return Double.hashCode(value == 0 ? 0d : value);
     }
 
     /**
      * {@inheritDoc}
      * Warning: This method returns true if `this` and `obj` are both NaN.
+     * <p>
+     * Values of different {@link Backend backends} are compared as {@code double}s, so this equality is not
+     * transitive across backends: two distinct {@link Backend#PRECISE precise} values may both equal the same
+     * {@link Backend#DOUBLE double-backed} value. Do not mix backends in hash-based collections.
      */
     @Override
     public boolean equals(Object obj) {
@@ -413,11 +549,10 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
             return false;
         }
         final Decimal other = (Decimal) obj;
-        if (this.delegate != other.delegate
-                && (this.delegate == null || (this.delegate.compareTo(other.delegate) != 0))) {
-            return false;
+        if (this == NaN || other == NaN) {
+            return this == other;
         }
-        return true;
+        return compareTo(other) == 0;
     }
 
     public static Decimal valueOf(String val) {
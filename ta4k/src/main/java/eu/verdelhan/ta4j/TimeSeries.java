@@ -22,6 +22,7 @@
  */
 package eu.verdelhan.ta4j;
 
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 import java.io.Serializable;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -83,6 +84,15 @@ public interface TimeSeries extends Serializable {
         return getTickCount() == 0;
     }
 
+    /**
+     * @return the numeric backend of the prices of the series, i.e. the one of the close price of the first tick
+     *         ({@link Decimal.Backend#PRECISE} if the series is empty or if the first tick has no close price)
+     */
+    default Decimal.Backend getBackend() {
+        Decimal closePrice = isEmpty() ? null : getFirstTick().getClosePrice();
+        return closePrice == null ? Decimal.Backend.PRECISE : closePrice.getBackend();
+    }
+
     /**
      * Warning: should be used carefully!
      * <p>
@@ -139,6 +149,26 @@ public interface TimeSeries extends Serializable {
      */
     int getRemovedTicksCount();
 
+    /**
+     * @return the registry sharing the indicators of the series, null if the indicators are not shared (default)
+     */
+    default IndicatorRegistry getIndicatorRegistry() {
+        return null;
+    }
+
+    /**
+     * Enables (or disables) the sharing of the indicators of the series.
+     * <p>
+     * When the series has an {@link IndicatorRegistry indicator registry}, the composite indicators built on the
+     * series get their sub-indicators from it: the sub-indicators with the same type and parameters are computed
+     * (and cached) only once.
+     * <p>
+     * Does nothing by default: the indicators of a series which does not hold a registry are never shared.
+     * @param indicatorRegistry the registry of the series, null to stop sharing the indicators
+     */
+    default void setIndicatorRegistry(IndicatorRegistry indicatorRegistry) {
+    }
+
     /**
      * Adds a tick at the end of the series.
      * <p>
@@ -23,6 +23,14 @@
 package eu.verdelhan.ta4j;
 
 import eu.verdelhan.ta4j.Order.OrderType;
+import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -142,22 +150,153 @@ public class TimeSeriesManager {
      */
     public TradingRecord run(Strategy strategy, OrderType orderType, Decimal amount, int startIndex, int finishIndex) {
 
-        int runBeginIndex = Math.max(startIndex, timeSeries.getBeginIndex());
         int runEndIndex = Math.min(finishIndex, timeSeries.getEndIndex());
+        TradingRecord tradingRecord = runTicks(strategy, orderType, amount, startIndex, runEndIndex);
+        closeOpenTrade(tradingRecord, runEndIndex, strategy, amount);
 
-        log.trace("Running strategy (indexes: {} -> {}): {} (starting with {})", runBeginIndex, runEndIndex, strategy, orderType);
-        TradingRecord tradingRecord = new BaseTradingRecord(orderType);
-        for (int i = runBeginIndex; i <= runEndIndex; i++) {
-            // For each tick between both indexes...       
-            if (strategy.shouldEnter(i, tradingRecord)) {
-                tradingRecord.enter(i, timeSeries.getTick(i).getClosePrice(), amount);
-            } else if (strategy.shouldExit(i, tradingRecord)) {
-                tradingRecord.exit(i, timeSeries.getTick(i).getClosePrice(), amount);
+        return tradingRecord;
+    }
+
+    /**
+     * Runs several strategies over the managed series, in a single pass.
+     * <p>
+     * Opens the trades with {@link OrderType.BUY} orders.
+     * @param strategies the trading strategies
+     * @return the trading records coming from the runs (in the order of the strategies, same as {@link #run(Strategy)})
+     * @see #run(List, OrderType, Decimal, int, int)
+     */
+    public List<TradingRecord> run(List<? extends Strategy> strategies) {
+        return run(strategies, OrderType.BUY, Decimal.NaN, timeSeries.getBeginIndex(), timeSeries.getEndIndex());
+    }
+
+    /**
+     * Runs several strategies over the managed series (from startIndex to finishIndex), in a single pass.
+     * <p>
+     * The series is walked once: at each index, the rules of every strategy are evaluated (against the trading record
+     * of the strategy) before moving to the next index.
+     * @param strategies the trading strategies
+     * @param orderType the {@link OrderType} used to open the trades
+     * @param amount the amount used to open/close the trades
+     * @param startIndex the start index for the runs (included)
+     * @param finishIndex the finish index for the runs (included)
+     * @return the trading records coming from the runs (in the order of the strategies, same as
+     *         {@link #run(Strategy, OrderType, Decimal, int, int)})
+     */
+    public List<TradingRecord> run(List<? extends Strategy> strategies, OrderType orderType, Decimal amount,
+            int startIndex, int finishIndex) {
+        int runEndIndex = Math.min(finishIndex, timeSeries.getEndIndex());
+        List<TradingRecord> tradingRecords = runTicks(strategies, orderType, amount, startIndex, runEndIndex);
+        for (int i = 0; i < tradingRecords.size(); i++) {
+            closeOpenTrade(tradingRecords.get(i), runEndIndex, strategies.get(i), amount);
+        }
+        return tradingRecords;
+    }
+
+    /**
+     * Runs several strategies concurrently over the whole managed series.
+     * <p>
+     * Opens the trades with {@link OrderType.BUY} orders.
+     * @param strategies the trading strategies
+     * @param pool the pool running the strategies
+     * @return the trading records coming from the runs (in the order of the strategies, same as {@link #run(Strategy)})
+     * @see #run(List, OrderType, Decimal, int, int, ForkJoinPool)
+     */
+    public List<TradingRecord> run(List<? extends Strategy> strategies, ForkJoinPool pool) {
+        return run(strategies, OrderType.BUY, Decimal.NaN, timeSeries.getBeginIndex(), timeSeries.getEndIndex(), pool);
+    }
+
+    /**
+     * Runs several strategies concurrently over the managed series (from startIndex to finishIndex).
+     * <p>
+     * The strategies may share indicators: the runs are a
+     * {@link CachedIndicator#concurrently(java.util.function.Supplier) concurrent computation}, during which the caches
+     * of the indicators are locked. The trades left open at the end of the runs are closed afterwards, one strategy
+     * after the other.
+     * The series and the strategies must not be modified during the runs.
+     * @param strategies the trading strategies
+     * @param orderType the {@link OrderType} used to open the trades
+     * @param amount the amount used to open/close the trades
+     * @param startIndex the start index for the runs (included)
+     * @param finishIndex the finish index for the runs (included)
+     * @param pool the pool running the strategies
+     * @return the trading records coming from the runs (in the order of the strategies, same as
+     *         {@link #run(Strategy, OrderType, Decimal, int, int)})
+     */
+    public List<TradingRecord> run(List<? extends Strategy> strategies, OrderType orderType, Decimal amount,
+            int startIndex, int finishIndex, ForkJoinPool pool) {
+        final int runEndIndex = Math.min(finishIndex, timeSeries.getEndIndex());
+
+        List<CompletableFuture<TradingRecord>> runs = new ArrayList<>(strategies.size());
+        try {
+            CachedIndicator.concurrently(() -> {
+                for (Strategy strategy : strategies) {
+                    runs.add(CompletableFuture.supplyAsync(() ->
+                            runTicks(strategy, orderType, amount, startIndex, runEndIndex), pool));
+                }
+                return CompletableFuture.allOf(runs.toArray(new CompletableFuture<?>[runs.size()])).join();
+            });
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
+            throw e;
         }
-        closeOpenTrade(tradingRecord, runEndIndex, strategy, amount);
+        List<TradingRecord> tradingRecords = new ArrayList<>(strategies.size());
+        for (int i = 0; i < runs.size(); i++) {
+            TradingRecord tradingRecord = runs.get(i).join();
+            // May read the ticks (and compute indicator values) after the end of the run
+            closeOpenTrade(tradingRecord, runEndIndex, strategies.get(i), amount);
+            tradingRecords.add(tradingRecord);
+        }
+        return tradingRecords;
+    }
 
-        return tradingRecord;
+    /**
+     * Runs a strategy between two indexes (the last trade may be left open).
+     * @param strategy the trading strategy
+     * @param orderType the {@link OrderType} used to open the trades
+     * @param amount the amount used to open/close the trades
+     * @param startIndex the start index for the run (included)
+     * @param runEndIndex the end index for the run (included, not after the end of the series)
+     * @return the trading record coming from the run
+     */
+    private TradingRecord runTicks(Strategy strategy, OrderType orderType, Decimal amount, int startIndex, int runEndIndex) {
+        return runTicks(Collections.singletonList(strategy), orderType, amount, startIndex, runEndIndex).get(0);
+    }
+
+    /**
+     * Runs several strategies between two indexes, in a single pass (the last trades may be left open).
+     * @param strategies the trading strategies
+     * @param orderType the {@link OrderType} used to open the trades
+     * @param amount the amount used to open/close the trades
+     * @param startIndex the start index for the runs (included)
+     * @param runEndIndex the end index for the runs (included, not after the end of the series)
+     * @return the trading records coming from the runs (in the order of the strategies)
+     */
+    private List<TradingRecord> runTicks(List<? extends Strategy> strategies, OrderType orderType, Decimal amount,
+            int startIndex, int runEndIndex) {
+        int runBeginIndex = Math.max(startIndex, timeSeries.getBeginIndex());
+
+        log.trace("Running strategies (indexes: {} -> {}): {} (starting with {})", runBeginIndex, runEndIndex, strategies, orderType);
+        Strategy[] strategyArray = strategies.toArray(new Strategy[strategies.size()]);
+        TradingRecord[] tradingRecords = new TradingRecord[strategyArray.length];
+        for (int j = 0; j < tradingRecords.length; j++) {
+            tradingRecords[j] = new BaseTradingRecord(orderType);
+        }
+        for (int i = runBeginIndex; i <= runEndIndex; i++) {
+            // For each tick between both indexes...
+            for (int j = 0; j < strategyArray.length; j++) {
+                // ...and each strategy
+                Strategy strategy = strategyArray[j];
+                TradingRecord tradingRecord = tradingRecords[j];
+                if (strategy.shouldEnter(i, tradingRecord)) {
+                    tradingRecord.enter(i, timeSeries.getTick(i).getClosePrice(), amount);
+                } else if (strategy.shouldExit(i, tradingRecord)) {
+                    tradingRecord.exit(i, timeSeries.getTick(i).getClosePrice(), amount);
+                }
+            }
+        }
+        return new ArrayList<>(Arrays.asList(tradingRecords));
     }
 
     private void closeOpenTrade(TradingRecord tradingRecord, int runEndIndex, Strategy strategy, Decimal amount) {
@@ -0,0 +1,109 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.compiled;
+
+import eu.verdelhan.ta4j.Rule;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TradingRecord;
+import eu.verdelhan.ta4j.trading.rules.AbstractRule;
+
+/**
+ * Compiled trading strategy.
+ * <p>
+ * Drop-in replacement of the strategy it has been compiled from (see {@link StrategyCompiler}): the entry and exit
+ * rules read the signals computed by a fused per-tick update loop, up to the requested index.
+ * The unstable period is the one of the source strategy.
+ */
+public class CompiledStrategy implements Strategy {
+
+    private static final int ENTRY = 0;
+
+    private static final int EXIT = 1;
+
+    /** The source strategy */
+    private final Strategy strategy;
+
+    private final FusedProgram program;
+
+    private final Rule entryRule = new SignalRule(ENTRY);
+
+    private final Rule exitRule = new SignalRule(EXIT);
+
+    CompiledStrategy(Strategy strategy, FusedProgram program) {
+        this.strategy = strategy;
+        this.program = program;
+    }
+
+    @Override
+    public Rule getEntryRule() {
+        return entryRule;
+    }
+
+    @Override
+    public Rule getExitRule() {
+        return exitRule;
+    }
+
+    @Override
+    public void setUnstablePeriod(int unstablePeriod) {
+        strategy.setUnstablePeriod(unstablePeriod);
+    }
+
+    @Override
+    public boolean isUnstableAt(int index) {
+        return strategy.isUnstableAt(index);
+    }
+
+    /**
+     * @return the strategy this one has been compiled from
+     */
+    public Strategy getSourceStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return the number of nodes of the update loop (after the merge of the shared indicators/rules)
+     */
+    public int getNodeCount() {
+        return program.getNodeCount();
+    }
+
+    /**
+     * Rule satisfied when a signal of the compiled program is set.
+     */
+    private class SignalRule extends AbstractRule {
+
+        private final int output;
+
+        SignalRule(int output) {
+            this.output = output;
+        }
+
+        @Override
+        public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+            final boolean satisfied = program.getOutput(output, index);
+            traceIsSatisfied(index, satisfied);
+            return satisfied;
+        }
+    }
+}
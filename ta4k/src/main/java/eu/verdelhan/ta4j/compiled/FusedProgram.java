@@ -0,0 +1,411 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.compiled;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Fused per-tick update loop of a compiled indicator/rule graph.
+ * <p>
+ * The nodes are stored in topological order: the value of a node only depends on the values of the previous ones.
+ * Each node keeps the primitive state it needs to compute its value for the next tick (e.g. the window of a moving
+ * average) and the current values of all the nodes are stored in a single {@code double} array (booleans as 1/0).
+ * Only the values of the output nodes are recorded.
+ */
+final class FusedProgram {
+
+    /**
+     * A node of the program.
+     */
+    abstract static class Node {
+
+        /**
+         * Computes the value of the node for a tick.
+         * @param index the tick index
+         * @param values the values of the nodes (already computed for the tick for the inputs of this node)
+         * @return the value of the node
+         */
+        abstract double update(int index, double[] values);
+    }
+
+    private final TimeSeries series;
+
+    private final Node[] nodes;
+
+    private final double[] values;
+
+    private final int[] outputSlots;
+
+    private final BitSet[] outputs;
+
+    /** The first tick index of the program */
+    private final int startIndex;
+
+    /** The last computed tick index */
+    private int lastIndex;
+
+    /**
+     * Constructor.
+     * @param series the time series
+     * @param nodes the nodes, in topological order
+     * @param outputSlots the positions of the (boolean) output nodes
+     */
+    FusedProgram(TimeSeries series, List<Node> nodes, int... outputSlots) {
+        this.series = series;
+        this.nodes = nodes.toArray(new Node[nodes.size()]);
+        this.values = new double[this.nodes.length];
+        this.outputSlots = outputSlots.clone();
+        this.outputs = new BitSet[outputSlots.length];
+        for (int i = 0; i < outputs.length; i++) {
+            outputs[i] = new BitSet();
+        }
+        this.startIndex = series.getRemovedTicksCount();
+        this.lastIndex = startIndex - 1;
+    }
+
+    /**
+     * @param output the output number
+     * @param index the tick index
+     * @return the value of the output for the tick
+     */
+    synchronized boolean getOutput(int output, int index) {
+        if (index > lastIndex) {
+            advanceTo(Math.min(index, series.getEndIndex()));
+        }
+        return outputs[output].get(index);
+    }
+
+    /**
+     * @return the number of nodes
+     */
+    int getNodeCount() {
+        return nodes.length;
+    }
+
+    /**
+     * Runs the update loop up to a tick.
+     * @param endIndex the last tick index to compute
+     */
+    private void advanceTo(int endIndex) {
+        final Node[] nodes = this.nodes;
+        final double[] values = this.values;
+        for (int index = lastIndex + 1; index <= endIndex; index++) {
+            for (int i = 0; i < nodes.length; i++) {
+                values[i] = nodes[i].update(index, values);
+            }
+            for (int i = 0; i < outputSlots.length; i++) {
+                if (values[outputSlots[i]] != 0) {
+                    outputs[i].set(index);
+                }
+            }
+        }
+        lastIndex = Math.max(lastIndex, endIndex);
+    }
+
+    /**
+     * Price of the ticks of the series.
+     */
+    static final class PriceNode extends Node {
+
+        private final TimeSeries series;
+
+        private final Function<Tick, Decimal> price;
+
+        PriceNode(TimeSeries series, Function<Tick, Decimal> price) {
+            this.series = series;
+            this.price = price;
+        }
+
+        @Override
+        double update(int index, double[] values) {
+            return price.apply(series.getTick(index)).toDouble();
+        }
+    }
+
+    /**
+     * Constant value.
+     */
+    static final class ConstantNode extends Node {
+
+        private final double value;
+
+        ConstantNode(double value) {
+            this.value = value;
+        }
+
+        @Override
+        double update(int index, double[] values) {
+            return value;
+        }
+    }
+
+    /**
+     * Simple moving average (see {@link eu.verdelhan.ta4j.indicators.SMAIndicator}).
+     * <p>
+     * As in the indicator, the window and the warm-up are based on the tick index: on a moving series, the program
+     * starts after the removed ticks, whose values are taken as the first value of the input.
+     */
+    static final class SmaNode extends Node {
+
+        private final int input;
+
+        /** The values of the window, by index (index % window.length) */
+        private final double[] window;
+
+        /** The index of the first update, -1 before */
+        private int firstIndex = -1;
+
+        private double sum;
+
+        SmaNode(int input, int timeFrame) {
+            this.input = input;
+            this.window = new double[Math.max(1, timeFrame)];
+        }
+
+        @Override
+        double update(int index, double[] values) {
+            final double value = values[input];
+            if (firstIndex < 0) {
+                // The values of the removed ticks
+                Arrays.fill(window, value);
+                firstIndex = index;
+            }
+            final int position = index % window.length;
+            final int exitingIndex = index - window.length;
+            final double exitingValue = window[position];
+            window[position] = value;
+            if (index == firstIndex || (exitingIndex >= 0 && exitingIndex < firstIndex) || Double.isNaN(sum)) {
+                // Same operation order as the running sum of the indicator: sum of the window
+                sum = 0;
+                for (int i = Math.max(0, exitingIndex + 1); i <= index; i++) {
+                    sum += window[i % window.length];
+                }
+            } else {
+                sum += value;
+                if (exitingIndex >= 0) {
+                    sum -= exitingValue;
+                }
+            }
+            return sum / Math.min(window.length, index + 1);
+        }
+    }
+
+    /**
+     * Exponential moving average (see {@link eu.verdelhan.ta4j.indicators.EMAIndicator}).
+     * <p>
+     * As in the indicator, the warm-up is based on the tick index.
+     */
+    static final class EmaNode extends Node {
+
+        private final int input;
+
+        private final int timeFrame;
+
+        private final double multiplier;
+
+        /** Starting point of the EMA (average of the available values) */
+        private final SmaNode startSma;
+
+        /** True once the EMA has a previous value */
+        private boolean started;
+
+        private double previous;
+
+        EmaNode(int input, int timeFrame) {
+            this.input = input;
+            this.timeFrame = timeFrame;
+            this.multiplier = Decimal.TWO.dividedBy(Decimal.valueOf(timeFrame + 1)).toDouble();
+            this.startSma = new SmaNode(input, timeFrame);
+        }
+
+        @Override
+        double update(int index, double[] values) {
+            final double value = values[input];
+            final double ema;
+            if (index + 1 < timeFrame) {
+                // Starting point
+                ema = startSma.update(index, values);
+            } else if (!started) {
+                // First tick of the series, or previous ticks removed
+                ema = value;
+            } else {
+                ema = (value - previous) * multiplier + previous;
+            }
+            started = true;
+            previous = ema;
+            return ema;
+        }
+    }
+
+    /**
+     * Difference of two values.
+     */
+    static final class DifferenceNode extends Node {
+
+        private final int first;
+
+        private final int second;
+
+        DifferenceNode(int first, int second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        double update(int index, double[] values) {
+            return values[first] - values[second];
+        }
+    }
+
+    /**
+     * First value over (or under) the second one.
+     */
+    static final class CompareNode extends Node {
+
+        private final int first;
+
+        private final int second;
+
+        private final boolean over;
+
+        CompareNode(int first, int second, boolean over) {
+            this.first = first;
+            this.second = second;
+            this.over = over;
+        }
+
+        @Override
+        double update(int index, double[] values) {
+            final double a = values[first];
+            final double b = values[second];
+            return (over ? a > b : a < b) ? 1 : 0;
+        }
+    }
+
+    /**
+     * Cross of two values (see {@link eu.verdelhan.ta4j.indicators.helpers.CrossIndicator}).
+     * <p>
+     * The sign of the previous (up - low) comparison and the last non-zero one replace the backward scan of the
+     * indicator.
+     */
+    static final class CrossNode extends Node {
+
+        private final int up;
+
+        private final int low;
+
+        private int previousSign;
+
+        /** Index of the last tick where up and low were not equal */
+        private int lastUnequalIndex = -1;
+
+        private int lastUnequalSign;
+
+        CrossNode(int up, int low) {
+            this.up = up;
+            this.low = low;
+        }
+
+        @Override
+        double update(int index, double[] values) {
+            final double u = values[up];
+            final double l = values[low];
+            final int sign = u < l ? -1 : (u > l ? 1 : 0);
+            final boolean cross;
+            if (index == 0 || sign >= 0) {
+                cross = false;
+            } else if (previousSign != 0) {
+                cross = previousSign > 0;
+            } else {
+                cross = lastUnequalIndex > 0 && lastUnequalSign > 0;
+            }
+            if (sign != 0) {
+                lastUnequalIndex = index;
+                lastUnequalSign = sign;
+            }
+            previousSign = sign;
+            return cross ? 1 : 0;
+        }
+    }
+
+    /**
+     * Logical operation on two boolean values.
+     */
+    static final class LogicalNode extends Node {
+
+        enum Operator { AND, OR, XOR }
+
+        private final int first;
+
+        private final int second;
+
+        private final Operator operator;
+
+        LogicalNode(int first, int second, Operator operator) {
+            this.first = first;
+            this.second = second;
+            this.operator = operator;
+        }
+
+        @Override
+        double update(int index, double[] values) {
+            final boolean a = values[first] != 0;
+            final boolean b = values[second] != 0;
+            final boolean result;
+            switch (operator) {
+                case AND:
+                    result = a && b;
+                    break;
+                case OR:
+                    result = a || b;
+                    break;
+                default:
+                    result = a ^ b;
+            }
+            return result ? 1 : 0;
+        }
+    }
+
+    /**
+     * Negation of a boolean value.
+     */
+    static final class NotNode extends Node {
+
+        private final int input;
+
+        NotNode(int input) {
+            this.input = input;
+        }
+
+        @Override
+        double update(int index, double[] values) {
+            return values[input] != 0 ? 0 : 1;
+        }
+    }
+}
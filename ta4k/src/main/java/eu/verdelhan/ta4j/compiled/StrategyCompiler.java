@@ -0,0 +1,216 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.compiled;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.Rule;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.compiled.FusedProgram.Node;
+import eu.verdelhan.ta4j.indicators.EMAIndicator;
+import eu.verdelhan.ta4j.indicators.MACDIndicator;
+import eu.verdelhan.ta4j.indicators.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.ConstantIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.CrossIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.DifferenceIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.MaxPriceIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.MinPriceIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.OpenPriceIndicator;
+import eu.verdelhan.ta4j.trading.rules.AndRule;
+import eu.verdelhan.ta4j.trading.rules.BooleanIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.BooleanRule;
+import eu.verdelhan.ta4j.trading.rules.CrossedDownIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.CrossedUpIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.NotRule;
+import eu.verdelhan.ta4j.trading.rules.OrRule;
+import eu.verdelhan.ta4j.trading.rules.OverIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.UnderIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.XorRule;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Strategy compiler.
+ * <p>
+ * Compiles the entry and exit rules of a strategy (and the indicators they are built on) into a single per-tick
+ * update loop over primitive state (see {@link CompiledStrategy}). The graph is sorted in topological order and the
+ * nodes shared by several rules/indicators are computed once. No indicator value is cached: the compiled strategy
+ * only records its entry and exit signals.
+ * <p>
+ * Supported nodes:
+ * <ul>
+ * <li>indicators: close/open/max/min price, constant, {@link SMAIndicator SMA}, {@link EMAIndicator EMA},
+ * {@link MACDIndicator MACD}, {@link DifferenceIndicator difference}, {@link CrossIndicator cross}
+ * <li>rules: over/under indicator, crossed up/down indicator, boolean indicator (on a cross), boolean, and, or,
+ * xor, not
+ * </ul>
+ * The values are computed with {@code double} arithmetic, like the {@link Decimal.Backend#DOUBLE DOUBLE} backend.
+ */
+public class StrategyCompiler {
+
+    private final TimeSeries series;
+
+    /** The nodes, in topological order */
+    private final List<Node> nodes = new ArrayList<>();
+
+    /** The positions of the compiled indicators/rules in the node list */
+    private final Map<Object, Integer> slots = new IdentityHashMap<>();
+
+    private StrategyCompiler(TimeSeries series) {
+        this.series = series;
+    }
+
+    /**
+     * Compiles a strategy.
+     * @param series the time series the strategy is run on
+     * @param strategy the strategy to compile
+     * @return the compiled strategy
+     * @throws IllegalArgumentException if the strategy contains an unsupported rule or indicator, or indicators of
+     *             another time series
+     */
+    public static CompiledStrategy compile(TimeSeries series, Strategy strategy) {
+        StrategyCompiler compiler = new StrategyCompiler(series);
+        int entrySlot = compiler.compileRule(strategy.getEntryRule());
+        int exitSlot = compiler.compileRule(strategy.getExitRule());
+        return new CompiledStrategy(strategy, new FusedProgram(series, compiler.nodes, entrySlot, exitSlot));
+    }
+
+    /**
+     * @param rule a trading rule
+     * @return the position of the node computing the rule
+     */
+    private int compileRule(Rule rule) {
+        Integer slot = slots.get(rule);
+        if (slot != null) {
+            return slot;
+        }
+        final Class<?> type = rule.getClass();
+        final Node node;
+        if (type == OverIndicatorRule.class) {
+            OverIndicatorRule over = (OverIndicatorRule) rule;
+            node = new FusedProgram.CompareNode(compileIndicator(over.getFirst()), compileIndicator(over.getSecond()), true);
+        } else if (type == UnderIndicatorRule.class) {
+            UnderIndicatorRule under = (UnderIndicatorRule) rule;
+            node = new FusedProgram.CompareNode(compileIndicator(under.getFirst()), compileIndicator(under.getSecond()), false);
+        } else if (type == CrossedUpIndicatorRule.class) {
+            return addAlias(rule, compileIndicator(((CrossedUpIndicatorRule) rule).getCross()));
+        } else if (type == CrossedDownIndicatorRule.class) {
+            return addAlias(rule, compileIndicator(((CrossedDownIndicatorRule) rule).getCross()));
+        } else if (type == BooleanIndicatorRule.class) {
+            return addAlias(rule, compileIndicator(((BooleanIndicatorRule) rule).getIndicator()));
+        } else if (type == BooleanRule.class) {
+            node = new FusedProgram.ConstantNode(rule.isSatisfied(0, null) ? 1 : 0);
+        } else if (type == AndRule.class) {
+            AndRule and = (AndRule) rule;
+            node = new FusedProgram.LogicalNode(compileRule(and.getRule1()), compileRule(and.getRule2()),
+                    FusedProgram.LogicalNode.Operator.AND);
+        } else if (type == OrRule.class) {
+            OrRule or = (OrRule) rule;
+            node = new FusedProgram.LogicalNode(compileRule(or.getRule1()), compileRule(or.getRule2()),
+                    FusedProgram.LogicalNode.Operator.OR);
+        } else if (type == XorRule.class) {
+            XorRule xor = (XorRule) rule;
+            node = new FusedProgram.LogicalNode(compileRule(xor.getRule1()), compileRule(xor.getRule2()),
+                    FusedProgram.LogicalNode.Operator.XOR);
+        } else if (type == NotRule.class) {
+            node = new FusedProgram.NotNode(compileRule(((NotRule) rule).getRule()));
+        } else {
+            throw new IllegalArgumentException("Rule not supported by the compiler: " + type.getName());
+        }
+        return add(rule, node);
+    }
+
+    /**
+     * @param indicator an indicator
+     * @return the position of the node computing the indicator
+     */
+    private int compileIndicator(Indicator<?> indicator) {
+        Integer slot = slots.get(indicator);
+        if (slot != null) {
+            return slot;
+        }
+        final Class<?> type = indicator.getClass();
+        final Node node;
+        if (type == ClosePriceIndicator.class) {
+            node = priceNode(indicator, Tick::getClosePrice);
+        } else if (type == OpenPriceIndicator.class) {
+            node = priceNode(indicator, Tick::getOpenPrice);
+        } else if (type == MaxPriceIndicator.class) {
+            node = priceNode(indicator, Tick::getMaxPrice);
+        } else if (type == MinPriceIndicator.class) {
+            node = priceNode(indicator, Tick::getMinPrice);
+        } else if (type == ConstantIndicator.class && indicator.getValue(0) instanceof Decimal) {
+            node = new FusedProgram.ConstantNode(((Decimal) indicator.getValue(0)).toDouble());
+        } else if (type == SMAIndicator.class) {
+            SMAIndicator sma = (SMAIndicator) indicator;
+            node = new FusedProgram.SmaNode(compileIndicator(sma.getIndicator()), sma.getTimeFrame());
+        } else if (type == EMAIndicator.class) {
+            EMAIndicator ema = (EMAIndicator) indicator;
+            node = new FusedProgram.EmaNode(compileIndicator(ema.getIndicator()), ema.getTimeFrame());
+        } else if (type == MACDIndicator.class) {
+            MACDIndicator macd = (MACDIndicator) indicator;
+            node = new FusedProgram.DifferenceNode(compileIndicator(macd.getShortTermEma()),
+                    compileIndicator(macd.getLongTermEma()));
+        } else if (type == DifferenceIndicator.class) {
+            DifferenceIndicator difference = (DifferenceIndicator) indicator;
+            node = new FusedProgram.DifferenceNode(compileIndicator(difference.getFirst()),
+                    compileIndicator(difference.getSecond()));
+        } else if (type == CrossIndicator.class) {
+            CrossIndicator cross = (CrossIndicator) indicator;
+            node = new FusedProgram.CrossNode(compileIndicator(cross.getUp()), compileIndicator(cross.getLow()));
+        } else {
+            throw new IllegalArgumentException("Indicator not supported by the compiler: " + type.getName());
+        }
+        return add(indicator, node);
+    }
+
+    /**
+     * @param indicator a price indicator
+     * @param price the price of a tick
+     * @return the node reading the price in the ticks of the compiled series
+     */
+    private Node priceNode(Indicator<?> indicator, Function<Tick, Decimal> price) {
+        if (indicator.getTimeSeries() != series) {
+            throw new IllegalArgumentException("Indicator built on another time series: " + indicator);
+        }
+        return new FusedProgram.PriceNode(series, price);
+    }
+
+    private int add(Object source, Node node) {
+        final int slot = nodes.size();
+        nodes.add(node);
+        slots.put(source, slot);
+        return slot;
+    }
+
+    private int addAlias(Object source, int slot) {
+        slots.put(source, slot);
+        return slot;
+    }
+}
@@ -40,8 +40,11 @@ public class AccelerationDecelerationIndicator extends CachedIndicator<Decimal>
 
     public AccelerationDecelerationIndicator(TimeSeries series, int timeFrameSma1, int timeFrameSma2) {
         super(series);
-        this.awesome = new AwesomeOscillatorIndicator(new MedianPriceIndicator(series), timeFrameSma1, timeFrameSma2);
-        this.sma5 = new SMAIndicator(awesome, timeFrameSma1);
+        IndicatorRegistry registry = IndicatorRegistry.of(series);
+        MedianPriceIndicator medianPrice = registry.get(MedianPriceIndicator.class, () -> new MedianPriceIndicator(series));
+        AwesomeOscillatorIndicator awesome = new AwesomeOscillatorIndicator(medianPrice, timeFrameSma1, timeFrameSma2);
+        this.awesome = awesome;
+        this.sma5 = registry.get(SMAIndicator.class, () -> new SMAIndicator(awesome, timeFrameSma1), awesome, timeFrameSma1);
     }
     
     public AccelerationDecelerationIndicator(TimeSeries series) {
@@ -25,43 +25,41 @@ package eu.verdelhan.ta4j.indicators;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
-import eu.verdelhan.ta4j.indicators.helpers.LowestValueIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.SlidingWindowExtremum;
 import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
 
 
 /**
  * Aroon down indicator.
  * <p>
+ * The position of the last lowest close price of the time frame is tracked with a
+ * {@link SlidingWindowExtremum sliding window extremum}.
  */
 public class AroonDownIndicator extends CachedIndicator<Decimal> {
 
     private final int timeFrame;
 
-    private final ClosePriceIndicator closePriceIndicator;
-
-    private final LowestValueIndicator lowestClosePriceIndicator;
+    private final SlidingWindowExtremum lowestClosePrice;
 
     public AroonDownIndicator(TimeSeries series, int timeFrame) {
         super(series);
         this.timeFrame = timeFrame;
-        closePriceIndicator = new ClosePriceIndicator(series);
-        lowestClosePriceIndicator = new LowestValueIndicator(closePriceIndicator, timeFrame);
+        ClosePriceIndicator closePrice = IndicatorRegistry.of(series).get(ClosePriceIndicator.class, () -> new ClosePriceIndicator(series));
+        lowestClosePrice = new SlidingWindowExtremum(closePrice, timeFrame, false, true);
     }
 
     @Override
     protected Decimal calculate(int index) {
         int realTimeFrame = Math.min(timeFrame, index + 1);
 
-        // Getting the number of ticks since the lowest close price
-        int endIndex = index - realTimeFrame;
-        int nbTicks = 0;
-        for (int i = index; i > endIndex; i--) {
-            if (closePriceIndicator.getValue(i).isEqual(lowestClosePriceIndicator.getValue(index))) {
-                break;
-            }
-            nbTicks++;
+        // Getting the number of ticks since the lowest close price (not-a-number prices ignored)
+        int extremumIndex = lowestClosePrice.getIndex(index);
+        if (extremumIndex < 0) {
+            // No price in the time frame
+            return Decimal.NaN;
         }
-        
+        int nbTicks = index - extremumIndex;
+
         return Decimal.valueOf(realTimeFrame - nbTicks).dividedBy(Decimal.valueOf(realTimeFrame)).multipliedBy(Decimal.HUNDRED);
     }
 }
@@ -25,42 +25,40 @@ package eu.verdelhan.ta4j.indicators;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
-import eu.verdelhan.ta4j.indicators.helpers.HighestValueIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.SlidingWindowExtremum;
 import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
 
 
 /**
  * Aroon up indicator.
  * <p>
+ * The position of the last highest close price of the time frame is tracked with a
+ * {@link SlidingWindowExtremum sliding window extremum}.
  */
 public class AroonUpIndicator extends CachedIndicator<Decimal> {
 
     private final int timeFrame;
 
-    private final ClosePriceIndicator closePriceIndicator;
-
-    private final HighestValueIndicator highestClosePriceIndicator;
+    private final SlidingWindowExtremum highestClosePrice;
 
     public AroonUpIndicator(TimeSeries series, int timeFrame) {
         super(series);
         this.timeFrame = timeFrame;
-        closePriceIndicator = new ClosePriceIndicator(series);
-        highestClosePriceIndicator = new HighestValueIndicator(closePriceIndicator, timeFrame);
+        ClosePriceIndicator closePrice = IndicatorRegistry.of(series).get(ClosePriceIndicator.class, () -> new ClosePriceIndicator(series));
+        highestClosePrice = new SlidingWindowExtremum(closePrice, timeFrame, true, true);
     }
 
     @Override
     protected Decimal calculate(int index) {
         int realTimeFrame = Math.min(timeFrame, index + 1);
 
-        // Getting the number of ticks since the highest close price
-        int endIndex = index - realTimeFrame;
-        int nbTicks = 0;
-        for (int i = index; i > endIndex; i--) {
-            if (closePriceIndicator.getValue(i).isEqual(highestClosePriceIndicator.getValue(index))) {
-                break;
-            }
-            nbTicks++;
+        // Getting the number of ticks since the highest close price (not-a-number prices ignored)
+        int extremumIndex = highestClosePrice.getIndex(index);
+        if (extremumIndex < 0) {
+            // No price in the time frame
+            return Decimal.NaN;
         }
+        int nbTicks = index - extremumIndex;
 
         return Decimal.valueOf(realTimeFrame - nbTicks).dividedBy(Decimal.valueOf(realTimeFrame)).multipliedBy(Decimal.HUNDRED);
     }
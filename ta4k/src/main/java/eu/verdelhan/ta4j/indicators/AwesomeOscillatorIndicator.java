@@ -40,8 +40,9 @@ public class AwesomeOscillatorIndicator extends CachedIndicator<Decimal> {
 
     public AwesomeOscillatorIndicator(Indicator<Decimal> indicator, int timeFrameSma1, int timeFrameSma2) {
         super(indicator);
-        this.sma5 = new SMAIndicator(indicator, timeFrameSma1);
-        this.sma34 = new SMAIndicator(indicator, timeFrameSma2);
+        IndicatorRegistry registry = IndicatorRegistry.of(indicator.getTimeSeries());
+        this.sma5 = registry.get(SMAIndicator.class, () -> new SMAIndicator(indicator, timeFrameSma1), indicator, timeFrameSma1);
+        this.sma34 = registry.get(SMAIndicator.class, () -> new SMAIndicator(indicator, timeFrameSma2), indicator, timeFrameSma2);
     }
 
     public AwesomeOscillatorIndicator(Indicator<Decimal> indicator) {
@@ -53,9 +53,12 @@ public class CCIIndicator extends CachedIndicator<Decimal> {
      */
     public CCIIndicator(TimeSeries series, int timeFrame) {
         super(series);
-        typicalPriceInd = new TypicalPriceIndicator(series);
-        smaInd = new SMAIndicator(typicalPriceInd, timeFrame);
-        meanDeviationInd = new MeanDeviationIndicator(typicalPriceInd, timeFrame);
+        IndicatorRegistry registry = IndicatorRegistry.of(series);
+        TypicalPriceIndicator typicalPrice = registry.get(TypicalPriceIndicator.class, () -> new TypicalPriceIndicator(series));
+        typicalPriceInd = typicalPrice;
+        smaInd = registry.get(SMAIndicator.class, () -> new SMAIndicator(typicalPrice, timeFrame), typicalPrice, timeFrame);
+        meanDeviationInd = registry.get(MeanDeviationIndicator.class,
+                () -> new MeanDeviationIndicator(typicalPrice, timeFrame), typicalPrice, timeFrame);
         this.timeFrame = timeFrame;
     }
 
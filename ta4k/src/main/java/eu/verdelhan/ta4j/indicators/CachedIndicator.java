@@ -22,28 +22,52 @@
  */
 package eu.verdelhan.ta4j.indicators;
 
+import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.TimeSeries;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Cached {@link Indicator indicator}.
  * <p>
  * Caches the constructor of the indicator. Avoid to calculate the same index of the indicator twice.
+ * <p>
+ * Results are cached in a circular buffer keyed by tick index: caching the result of a new index and dropping
+ * the results exceeding the maximum tick count of the series are O(1).
+ * <p>
+ * The indicators may be read from several threads inside a {@link #concurrently(Supplier) concurrent computation}:
+ * while such a computation runs, the values are computed and read under the lock of the indicator (an indicator only
+ * locks the indicators it is built on). Otherwise the cache is not locked.
  */
 public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
 
-    /** List of cached results */
-    private final List<T> results = new ArrayList<T>();
+    /** Minimal length of the results buffer */
+    private static final int MINIMAL_CACHE_LENGTH = 16;
+
+    /** Number of running concurrent computations (the caches are locked while there is one) */
+    private static final AtomicInteger concurrentComputationCount = new AtomicInteger();
+
+    /**
+     * Circular buffer of cached results.
+     * <p>
+     * The result of the i-th index is stored at position i % results.length().
+     * The buffer covers the indexes from (highestResultIndex - results.length() + 1) to highestResultIndex.
+     */
+    private ResultBuffer<T> results;
 
     /**
      * Should always be the index of the last result in the results list.
      * I.E. the last calculated result.
      */
     protected int highestResultIndex = -1;
-    
+
+    /** Result returned for the indexes of the removed ticks */
+    private T removedTicksResult;
+
+    /** Number of removed ticks when the removedTicksResult has been calculated */
+    private int removedTicksResultCount = -1;
+
     /**
      * Constructor.
      * @param series the related time series
@@ -60,8 +84,45 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
         this(indicator.getTimeSeries());
     }
 
+    /**
+     * Runs a computation reading indicators from several threads (e.g. on a fork-join pool).
+     * <p>
+     * The caches of the indicators are locked until the computation ends, i.e. until all its threads are done with
+     * the indicators. The computations on a single thread do not pay for the locking.
+     * @param computation the computation
+     * @return the result of the computation
+     */
+    public static <R> R concurrently(Supplier<R> computation) {
+        concurrentComputationCount.incrementAndGet();
+        try {
+            return computation.get();
+        } finally {
+            concurrentComputationCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return true if the caches must be locked (i.e. if a concurrent computation is running)
+     */
+    private static boolean isLocking() {
+        return concurrentComputationCount.get() != 0;
+    }
+
     @Override
     public T getValue(int index) {
+        if (isLocking()) {
+            synchronized (this) {
+                return getCachedValue(index);
+            }
+        }
+        return getCachedValue(index);
+    }
+
+    /**
+     * @param index the tick index
+     * @return the cached value of the indicator (computed if needed)
+     */
+    private T getCachedValue(int index) {
         TimeSeries series = getTimeSeries();
         if (series == null) {
             // Series is null; the indicator doesn't need cache.
@@ -71,43 +132,109 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
         }
 
         // Series is not null
-        
+
         final int removedTicksCount = series.getRemovedTicksCount();
-        final int maximumResultCount = series.getMaximumTickCount();
-        
-        T result;
+
         if (index < removedTicksCount) {
             // Result already removed from cache
             log.trace("{}: result from tick {} already removed from cache, use {}-th instead",
                     getClass().getSimpleName(), index, removedTicksCount);
-            increaseLengthTo(removedTicksCount, maximumResultCount);
-            highestResultIndex = removedTicksCount;
-            result = results.get(0);
-            if (result == null) {
+            if (removedTicksResultCount != removedTicksCount) {
                 // It should be "result = calculate(removedTicksCount);".
                 // We use "result = calculate(0);" as a workaround
                 // to fix issue #120 (https://github.com/mdeverdelhan/ta4j/issues/120).
-                result = calculate(0);
-                results.set(0, result);
+                removedTicksResult = calculate(0);
+                removedTicksResultCount = removedTicksCount;
+            }
+            return removedTicksResult;
+        }
+
+        if (index > highestResultIndex) {
+            // Result not calculated yet
+            moveHighestResultIndexTo(index, series.getMaximumTickCount());
+            T result = calculate(index);
+            results.set(index % results.length(), result);
+            return result;
+        }
+
+        if (index <= highestResultIndex - results.length()) {
+            // Result older than the cache (e.g. the maximum tick count has been increased)
+            return calculate(index);
+        }
+
+        // Result covered by current cache
+        final int position = index % results.length();
+        T result = results.get(position);
+        if (result == null) {
+            result = calculate(index);
+            results.set(position, result);
+        }
+        return result;
+    }
+
+    /**
+     * Fills an array with the values of the indicator over a range of indexes (for {@link Decimal decimal} results
+     * only, see {@link DecimalCachedIndicator#getValues(Indicator, int, int, double[])}).
+     * <p>
+     * The cache is filled in one sequential sweep (see {@link #warmUp(int)}), then the cached results are copied.
+     * @param beginIndex the first tick index
+     * @param endIndex the last tick index (inclusive)
+     * @param values the array to be filled: the value of beginIndex goes at position 0
+     */
+    void getDecimalValues(int beginIndex, int endIndex, double[] values) {
+        warmUp(endIndex);
+        if (isLocking()) {
+            synchronized (this) {
+                copyValues(beginIndex, endIndex, values);
             }
         } else {
-            increaseLengthTo(index, maximumResultCount);
-            if (index > highestResultIndex) {
-                // Result not calculated yet
-                highestResultIndex = index;
-                result = calculate(index);
-                results.set(results.size()-1, result);
-            } else {
-                // Result covered by current cache
-                int resultInnerIndex = results.size() - 1 - (highestResultIndex - index);
-                result = results.get(resultInnerIndex);
-                if (result == null) {
-                    result = calculate(index);
-                    results.set(resultInnerIndex, result);
+            copyValues(beginIndex, endIndex, values);
+        }
+    }
+
+    /**
+     * Copies the values of the indicator (from the cache, when the values are in it).
+     * @param beginIndex the index of the first value
+     * @param endIndex the index of the last value (inclusive)
+     * @param values the destination array (the value of beginIndex at position 0)
+     */
+    private void copyValues(int beginIndex, int endIndex, double[] values) {
+        final int removedTicksCount = getTimeSeries() == null ? 0 : getTimeSeries().getRemovedTicksCount();
+        int index = beginIndex;
+        while (index <= endIndex) {
+            if (results != null && index >= removedTicksCount && index <= highestResultIndex
+                    && index > highestResultIndex - results.length()) {
+                // Copying the cached results
+                index += results.copyTo(index, Math.min(endIndex, highestResultIndex), values, index - beginIndex);
+                if (index > endIndex) {
+                    break;
                 }
             }
+            values[index - beginIndex] = ((Decimal) getValue(index)).toDouble();
+            index++;
+        }
+    }
+
+    /**
+     * Computes (and caches) the values of the indicator up to an index.
+     * <p>
+     * The values are computed in ascending order of index, from the last cached one. Each value only requests the
+     * values of the sub-indicators up to its own index, so the caches of the whole indicator graph are filled forward:
+     * the depth of the call stack depends on the depth of the graph, not on the number of computed values.
+     * <p>
+     * In a {@link #concurrently(Supplier) concurrent computation}, the lock of the indicator is taken for each value,
+     * not for the whole sweep: the threads sharing the indicator compute its values in turn.
+     * @param endIndex the index of the last value to be computed (capped to the end index of the series)
+     */
+    public void warmUp(int endIndex) {
+        TimeSeries series = getTimeSeries();
+        if (series == null) {
+            return;
+        }
+        final int lastIndex = Math.min(endIndex, series.getEndIndex());
+        for (int i = Math.max(series.getRemovedTicksCount(), highestResultIndex + 1); i <= lastIndex; i++) {
+            getValue(i);
         }
-        return result;
     }
 
     /**
@@ -117,40 +244,49 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
     protected abstract T calculate(int index);
 
     /**
-     * Increases the size of cached results buffer.
-     * @param index the index to increase length to
-     * @param maxLength the maximum length of the results buffer
+     * @param length the number of results to be cached
+     * @return a new empty buffer for the cached results
      */
-    private void increaseLengthTo(int index, int maxLength) {
-        if (highestResultIndex > -1) {
-            int newResultsCount = Math.min(index-highestResultIndex, maxLength);
-            if (newResultsCount == maxLength) {
-                results.clear();
-                results.addAll(Collections.<T> nCopies(maxLength, null));
-            } else if (newResultsCount > 0) {
-                results.addAll(Collections.<T> nCopies(newResultsCount, null));
-                removeExceedingResults(maxLength);
-            }
-        } else {
+    ResultBuffer<T> newResultBuffer(int length) {
+        return new ResultBuffer.ObjectResultBuffer<>(length);
+    }
+
+    /**
+     * Moves the end of the cache to a new highest result index.
+     * <p>
+     * The buffer grows (up to the maximum result count) if it cannot hold all the results up to the new index.
+     * The positions of the new indexes are cleared: they held the results dropped from the cache.
+     * @param index the new highest result index (greater than the current one)
+     * @param maximumResultCount the maximum number of results to keep
+     */
+    private void moveHighestResultIndexTo(int index, int maximumResultCount) {
+        final int requiredLength = (int) Math.min(index + 1L, maximumResultCount);
+        if (results == null) {
             // First use of cache
-            assert results.isEmpty() : "Cache results list should be empty";
-            results.addAll(Collections.<T> nCopies(Math.min(index+1, maxLength), null));
+            results = newResultBuffer(Math.max(requiredLength, Math.min(MINIMAL_CACHE_LENGTH, maximumResultCount)));
+        } else if (results.length() < requiredLength) {
+            increaseLengthTo((int) Math.max(requiredLength, Math.min(results.length() * 2L, maximumResultCount)));
+        }
+
+        final int length = results.length();
+        for (int i = Math.max(highestResultIndex + 1, index - length + 1); i <= index; i++) {
+            results.clear(i % length);
         }
+        highestResultIndex = index;
     }
 
     /**
-     * Removes the N first results which exceed the maximum tick count.
-     * (i.e. keeps only the last maximumResultCount results)
-     * @param maximumResultCount the number of results to keep
+     * Increases the length of the cached results buffer.
+     * @param length the new length of the buffer
      */
-    private void removeExceedingResults(int maximumResultCount) {
-        int resultCount = results.size();
-        if (resultCount > maximumResultCount) {
-            // Removing old results
-            final int nbResultsToRemove = resultCount - maximumResultCount;
-            for (int i = 0; i < nbResultsToRemove; i++) {
-                results.remove(0);
+    private void increaseLengthTo(int length) {
+        ResultBuffer<T> newResults = results.newBuffer(length);
+        for (int i = Math.max(0, highestResultIndex - results.length() + 1); i <= highestResultIndex; i++) {
+            T result = results.get(i % results.length());
+            if (result != null) {
+                newResults.set(i % length, result);
             }
         }
+        results = newResults;
     }
 }
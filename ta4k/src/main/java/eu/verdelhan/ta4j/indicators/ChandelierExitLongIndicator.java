@@ -57,8 +57,10 @@ public class ChandelierExitLongIndicator extends CachedIndicator<Decimal> {
      */
     public ChandelierExitLongIndicator(TimeSeries series, int timeFrame, Decimal k) {
         super(series);
-        high = new HighestValueIndicator(new MaxPriceIndicator(series), timeFrame);
-        atr = new AverageTrueRangeIndicator(series, timeFrame);
+        IndicatorRegistry registry = IndicatorRegistry.of(series);
+        MaxPriceIndicator maxPrice = registry.get(MaxPriceIndicator.class, () -> new MaxPriceIndicator(series));
+        high = registry.get(HighestValueIndicator.class, () -> new HighestValueIndicator(maxPrice, timeFrame), maxPrice, timeFrame);
+        atr = registry.get(AverageTrueRangeIndicator.class, () -> new AverageTrueRangeIndicator(series, timeFrame), timeFrame);
         this.k = k;
     }
 
@@ -57,8 +57,10 @@ public class ChandelierExitShortIndicator extends CachedIndicator<Decimal> {
      */
     public ChandelierExitShortIndicator(TimeSeries series, int timeFrame, Decimal k) {
         super(series);
-        low = new LowestValueIndicator(new MinPriceIndicator(series), timeFrame);
-        atr = new AverageTrueRangeIndicator(series, timeFrame);
+        IndicatorRegistry registry = IndicatorRegistry.of(series);
+        MinPriceIndicator minPrice = registry.get(MinPriceIndicator.class, () -> new MinPriceIndicator(series));
+        low = registry.get(LowestValueIndicator.class, () -> new LowestValueIndicator(minPrice, timeFrame), minPrice, timeFrame);
+        atr = registry.get(AverageTrueRangeIndicator.class, () -> new AverageTrueRangeIndicator(series, timeFrame), timeFrame);
         this.k = k;
     }
 
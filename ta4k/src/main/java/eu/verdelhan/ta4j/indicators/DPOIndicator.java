@@ -59,7 +59,7 @@ public class DPOIndicator extends CachedIndicator<Decimal> {
      * @param timeFrame the time frame
      */
     public DPOIndicator(TimeSeries series, int timeFrame) {
-        this(new ClosePriceIndicator(series), timeFrame);
+        this(IndicatorRegistry.of(series).get(ClosePriceIndicator.class, () -> new ClosePriceIndicator(series)), timeFrame);
     }
     
     /**
@@ -72,7 +72,7 @@ public class DPOIndicator extends CachedIndicator<Decimal> {
         this.timeFrame = timeFrame;
         timeShift = timeFrame / 2 + 1;
         this.price = price;
-        sma = new SMAIndicator(price, this.timeFrame);
+        sma = IndicatorRegistry.of(price.getTimeSeries()).get(SMAIndicator.class, () -> new SMAIndicator(price, timeFrame), price, timeFrame);
     }
 
     @Override
@@ -0,0 +1,97 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+
+/**
+ * Cached {@link Decimal decimal} {@link Indicator indicator}.
+ * <p>
+ * Same as the {@link CachedIndicator cached indicator}, but on a series with {@link Decimal.Backend#DOUBLE double}
+ * prices (see {@link TimeSeries#getBackend()}) the cached results are stored in a primitive {@code double} array: a
+ * result uses 8 bytes of cache instead of a reference to a {@link Decimal} object. The results are converted back to
+ * double-backed decimals when they are read from the cache.
+ * <p>
+ * On a series with {@link Decimal.Backend#PRECISE precise} prices the results are cached as references, so that no
+ * precision is lost.
+ */
+public abstract class DecimalCachedIndicator extends CachedIndicator<Decimal> {
+
+    /**
+     * Constructor.
+     * @param series the related time series
+     */
+    public DecimalCachedIndicator(TimeSeries series) {
+        super(series);
+    }
+
+    /**
+     * Constructor.
+     * @param indicator a related indicator (with a time series)
+     */
+    public DecimalCachedIndicator(Indicator<?> indicator) {
+        this(indicator.getTimeSeries());
+    }
+
+    /**
+     * Fills an array with the values of a decimal indicator over a range of indexes.
+     * <p>
+     * This bulk access is meant for exports, charts, etc. The values of a {@link CachedIndicator cached indicator} are
+     * computed in one sequential sweep, then copied from the cache.
+     * @param indicator the decimal indicator
+     * @param beginIndex the first tick index
+     * @param endIndex the last tick index (inclusive)
+     * @param values the array to be filled: the value of beginIndex goes at position 0
+     */
+    public static void getValues(Indicator<Decimal> indicator, int beginIndex, int endIndex, double[] values) {
+        if (indicator instanceof DecimalCachedIndicator) {
+            ((DecimalCachedIndicator) indicator).getValues(beginIndex, endIndex, values);
+        } else if (indicator instanceof CachedIndicator) {
+            ((CachedIndicator<Decimal>) indicator).getDecimalValues(beginIndex, endIndex, values);
+        } else {
+            for (int i = beginIndex; i <= endIndex; i++) {
+                values[i - beginIndex] = indicator.getValue(i).toDouble();
+            }
+        }
+    }
+
+    /**
+     * Fills an array with the values of the indicator over a range of indexes.
+     * <p>
+     * The cache is filled in one sequential sweep, then the cached results are copied. Subclasses may override it with
+     * a faster loop.
+     * @param beginIndex the first tick index
+     * @param endIndex the last tick index (inclusive)
+     * @param values the array to be filled: the value of beginIndex goes at position 0
+     */
+    public void getValues(int beginIndex, int endIndex, double[] values) {
+        getDecimalValues(beginIndex, endIndex, values);
+    }
+
+    @Override
+    ResultBuffer<Decimal> newResultBuffer(int length) {
+        return ResultBuffer.newDecimalBuffer(getTimeSeries(), length);
+    }
+}
@@ -37,15 +37,19 @@ public class DoubleEMAIndicator extends CachedIndicator<Decimal> {
 
     private final EMAIndicator ema;
 
+    private final EMAIndicator emaEma;
+
     public DoubleEMAIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
         this.timeFrame = timeFrame;
-        this.ema = new EMAIndicator(indicator, timeFrame);
+        IndicatorRegistry registry = IndicatorRegistry.of(indicator.getTimeSeries());
+        EMAIndicator ema = registry.get(EMAIndicator.class, () -> new EMAIndicator(indicator, timeFrame), indicator, timeFrame);
+        this.ema = ema;
+        this.emaEma = registry.get(EMAIndicator.class, () -> new EMAIndicator(ema, timeFrame), ema, timeFrame);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        EMAIndicator emaEma = new EMAIndicator(ema, timeFrame);
         return ema.getValue(index).multipliedBy(Decimal.TWO)
                 .minus(emaEma.getValue(index));
     }
@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
-import eu.verdelhan.ta4j.indicators.RecursiveCachedIndicator;
+import eu.verdelhan.ta4j.indicators.RecursiveDecimalCachedIndicator;
 
 /**
  * Exponential moving average indicator.
  * <p>
  */
-public class EMAIndicator extends RecursiveCachedIndicator<Decimal> {
+public class EMAIndicator extends RecursiveDecimalCachedIndicator {
 
     private final Indicator<Decimal> indicator;
 
@@ -38,6 +38,9 @@ public class EMAIndicator extends RecursiveCachedIndicator<Decimal> {
 
     private final Decimal multiplier;
 
+    /** Starting point of the average (shared through the registry of the series) */
+    private final SMAIndicator startSma;
+
     /**
      * Constructor.
      * @param indicator an indicator
@@ -47,6 +50,8 @@ public class EMAIndicator extends RecursiveCachedIndicator<Decimal> {
         super(indicator);
         this.indicator = indicator;
         this.timeFrame = timeFrame;
+        this.startSma = IndicatorRegistry.of(indicator.getTimeSeries())
+                .get(SMAIndicator.class, () -> new SMAIndicator(indicator, timeFrame), indicator, timeFrame);
         multiplier = Decimal.TWO.dividedBy(Decimal.valueOf(timeFrame + 1));
     }
 
@@ -54,7 +59,7 @@ public class EMAIndicator extends RecursiveCachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         if (index + 1 < timeFrame) {
             // Starting point of the EMA
-            return new SMAIndicator(indicator, timeFrame).getValue(index);
+            return startSma.getValue(index);
         }
         if (index == 0) {
             // If the timeframe is bigger than the indicator's value count
@@ -63,4 +68,18 @@ public class EMAIndicator extends RecursiveCachedIndicator<Decimal> {
         Decimal emaPrev = getValue(index - 1);
         return indicator.getValue(index).minus(emaPrev).multipliedBy(multiplier).plus(emaPrev);
     }
-}
\ No newline at end of file
+
+    /**
+     * @return the averaged indicator
+     */
+    public Indicator<Decimal> getIndicator() {
+        return indicator;
+    }
+
+    /**
+     * @return the time frame
+     */
+    public int getTimeFrame() {
+        return timeFrame;
+    }
+}
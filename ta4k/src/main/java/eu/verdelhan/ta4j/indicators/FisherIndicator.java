@@ -53,7 +53,7 @@ public class FisherIndicator extends RecursiveCachedIndicator<Decimal>{
      * @param series the series
      */
     public FisherIndicator(TimeSeries series) {
-        this(new MedianPriceIndicator(series), 10);
+        this(IndicatorRegistry.of(series).get(MedianPriceIndicator.class, () -> new MedianPriceIndicator(series)), 10);
     }
     
     /**
@@ -77,8 +77,14 @@ public class FisherIndicator extends RecursiveCachedIndicator<Decimal>{
     public FisherIndicator(Indicator<Decimal> price, int timeFrame, final Decimal alpha, final Decimal beta) {
         super(price);
         this.price = price;
-        final Indicator<Decimal> periodHigh = new HighestValueIndicator(new MaxPriceIndicator(price.getTimeSeries()), timeFrame);
-        final Indicator<Decimal> periodLow = new LowestValueIndicator(new MinPriceIndicator(price.getTimeSeries()), timeFrame);
+        final TimeSeries series = price.getTimeSeries();
+        final IndicatorRegistry registry = IndicatorRegistry.of(series);
+        final MaxPriceIndicator maxPrice = registry.get(MaxPriceIndicator.class, () -> new MaxPriceIndicator(series));
+        final MinPriceIndicator minPrice = registry.get(MinPriceIndicator.class, () -> new MinPriceIndicator(series));
+        final Indicator<Decimal> periodHigh = registry.get(HighestValueIndicator.class,
+                () -> new HighestValueIndicator(maxPrice, timeFrame), maxPrice, timeFrame);
+        final Indicator<Decimal> periodLow = registry.get(LowestValueIndicator.class,
+                () -> new LowestValueIndicator(minPrice, timeFrame), minPrice, timeFrame);
         intermediateValue = new RecursiveCachedIndicator<Decimal>(price) {
 
             @Override
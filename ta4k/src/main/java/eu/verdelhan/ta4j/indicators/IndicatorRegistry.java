@@ -0,0 +1,178 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the {@link Indicator indicators} of a {@link TimeSeries time series}.
+ * <p>
+ * The registry canonicalizes indicators by type and parameters: the first request for an indicator creates it, the
+ * next requests with the same type and parameters return the same instance. Composite indicators get their
+ * sub-indicators from the registry of their series, so that e.g. the SMA(typical price, 20) of a CCI and of a mean
+ * deviation is computed (and cached) only once.
+ * <p>
+ * Sharing is opt-in: a series only has a registry once it has been given one (see
+ * {@link TimeSeries#setIndicatorRegistry(IndicatorRegistry)}). Otherwise each composite indicator builds its own
+ * sub-indicators, through a stateless registry which does not register anything.
+ * <p>
+ * Parameters are compared with {@link Object#equals(Object)}, i.e. by identity for indicators: two indicators are
+ * only shared if they are built on the same sub-indicator instances (which is the case when these sub-indicators
+ * come from the registry too).
+ * <p>
+ * The registry is held by its series and only keeps weak references to its indicators: an indicator which is not
+ * used anymore can be garbage collected (a later request creates a new one).
+ */
+public class IndicatorRegistry {
+
+    /** Registry of the series which do not share their indicators */
+    private static final IndicatorRegistry NOT_SHARING = new NotSharingIndicatorRegistry();
+
+    /** Queue of the garbage collected indicators */
+    private final ReferenceQueue<Indicator<?>> collectedIndicators = new ReferenceQueue<>();
+
+    /** Registered indicators by key (type and parameters) */
+    private final Map<List<Object>, IndicatorReference> indicators = new HashMap<>();
+
+    /** Number of requests answered with an already registered indicator */
+    private int sharedCount;
+
+    /**
+     * @param series a time series
+     * @return the indicator registry of the series (a registry creating a new indicator on each request if the
+     * series is null or does not share its indicators)
+     */
+    public static IndicatorRegistry of(TimeSeries series) {
+        IndicatorRegistry registry = series == null ? null : series.getIndicatorRegistry();
+        return registry == null ? NOT_SHARING : registry;
+    }
+
+    /**
+     * Returns the registered indicator of a type with some parameters, creating it if needed.
+     * <p>
+     * The factory is called outside of the lock of the registry, since it may request other indicators (e.g. the
+     * sub-indicators of a composite indicator).
+     * @param type the type of the indicator
+     * @param factory the factory creating the indicator (from the parameters)
+     * @param parameters the parameters of the indicator (sub-indicators, time frames, etc.)
+     * @return the shared indicator
+     */
+    public <I extends Indicator<?>> I get(Class<?> type, Supplier<I> factory, Object... parameters) {
+        expungeCollectedIndicators();
+        List<Object> key = new ArrayList<>(parameters.length + 1);
+        key.add(type);
+        key.addAll(Arrays.asList(parameters));
+        key = Collections.unmodifiableList(key);
+
+        I indicator = getRegistered(key);
+        if (indicator != null) {
+            return indicator;
+        }
+        I newIndicator = factory.get();
+        synchronized (this) {
+            indicator = getRegistered(key);
+            if (indicator != null) {
+                // Registered by another thread in the meantime
+                return indicator;
+            }
+            indicators.put(key, new IndicatorReference(key, newIndicator, collectedIndicators));
+        }
+        return newIndicator;
+    }
+
+    /**
+     * @return the number of registered indicators
+     */
+    public int getIndicatorCount() {
+        expungeCollectedIndicators();
+        synchronized (this) {
+            return indicators.size();
+        }
+    }
+
+    /**
+     * @return the number of requests answered with an already registered indicator (i.e. the number of duplicate
+     * indicators eliminated)
+     */
+    public synchronized int getSharedCount() {
+        return sharedCount;
+    }
+
+    /**
+     * @param key the key of an indicator
+     * @return the registered indicator, null if there is no such indicator
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized <I extends Indicator<?>> I getRegistered(List<Object> key) {
+        IndicatorReference reference = indicators.get(key);
+        Indicator<?> indicator = reference == null ? null : reference.get();
+        if (indicator != null) {
+            sharedCount++;
+        }
+        return (I) indicator;
+    }
+
+    /**
+     * Removes the garbage collected indicators from the registry.
+     */
+    private synchronized void expungeCollectedIndicators() {
+        IndicatorReference reference;
+        while ((reference = (IndicatorReference) collectedIndicators.poll()) != null) {
+            indicators.remove(reference.key, reference);
+        }
+    }
+
+    /**
+     * Registry which does not register anything: each request creates a new indicator.
+     */
+    private static class NotSharingIndicatorRegistry extends IndicatorRegistry {
+
+        @Override
+        public <I extends Indicator<?>> I get(Class<?> type, Supplier<I> factory, Object... parameters) {
+            return factory.get();
+        }
+    }
+
+    /**
+     * Weak reference to a registered indicator.
+     */
+    private static class IndicatorReference extends WeakReference<Indicator<?>> {
+
+        private final List<Object> key;
+
+        IndicatorReference(List<Object> key, Indicator<?> indicator, ReferenceQueue<Indicator<?>> queue) {
+            super(indicator, queue);
+            this.key = key;
+        }
+    }
+}
@@ -41,12 +41,27 @@ public class MACDIndicator extends CachedIndicator<Decimal> {
         if (shortTimeFrame > longTimeFrame) {
             throw new IllegalArgumentException("Long term period count must be greater than short term period count");
         }
-        shortTermEma = new EMAIndicator(indicator, shortTimeFrame);
-        longTermEma = new EMAIndicator(indicator, longTimeFrame);
+        IndicatorRegistry registry = IndicatorRegistry.of(indicator.getTimeSeries());
+        shortTermEma = registry.get(EMAIndicator.class, () -> new EMAIndicator(indicator, shortTimeFrame), indicator, shortTimeFrame);
+        longTermEma = registry.get(EMAIndicator.class, () -> new EMAIndicator(indicator, longTimeFrame), indicator, longTimeFrame);
     }
 
     @Override
     protected Decimal calculate(int index) {
         return shortTermEma.getValue(index).minus(longTermEma.getValue(index));
     }
-}
\ No newline at end of file
+
+    /**
+     * @return the short term EMA
+     */
+    public EMAIndicator getShortTermEma() {
+        return shortTermEma;
+    }
+
+    /**
+     * @return the long term EMA
+     */
+    public EMAIndicator getLongTermEma() {
+        return longTermEma;
+    }
+}
@@ -42,8 +42,9 @@ public class PPOIndicator extends CachedIndicator<Decimal> {
         if (shortTimeFrame > longTimeFrame) {
             throw new IllegalArgumentException("Long term period count must be greater than short term period count");
         }
-        shortTermEma = new EMAIndicator(indicator, shortTimeFrame);
-        longTermEma = new EMAIndicator(indicator, longTimeFrame);
+        IndicatorRegistry registry = IndicatorRegistry.of(indicator.getTimeSeries());
+        shortTermEma = registry.get(EMAIndicator.class, () -> new EMAIndicator(indicator, shortTimeFrame), indicator, shortTimeFrame);
+        longTermEma = registry.get(EMAIndicator.class, () -> new EMAIndicator(indicator, longTimeFrame), indicator, longTimeFrame);
     }
 
     @Override
@@ -24,32 +24,30 @@ package eu.verdelhan.ta4j.indicators;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.helpers.HighestValueIndicator;
-import eu.verdelhan.ta4j.indicators.helpers.LowestValueIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.MaxPriceIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.MinPriceIndicator;
 
 /**
  * Parabolic SAR indicator.
  * team172011(Simon-Justus Wimmer), 18.09.2017
+ * <p>
+ * The SAR of an index only depends on the state (trend, acceleration factor, extreme points) of the previous index
+ * and on the tick of the index. The states are cached alongside the SAR values, so that the values can be
+ * evaluated in any order and recalculated after their removal from the cache.
  */
 public class ParabolicSarIndicator extends RecursiveCachedIndicator<Decimal> {
 
-    private Decimal accelerationFactor;
     private final Decimal maxAcceleration;
     private final Decimal accelerationIncrement;
     private final Decimal accelarationStart;
 
-
-
     private final TimeSeries series;
 
-    private boolean currentTrend; // true if uptrend, false otherwise
-    private int startTrendIndex = 0; // index of start tick of the current trend
-    private MinPriceIndicator minPriceIndicator;
-    private MaxPriceIndicator maxPriceIndicator;
-    private Decimal currentExtremePoint; // the extreme point of the current calculation
-    private Decimal minMaxExtremePoint; // depending on trend the maximum or minimum extreme point value of trend
+    private final MinPriceIndicator minPriceIndicator;
+    private final MaxPriceIndicator maxPriceIndicator;
+
+    /** The (cached) state of each index */
+    private final SarStateIndicator states;
 
     /**
      * Constructor with default parameters
@@ -83,79 +81,140 @@ public class ParabolicSarIndicator extends RecursiveCachedIndicator<Decimal> {
         maxPriceIndicator = new MaxPriceIndicator(series);
         minPriceIndicator = new MinPriceIndicator(series);
         maxAcceleration = maxA;
-        accelerationFactor = aF;
         accelerationIncrement = increment;
         accelarationStart = aF;
+        states = new SarStateIndicator(series);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        Decimal sar = Decimal.NaN;
-        if (index == series.getBeginIndex()) {
-            return sar; // no trend detection possible for the first value
-        } else if (index == series.getBeginIndex() + 1) {// start trend detection
-            currentTrend = series.getTick(series.getBeginIndex()).getClosePrice().isLessThan(series.getTick(index).getClosePrice());
-            if (!currentTrend) { // down trend
-                sar = maxPriceIndicator.getValue(index); // put sar on max price of candlestick
-                currentExtremePoint = sar;
-                minMaxExtremePoint = currentExtremePoint;
-            } else { // up trend
-                sar = minPriceIndicator.getValue(index); // put sar on min price of candlestick
-                currentExtremePoint = sar;
-                minMaxExtremePoint = currentExtremePoint;
+        return states.getValue(index).sar;
+    }
 
-            }
-            return sar;
+    /**
+     * @param accelerationFactor the current acceleration factor
+     * @return the incremented acceleration factor
+     */
+    private Decimal incrementAcceleration(Decimal accelerationFactor) {
+        if (accelerationFactor.isGreaterThanOrEqual(maxAcceleration)) {
+            return maxAcceleration;
         }
+        return accelerationFactor.plus(accelerationIncrement);
+    }
 
-        Decimal priorSar = getValue(index-1);
-        if (currentTrend) { // if up trend
-            sar = priorSar.plus(accelerationFactor.multipliedBy((currentExtremePoint.minus(priorSar))));
-            currentTrend = minPriceIndicator.getValue(index).isGreaterThan(sar);
-            if (!currentTrend) { // check if sar touches the min price
-                sar = minMaxExtremePoint; // sar starts at the highest extreme point of previous up trend
-                currentTrend = false; // switch to down trend and reset values
-                startTrendIndex = index;
-                accelerationFactor = accelarationStart;
-                currentExtremePoint = series.getTick(index).getMinPrice(); // put point on max
-                minMaxExtremePoint = currentExtremePoint;
-            } else { // up trend is going on
-                currentExtremePoint = new HighestValueIndicator(maxPriceIndicator, index - startTrendIndex).getValue(index);
-                if (currentExtremePoint.isGreaterThan(minMaxExtremePoint)) {
-                    incrementAcceleration();
-                    minMaxExtremePoint = currentExtremePoint;
-                }
+    /**
+     * State of the parabolic SAR at an index (immutable, since it is cached).
+     */
+    private static final class SarState {
 
-            }
-        } else { // downtrend
-            sar = priorSar.minus(accelerationFactor.multipliedBy(((priorSar.minus(currentExtremePoint)))));
-            currentTrend = maxPriceIndicator.getValue(index).isGreaterThanOrEqual(sar);
-            if (currentTrend) { // check if switch to up trend
-                sar = minMaxExtremePoint; // sar starts at the lowest extreme point of previous down trend
-                accelerationFactor = accelarationStart;
-                startTrendIndex = index;
-                currentExtremePoint = series.getTick(index).getMaxPrice();
-                minMaxExtremePoint = currentExtremePoint;
-            } else { // down trend io going on
-                currentExtremePoint = new LowestValueIndicator(minPriceIndicator, index - startTrendIndex).getValue(index);
-                if (currentExtremePoint.isLessThan(minMaxExtremePoint)) {
-                    incrementAcceleration();
-                    minMaxExtremePoint = currentExtremePoint;
-                }
-            }
-        }
-        return sar;
+        /** State of the indexes where no trend detection is possible */
+        static final SarState NO_TREND = new SarState(Decimal.NaN, false, null, null, null, null);
+
+        /** The SAR value */
+        private final Decimal sar;
 
+        /** True if up trend, false otherwise */
+        private final boolean upTrend;
+
+        private final Decimal accelerationFactor;
+
+        /** The extreme point of the current calculation */
+        private final Decimal currentExtremePoint;
+
+        /** Depending on trend the maximum or minimum extreme point value of trend */
+        private final Decimal minMaxExtremePoint;
+
+        /**
+         * Depending on trend the maximum or minimum price since the tick following the start of the trend
+         * (null on the start tick of a trend)
+         */
+        private final Decimal trendExtremePrice;
+
+        SarState(Decimal sar, boolean upTrend, Decimal accelerationFactor, Decimal currentExtremePoint,
+                Decimal minMaxExtremePoint, Decimal trendExtremePrice) {
+            this.sar = sar;
+            this.upTrend = upTrend;
+            this.accelerationFactor = accelerationFactor;
+            this.currentExtremePoint = currentExtremePoint;
+            this.minMaxExtremePoint = minMaxExtremePoint;
+            this.trendExtremePrice = trendExtremePrice;
+        }
     }
 
     /**
-     * Increments the acceleration factor.
+     * Indicator of the SAR states.
      */
-    private void incrementAcceleration() {
-        if (accelerationFactor.isGreaterThanOrEqual(maxAcceleration)) {
-            accelerationFactor = maxAcceleration;
-        } else {
-            accelerationFactor = accelerationFactor.plus(accelerationIncrement);
+    private final class SarStateIndicator extends RecursiveCachedIndicator<SarState> {
+
+        SarStateIndicator(TimeSeries series) {
+            super(series);
+        }
+
+        @Override
+        protected SarState calculate(int index) {
+            if (index <= series.getBeginIndex()) {
+                return SarState.NO_TREND; // no trend detection possible for the first value
+            }
+            SarState prior = (index == series.getBeginIndex() + 1) ? null : getValue(index - 1);
+            if (prior == null || prior.accelerationFactor == null) {
+                // start trend detection (second tick of the series, or no trend in the prior state)
+                boolean upTrend = series.getTick(index - 1).getClosePrice().isLessThan(series.getTick(index).getClosePrice());
+                Decimal sar;
+                Decimal trendExtremePrice;
+                if (!upTrend) { // down trend
+                    sar = maxPriceIndicator.getValue(index); // put sar on max price of candlestick
+                    trendExtremePrice = minPriceIndicator.getValue(index);
+                } else { // up trend
+                    sar = minPriceIndicator.getValue(index); // put sar on min price of candlestick
+                    trendExtremePrice = maxPriceIndicator.getValue(index);
+                }
+                return new SarState(sar, upTrend, accelarationStart, sar, sar, trendExtremePrice);
+            }
+
+            Decimal priorSar = prior.sar;
+            Decimal sar;
+            boolean upTrend;
+            Decimal accelerationFactor = prior.accelerationFactor;
+            Decimal currentExtremePoint;
+            Decimal minMaxExtremePoint = prior.minMaxExtremePoint;
+            Decimal trendExtremePrice = null;
+            if (prior.upTrend) { // if up trend
+                sar = priorSar.plus(prior.accelerationFactor.multipliedBy((prior.currentExtremePoint.minus(priorSar))));
+                upTrend = minPriceIndicator.getValue(index).isGreaterThan(sar);
+                if (!upTrend) { // check if sar touches the min price
+                    sar = prior.minMaxExtremePoint; // sar starts at the highest extreme point of previous up trend
+                    accelerationFactor = accelarationStart; // switch to down trend and reset values
+                    currentExtremePoint = minPriceIndicator.getValue(index); // put point on max
+                    minMaxExtremePoint = currentExtremePoint;
+                } else { // up trend is going on
+                    Decimal maxPrice = maxPriceIndicator.getValue(index);
+                    trendExtremePrice = (prior.trendExtremePrice == null) ? maxPrice : prior.trendExtremePrice.max(maxPrice);
+                    currentExtremePoint = trendExtremePrice;
+                    if (currentExtremePoint.isGreaterThan(minMaxExtremePoint)) {
+                        accelerationFactor = incrementAcceleration(accelerationFactor);
+                        minMaxExtremePoint = currentExtremePoint;
+                    }
+                }
+            } else { // downtrend
+                sar = priorSar.minus(prior.accelerationFactor.multipliedBy(((priorSar.minus(prior.currentExtremePoint)))));
+                upTrend = maxPriceIndicator.getValue(index).isGreaterThanOrEqual(sar);
+                if (upTrend) { // check if switch to up trend
+                    sar = prior.minMaxExtremePoint; // sar starts at the lowest extreme point of previous down trend
+                    accelerationFactor = accelarationStart;
+                    currentExtremePoint = maxPriceIndicator.getValue(index);
+                    minMaxExtremePoint = currentExtremePoint;
+                } else { // down trend io going on
+                    Decimal minPrice = minPriceIndicator.getValue(index);
+                    trendExtremePrice = (prior.trendExtremePrice == null) ? minPrice : prior.trendExtremePrice.min(minPrice);
+                    currentExtremePoint = trendExtremePrice;
+                    if (currentExtremePoint.isLessThan(minMaxExtremePoint)) {
+                        accelerationFactor = incrementAcceleration(accelerationFactor);
+                        minMaxExtremePoint = currentExtremePoint;
+                    }
+                }
+            }
+            return new SarState(sar, upTrend, accelerationFactor, currentExtremePoint, minMaxExtremePoint,
+                    trendExtremePrice);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,106 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.Indicator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Executor of parallel indicator warm-ups.
+ * <p>
+ * Fills the caches of indicators up to an index, on a {@link ForkJoinPool}. Each given
+ * {@link CachedIndicator cached indicator} is {@link CachedIndicator#warmUp(int) warmed up} in its own task, along
+ * with the sub-indicators it is built on: the executor does not look into the indicators. To compute independent
+ * branches concurrently (e.g. the short and long EMAs of a MACD), pass them along with the indicators built on them.
+ * <p>
+ * The warm-ups are a {@link CachedIndicator#concurrently(java.util.function.Supplier) concurrent computation}, so
+ * the indicators may share sub-indicators: the tasks requesting a shared sub-indicator compute its values in turn.
+ */
+public class ParallelWarmUpExecutor {
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor (common fork-join pool).
+     */
+    public ParallelWarmUpExecutor() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     * @param pool the pool computing the indicators
+     */
+    public ParallelWarmUpExecutor(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Computes (and caches) the values of indicators up to an index.
+     * @param endIndex the index of the last value to be computed (capped to the end index of the series)
+     * @param indicators the indicators to compute
+     */
+    public void warmUp(int endIndex, Indicator<?>... indicators) {
+        warmUp(endIndex, Arrays.asList(indicators));
+    }
+
+    /**
+     * Computes (and caches) the values of indicators up to an index.
+     * <p>
+     * The indicators which are not {@link CachedIndicator cached} have nothing to compute.
+     * @param endIndex the index of the last value to be computed (capped to the end index of the series)
+     * @param indicators the indicators to compute
+     */
+    public void warmUp(int endIndex, Collection<? extends Indicator<?>> indicators) {
+        Set<Indicator<?>> scheduled = Collections.newSetFromMap(new IdentityHashMap<>());
+        try {
+            CachedIndicator.concurrently(() -> {
+                List<CompletableFuture<Void>> tasks = new ArrayList<>();
+                for (Indicator<?> indicator : indicators) {
+                    if (indicator instanceof CachedIndicator && scheduled.add(indicator)) {
+                        CachedIndicator<?> cachedIndicator = (CachedIndicator<?>) indicator;
+                        tasks.add(CompletableFuture.runAsync(() -> cachedIndicator.warmUp(endIndex), pool));
+                    }
+                }
+                return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[tasks.size()])).join();
+            });
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -43,8 +43,9 @@ public class RAVIIndicator extends CachedIndicator<Decimal> {
      */
     public RAVIIndicator(Indicator<Decimal> price, int shortSmaTimeFrame, int longSmaTimeFrame) {
         super(price);
-        shortSma = new SMAIndicator(price, shortSmaTimeFrame);
-        longSma = new SMAIndicator(price, longSmaTimeFrame);
+        IndicatorRegistry registry = IndicatorRegistry.of(price.getTimeSeries());
+        shortSma = registry.get(SMAIndicator.class, () -> new SMAIndicator(price, shortSmaTimeFrame), price, shortSmaTimeFrame);
+        longSma = registry.get(SMAIndicator.class, () -> new SMAIndicator(price, longSmaTimeFrame), price, longSmaTimeFrame);
     }
 
     @Override
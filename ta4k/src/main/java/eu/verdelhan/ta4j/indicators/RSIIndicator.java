@@ -24,7 +24,7 @@ package eu.verdelhan.ta4j.indicators;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Indicator;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.AverageGainIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.AverageLossIndicator;
 
@@ -40,14 +40,14 @@ import eu.verdelhan.ta4j.indicators.helpers.AverageLossIndicator;
  *
  * @see SmoothedRSIIndicator
  */
-public class RSIIndicator extends CachedIndicator<Decimal> {
+public class RSIIndicator extends DecimalCachedIndicator {
 
     private Indicator<Decimal> averageGainIndicator;
     private Indicator<Decimal> averageLossIndicator;
     
     public RSIIndicator(Indicator<Decimal> indicator, int timeFrame) {
-        this(new AverageGainIndicator(indicator, timeFrame),
-                new AverageLossIndicator(indicator, timeFrame));
+        this(IndicatorRegistry.of(indicator.getTimeSeries()).get(AverageGainIndicator.class, () -> new AverageGainIndicator(indicator, timeFrame), indicator, timeFrame),
+                IndicatorRegistry.of(indicator.getTimeSeries()).get(AverageLossIndicator.class, () -> new AverageLossIndicator(indicator, timeFrame), indicator, timeFrame));
     }
 
     public RSIIndicator(Indicator<Decimal> avgGainIndicator, Indicator<Decimal> avgLossIndicator) {
@@ -53,9 +53,11 @@ private final MaxPriceIndicator maxPrice;
     public RandomWalkIndexLowIndicator(TimeSeries series, int timeFrame) {
         super(series);
         this.timeFrame = timeFrame;
-        maxPrice = new MaxPriceIndicator(series);
-        minPrice = new MinPriceIndicator(series);
-        averageTrueRange = new AverageTrueRangeIndicator(series, timeFrame);
+        IndicatorRegistry registry = IndicatorRegistry.of(series);
+        maxPrice = registry.get(MaxPriceIndicator.class, () -> new MaxPriceIndicator(series));
+        minPrice = registry.get(MinPriceIndicator.class, () -> new MinPriceIndicator(series));
+        averageTrueRange = registry.get(AverageTrueRangeIndicator.class,
+                () -> new AverageTrueRangeIndicator(series, timeFrame), timeFrame);
         sqrtTimeFrame = Decimal.valueOf(timeFrame).sqrt();
     }
 
@@ -28,21 +28,13 @@ import eu.verdelhan.ta4j.TimeSeries;
 /**
  * Recursive cached {@link Indicator indicator}.
  * <p>
- * Recursive indicators should extend this class.<br>
- * This class is only here to avoid (OK, to postpone) the StackOverflowError that
- * may be thrown on the first getValue(int) call of a recursive indicator.
- * Concretely when an index value is asked, if the last cached value is too old/far,
- * the computation of all the values between the last cached and the asked one
- * is executed iteratively.
+ * Recursive indicators (i.e. indicators requesting their own previous values) should extend this class.<br>
+ * It avoids the StackOverflowError (and the deep call stacks) that recursive calculations would cause: when an
+ * index value is asked, the values between the last cached one and the asked one are first computed iteratively
+ * (see {@link #warmUp(int)}). The calculation of a value then only requests previous values already in cache.
  */
 public abstract class RecursiveCachedIndicator<T> extends CachedIndicator<T> {
 
-    /**
-     * The recursion threshold for which an iterative calculation is executed.
-     * @TODO Should be variable (depending on the sub-indicators used in this indicator)
-     */
-    private static final int RECURSION_THRESHOLD = 100;
-    
     /**
      * Constructor.
      * @param series the related time series
@@ -61,23 +53,12 @@ public abstract class RecursiveCachedIndicator<T> extends CachedIndicator<T> {
 
     @Override
     public T getValue(int index) {
-        TimeSeries series = getTimeSeries();
-        if (series != null) {
-            final int seriesEndIndex = series.getEndIndex();
-            if (index <= seriesEndIndex) {
-                // We are not after the end of the series
-                final int removedTicksCount = series.getRemovedTicksCount();
-                int startIndex = Math.max(removedTicksCount, highestResultIndex);
-                if (index - startIndex > RECURSION_THRESHOLD) {
-                    // Too many uncalculated values; the risk for a StackOverflowError becomes high.
-                    // Calculating the previous values iteratively
-                    for (int prevIdx = startIndex; prevIdx < index; prevIdx++) {
-                        super.getValue(prevIdx);
-                    }
-                }
-            }
+        // (In a concurrent computation the highest result index may be out of date: the warm-up skips the values
+        // computed in the meantime)
+        if (index > highestResultIndex + 1) {
+            // Uncalculated values before the index: calculating them iteratively
+            warmUp(index - 1);
         }
-        
         return super.getValue(index);
     }
 }
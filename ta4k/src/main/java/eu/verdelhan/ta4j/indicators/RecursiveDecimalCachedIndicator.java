@@ -0,0 +1,58 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+
+/**
+ * Recursive cached {@link Decimal decimal} {@link Indicator indicator}.
+ * <p>
+ * Same as the {@link RecursiveCachedIndicator recursive cached indicator}, but on a series with
+ * {@link Decimal.Backend#DOUBLE double} prices the cached results are stored in a primitive {@code double} array (see
+ * {@link DecimalCachedIndicator}).
+ */
+public abstract class RecursiveDecimalCachedIndicator extends RecursiveCachedIndicator<Decimal> {
+
+    /**
+     * Constructor.
+     * @param series the related time series
+     */
+    public RecursiveDecimalCachedIndicator(TimeSeries series) {
+        super(series);
+    }
+
+    /**
+     * Constructor.
+     * @param indicator a related indicator (with a time series)
+     */
+    public RecursiveDecimalCachedIndicator(Indicator<?> indicator) {
+        this(indicator.getTimeSeries());
+    }
+
+    @Override
+    ResultBuffer<Decimal> newResultBuffer(int length) {
+        return ResultBuffer.newDecimalBuffer(getTimeSeries(), length);
+    }
+}
@@ -0,0 +1,301 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.TimeSeries;
+import java.util.Arrays;
+
+/**
+ * Fixed-length storage of the results of a {@link CachedIndicator cached indicator}.
+ * <p>
+ * The positions of the buffer are managed by the cached indicator (circular buffer keyed by tick index).
+ * Implementations only define how the results are stored.
+ */
+abstract class ResultBuffer<T> {
+
+    /**
+     * @param series the time series of a decimal indicator
+     * @param length the number of positions of the buffer
+     * @return a new empty buffer for the decimal results of an indicator on the series (primitive {@code double}s for
+     *         a series with {@link Decimal.Backend#DOUBLE double} prices, references otherwise)
+     */
+    static ResultBuffer<Decimal> newDecimalBuffer(TimeSeries series, int length) {
+        if (series.getBackend() == Decimal.Backend.DOUBLE) {
+            return new DecimalResultBuffer(length);
+        }
+        return new ObjectResultBuffer<>(length);
+    }
+
+    /**
+     * @return the number of positions of the buffer
+     */
+    abstract int length();
+
+    /**
+     * @param position a position of the buffer
+     * @return the result stored at the position, null if no result is stored
+     */
+    abstract T get(int position);
+
+    /**
+     * @param position a position of the buffer
+     * @param result the result to be stored at the position (null empties the position)
+     */
+    abstract void set(int position, T result);
+
+    /**
+     * @param position a position of the buffer to be emptied
+     */
+    abstract void clear(int position);
+
+    /**
+     * @param length the number of positions of the buffer
+     * @return a new empty buffer with the same storage as this one
+     */
+    abstract ResultBuffer<T> newBuffer(int length);
+
+    /**
+     * Copies consecutive {@link Decimal decimal} results to a {@code double} array.
+     * <p>
+     * The copy stops at the first index without result.
+     * @param fromIndex the tick index of the first result to be copied
+     * @param toIndex the tick index of the last result to be copied (inclusive)
+     * @param destination the destination array
+     * @param offset the position of the first result in the destination array
+     * @return the number of copied results
+     */
+    int copyTo(int fromIndex, int toIndex, double[] destination, int offset) {
+        final int length = length();
+        int count = 0;
+        for (int index = fromIndex; index <= toIndex; index++, count++) {
+            T result = get(index % length);
+            if (result == null) {
+                break;
+            }
+            destination[offset + count] = ((Decimal) result).toDouble();
+        }
+        return count;
+    }
+
+    /**
+     * Buffer storing object references.
+     */
+    static class ObjectResultBuffer<T> extends ResultBuffer<T> {
+
+        private final Object[] results;
+
+        ObjectResultBuffer(int length) {
+            results = new Object[length];
+        }
+
+        @Override
+        int length() {
+            return results.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        T get(int position) {
+            return (T) results[position];
+        }
+
+        @Override
+        void set(int position, T result) {
+            results[position] = result;
+        }
+
+        @Override
+        void clear(int position) {
+            results[position] = null;
+        }
+
+        @Override
+        ResultBuffer<T> newBuffer(int length) {
+            return new ObjectResultBuffer<>(length);
+        }
+    }
+
+    /**
+     * Buffer storing decimal results in a primitive {@code double} array.
+     * <p>
+     * Used for the series with {@link Decimal.Backend#DOUBLE double} prices: the results are stored as {@code double}s
+     * and converted back to double-backed decimals when they are read. {@link Decimal#NaN} is stored as a NaN, empty
+     * positions hold a sentinel NaN with another bit pattern.
+     * <p>
+     * The last decimals stored or read at an even and at an odd position are kept, so that reading the same indexes
+     * again (e.g. the current and previous values of a crossing rule) does not convert them again.
+     */
+    static class DecimalResultBuffer extends ResultBuffer<Decimal> {
+
+        /** Bits of the sentinel of the empty positions (a NaN distinct from {@link Double#NaN}) */
+        private static final long EMPTY_BITS = 0x7ff8_0000_0000_0001L;
+
+        private static final double EMPTY = Double.longBitsToDouble(EMPTY_BITS);
+
+        private final double[] values;
+
+        /** Positions of the last stored or read decimals (at even and odd positions), -1 if none */
+        private final int[] readPositions = { -1, -1 };
+
+        /** Last stored or read decimals (at even and odd positions) */
+        private final Decimal[] readResults = new Decimal[2];
+
+        DecimalResultBuffer(int length) {
+            values = new double[length];
+            Arrays.fill(values, EMPTY);
+        }
+
+        @Override
+        int length() {
+            return values.length;
+        }
+
+        @Override
+        Decimal get(int position) {
+            final int parity = position & 1;
+            if (readPositions[parity] == position) {
+                return readResults[parity];
+            }
+            final double value = values[position];
+            if (Double.doubleToRawLongBits(value) == EMPTY_BITS) {
+                return null;
+            }
+            Decimal result = Double.isNaN(value) ? Decimal.NaN : Decimal.Backend.DOUBLE.decimalOf(value);
+            readPositions[parity] = position;
+            readResults[parity] = result;
+            return result;
+        }
+
+        @Override
+        void set(int position, Decimal result) {
+            if (result == null) {
+                clear(position);
+                return;
+            }
+            values[position] = result.isNaN() ? Double.NaN : result.toDouble();
+            if (result.getBackend() == Decimal.Backend.DOUBLE) {
+                // Read back as is
+                readPositions[position & 1] = position;
+                readResults[position & 1] = result;
+            } else {
+                forget(position);
+            }
+        }
+
+        @Override
+        void clear(int position) {
+            values[position] = EMPTY;
+            forget(position);
+        }
+
+        @Override
+        ResultBuffer<Decimal> newBuffer(int length) {
+            return new DecimalResultBuffer(length);
+        }
+
+        @Override
+        int copyTo(int fromIndex, int toIndex, double[] destination, int offset) {
+            int count = 0;
+            for (int index = fromIndex; index <= toIndex; index++, count++) {
+                final double value = values[index % values.length];
+                if (Double.doubleToRawLongBits(value) == EMPTY_BITS) {
+                    break;
+                }
+                destination[offset + count] = value;
+            }
+            return count;
+        }
+
+        /**
+         * @param position a position whose read decimal (if kept) is out of date
+         */
+        private void forget(int position) {
+            if (readPositions[position & 1] == position) {
+                readPositions[position & 1] = -1;
+                readResults[position & 1] = null;
+            }
+        }
+    }
+
+    /**
+     * Buffer storing boolean results in bitsets.
+     * <p>
+     * A first bitset holds the results, a second one holds the "computed" state of the positions.
+     */
+    static class BooleanResultBuffer extends ResultBuffer<Boolean> {
+
+        private final int length;
+
+        private final long[] values;
+
+        private final long[] computed;
+
+        BooleanResultBuffer(int length) {
+            this.length = length;
+            values = new long[(length + 63) >>> 6];
+            computed = new long[values.length];
+        }
+
+        @Override
+        int length() {
+            return length;
+        }
+
+        @Override
+        Boolean get(int position) {
+            final int word = position >>> 6;
+            final long mask = 1L << position;
+            if ((computed[word] & mask) == 0) {
+                return null;
+            }
+            return (values[word] & mask) != 0;
+        }
+
+        @Override
+        void set(int position, Boolean result) {
+            if (result == null) {
+                clear(position);
+                return;
+            }
+            final int word = position >>> 6;
+            final long mask = 1L << position;
+            if (result) {
+                values[word] |= mask;
+            } else {
+                values[word] &= ~mask;
+            }
+            computed[word] |= mask;
+        }
+
+        @Override
+        void clear(int position) {
+            computed[position >>> 6] &= ~(1L << position);
+        }
+
+        @Override
+        ResultBuffer<Boolean> newBuffer(int length) {
+            return new BooleanResultBuffer(length);
+        }
+    }
+}
@@ -24,33 +24,47 @@ package eu.verdelhan.ta4j.indicators;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.RunningSum;
 
 /**
  * Simple moving average (SMA) indicator.
  * <p>
+ * The sum of the values is maintained between consecutive indexes (see {@link RunningSum}).
  */
-public class SMAIndicator extends CachedIndicator<Decimal> {
+public class SMAIndicator extends DecimalCachedIndicator {
 
     private final Indicator<Decimal> indicator;
 
     private final int timeFrame;
 
+    private final RunningSum sum;
+
     public SMAIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
         this.indicator = indicator;
         this.timeFrame = timeFrame;
+        this.sum = new RunningSum(indicator.getTimeSeries(), timeFrame, 0, indicator::getValue);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        Decimal sum = Decimal.ZERO;
-        for (int i = Math.max(0, index - timeFrame + 1); i <= index; i++) {
-            sum = sum.plus(indicator.getValue(i));
-        }
-
         final int realTimeFrame = Math.min(timeFrame, index + 1);
-        return sum.dividedBy(Decimal.valueOf(realTimeFrame));
+        return sum.getSum(index).dividedBy(Decimal.valueOf(realTimeFrame));
+    }
+
+    /**
+     * @return the averaged indicator
+     */
+    public Indicator<Decimal> getIndicator() {
+        return indicator;
+    }
+
+    /**
+     * @return the time frame
+     */
+    public int getTimeFrame() {
+        return timeFrame;
     }
 
     @Override
@@ -58,4 +72,4 @@ public class SMAIndicator extends CachedIndicator<Decimal> {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
     }
 
-}
+}
\ No newline at end of file
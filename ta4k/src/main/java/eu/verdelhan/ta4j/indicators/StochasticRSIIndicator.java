@@ -48,7 +48,7 @@ public class StochasticRSIIndicator extends CachedIndicator<Decimal> {
      * @param timeFrame the time frame
      */
     public StochasticRSIIndicator(TimeSeries series, int timeFrame) {
-        this(new ClosePriceIndicator(series), timeFrame);
+        this(IndicatorRegistry.of(series).get(ClosePriceIndicator.class, () -> new ClosePriceIndicator(series)), timeFrame);
     }
 
     /**
@@ -57,7 +57,7 @@ public class StochasticRSIIndicator extends CachedIndicator<Decimal> {
      * @param timeFrame the time frame
      */
     public StochasticRSIIndicator(Indicator<Decimal> indicator, int timeFrame) {
-        this(new RSIIndicator(indicator, timeFrame), timeFrame);
+        this(IndicatorRegistry.of(indicator.getTimeSeries()).get(RSIIndicator.class, () -> new RSIIndicator(indicator, timeFrame), indicator, timeFrame), timeFrame);
     }
 
     /**
@@ -69,8 +69,9 @@ public class StochasticRSIIndicator extends CachedIndicator<Decimal> {
         super(rsi);
         this.timeFrame = timeFrame;
         this.rsi = rsi;
-        minRsi = new LowestValueIndicator(rsi, this.timeFrame);
-        maxRsi = new HighestValueIndicator(rsi, this.timeFrame);
+        IndicatorRegistry registry = IndicatorRegistry.of(rsi.getTimeSeries());
+        minRsi = registry.get(LowestValueIndicator.class, () -> new LowestValueIndicator(rsi, timeFrame), rsi, timeFrame);
+        maxRsi = registry.get(HighestValueIndicator.class, () -> new HighestValueIndicator(rsi, timeFrame), rsi, timeFrame);
     }
 
     @Override
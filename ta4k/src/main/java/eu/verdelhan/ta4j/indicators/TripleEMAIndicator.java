@@ -37,16 +37,23 @@ public class TripleEMAIndicator extends CachedIndicator<Decimal> {
 
     private final EMAIndicator ema;
 
+    private final EMAIndicator emaEma;
+
+    private final EMAIndicator emaEmaEma;
+
     public TripleEMAIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
         this.timeFrame = timeFrame;
-        this.ema = new EMAIndicator(indicator, timeFrame);
+        IndicatorRegistry registry = IndicatorRegistry.of(indicator.getTimeSeries());
+        EMAIndicator ema = registry.get(EMAIndicator.class, () -> new EMAIndicator(indicator, timeFrame), indicator, timeFrame);
+        EMAIndicator emaEma = registry.get(EMAIndicator.class, () -> new EMAIndicator(ema, timeFrame), ema, timeFrame);
+        this.ema = ema;
+        this.emaEma = emaEma;
+        this.emaEmaEma = registry.get(EMAIndicator.class, () -> new EMAIndicator(emaEma, timeFrame), emaEma, timeFrame);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        EMAIndicator emaEma = new EMAIndicator(ema, timeFrame);
-        EMAIndicator emaEmaEma = new EMAIndicator(emaEma, timeFrame);
         return Decimal.THREE.multipliedBy(ema.getValue(index).minus(emaEma.getValue(index))).plus(emaEmaEma.getValue(index));
     }
 }
@@ -24,11 +24,14 @@ package eu.verdelhan.ta4j.indicators;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
 
 /**
  * WMA indicator.
  * <p>
+ * The weighted sum and the plain sum of the values are maintained between consecutive indexes: when the values are
+ * requested in ascending order of index, each index costs O(1).
  */
 public class WMAIndicator extends CachedIndicator<Decimal> {
 
@@ -36,6 +39,15 @@ public class WMAIndicator extends CachedIndicator<Decimal> {
 
     private Indicator<Decimal> indicator;
 
+    /** Index of the last computed sums */
+    private int lastIndex = -1;
+
+    /** Weighted sum of the values of the last window */
+    private Decimal weightedSum;
+
+    /** Sum of the values of the last window */
+    private Decimal sum;
+
     public WMAIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
         this.indicator = indicator;
@@ -47,21 +59,44 @@ public class WMAIndicator extends CachedIndicator<Decimal> {
         if (index == 0) {
             return indicator.getValue(0);
         }
-        Decimal value = Decimal.ZERO;
-        if(index - timeFrame < 0) {
-            
-            for(int i = index + 1; i > 0; i--) {
-                value = value.plus(Decimal.valueOf(i).multipliedBy(indicator.getValue(i-1)));
-            }
-            return value.dividedBy(Decimal.valueOf(((index + 1) * (index + 2)) / 2));
+        if (timeFrame < 1) {
+            return Decimal.NaN;
         }
-        
-        int actualIndex = index;
-        for(int i = timeFrame; i > 0; i--) {
-            value = value.plus(Decimal.valueOf(i).multipliedBy(indicator.getValue(actualIndex)));
-            actualIndex--;
+        final int windowLength = Math.min(timeFrame, index + 1);
+        if (index == lastIndex + 1 && lastIndex >= 0 && !isExitingValueRemoved(index)
+                && !weightedSum.isNaN() && !sum.isNaN()) {
+            // Sequential access: updating the sums
+            final Decimal value = indicator.getValue(index);
+            if (index >= timeFrame) {
+                // Full window: every weight decreases by 1, the oldest value (weight 1) leaves the window
+                weightedSum = weightedSum.plus(value.multipliedBy(Decimal.valueOf(timeFrame))).minus(sum);
+                sum = sum.plus(value).minus(indicator.getValue(index - timeFrame));
+            } else {
+                weightedSum = weightedSum.plus(value.multipliedBy(Decimal.valueOf(windowLength)));
+                sum = sum.plus(value);
+            }
+        } else {
+            // Random access (or not-a-number value in the last window): computing the sums over the window
+            weightedSum = Decimal.ZERO;
+            sum = Decimal.ZERO;
+            final int startIndex = index - windowLength + 1;
+            for (int i = startIndex; i <= index; i++) {
+                final Decimal value = indicator.getValue(i);
+                weightedSum = weightedSum.plus(Decimal.valueOf(i - startIndex + 1).multipliedBy(value));
+                sum = sum.plus(value);
+            }
         }
-        return value.dividedBy(Decimal.valueOf((timeFrame * (timeFrame + 1)) / 2));
+        lastIndex = index;
+        return weightedSum.dividedBy(Decimal.valueOf((windowLength * (windowLength + 1)) / 2));
+    }
+
+    /**
+     * @param index the index
+     * @return true if the value leaving the window at index is on a tick removed from the series
+     */
+    private boolean isExitingValueRemoved(int index) {
+        TimeSeries series = getTimeSeries();
+        return series != null && index - timeFrame >= 0 && index - timeFrame < series.getRemovedTicksCount();
     }
 
     @Override
@@ -42,31 +42,46 @@ public class WilliamsRIndicator extends CachedIndicator<Decimal> {
 
     private final int timeFrame;
 
-    private MaxPriceIndicator maxPriceIndicator;
+    private final HighestValueIndicator highestHigh;
 
-    private MinPriceIndicator minPriceIndicator;
+    private final LowestValueIndicator lowestMin;
     
     private final static Decimal multiplier = Decimal.valueOf("-100");
 
     public WilliamsRIndicator(TimeSeries timeSeries, int timeFrame) {
-        this(new ClosePriceIndicator(timeSeries), timeFrame, new MaxPriceIndicator(timeSeries), new MinPriceIndicator(
-                timeSeries));
+        this(IndicatorRegistry.of(timeSeries).get(ClosePriceIndicator.class, () -> new ClosePriceIndicator(timeSeries)),
+                timeFrame,
+                IndicatorRegistry.of(timeSeries).get(MaxPriceIndicator.class, () -> new MaxPriceIndicator(timeSeries)),
+                IndicatorRegistry.of(timeSeries).get(MinPriceIndicator.class, () -> new MinPriceIndicator(timeSeries)));
     }
 
     public WilliamsRIndicator(Indicator<Decimal> indicator, int timeFrame,
             MaxPriceIndicator maxPriceIndicator, MinPriceIndicator minPriceIndicator) {
+        this(indicator, timeFrame,
+                IndicatorRegistry.of(maxPriceIndicator.getTimeSeries()).get(HighestValueIndicator.class,
+                        () -> new HighestValueIndicator(maxPriceIndicator, timeFrame), maxPriceIndicator, timeFrame),
+                IndicatorRegistry.of(minPriceIndicator.getTimeSeries()).get(LowestValueIndicator.class,
+                        () -> new LowestValueIndicator(minPriceIndicator, timeFrame), minPriceIndicator, timeFrame));
+    }
+
+    /**
+     * Constructor.
+     * @param indicator the indicator
+     * @param timeFrame the time frame
+     * @param highestHigh the highest max price over the time frame
+     * @param lowestMin the lowest min price over the time frame
+     */
+    public WilliamsRIndicator(Indicator<Decimal> indicator, int timeFrame,
+            HighestValueIndicator highestHigh, LowestValueIndicator lowestMin) {
         super(indicator);
         this.indicator = indicator;
         this.timeFrame = timeFrame;
-        this.maxPriceIndicator = maxPriceIndicator;
-        this.minPriceIndicator = minPriceIndicator;
+        this.highestHigh = highestHigh;
+        this.lowestMin = lowestMin;
     }
 
     @Override
     protected Decimal calculate(int index) {
-        HighestValueIndicator highestHigh = new HighestValueIndicator(maxPriceIndicator, timeFrame);
-        LowestValueIndicator lowestMin = new LowestValueIndicator(minPriceIndicator, timeFrame);
-
         Decimal highestHighPrice = highestHigh.getValue(index);
         Decimal lowestLowPrice = lowestMin.getValue(index);
 
@@ -41,10 +41,15 @@ public class ZLEMAIndicator extends RecursiveCachedIndicator<Decimal> {
     
     private final int lag;
 
+    /** Starting point of the average (shared through the registry of the series) */
+    private final SMAIndicator startSma;
+
     public ZLEMAIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
         this.indicator = indicator;
         this.timeFrame = timeFrame;
+        this.startSma = IndicatorRegistry.of(indicator.getTimeSeries())
+                .get(SMAIndicator.class, () -> new SMAIndicator(indicator, timeFrame), indicator, timeFrame);
         k = Decimal.TWO.dividedBy(Decimal.valueOf(timeFrame + 1));
         lag = (timeFrame - 1) / 2;
     }
@@ -53,7 +58,7 @@ public class ZLEMAIndicator extends RecursiveCachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         if (index + 1 < timeFrame) {
             // Starting point of the ZLEMA
-            return new SMAIndicator(indicator, timeFrame).getValue(index);
+            return startSma.getValue(index);
         }
         if (index == 0) {
             // If the timeframe is bigger than the indicator's value count
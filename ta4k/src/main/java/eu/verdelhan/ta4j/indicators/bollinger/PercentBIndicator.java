@@ -27,6 +27,7 @@ import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
 import eu.verdelhan.ta4j.indicators.statistics.StandardDeviationIndicator;
 import eu.verdelhan.ta4j.indicators.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 
 /**
  * %B indicator.
@@ -51,10 +52,13 @@ public class PercentBIndicator extends CachedIndicator<Decimal> {
     public PercentBIndicator(Indicator<Decimal> indicator, int timeFrame, Decimal k) {
         super(indicator);
         this.indicator = indicator;
-        this.bbm = new BollingerBandsMiddleIndicator(new SMAIndicator(indicator, timeFrame));
-        StandardDeviationIndicator sd = new StandardDeviationIndicator(indicator, timeFrame);
+        IndicatorRegistry registry = IndicatorRegistry.of(indicator.getTimeSeries());
+        this.bbm = new BollingerBandsMiddleIndicator(
+                registry.get(SMAIndicator.class, () -> new SMAIndicator(indicator, timeFrame), indicator, timeFrame));
+        StandardDeviationIndicator sd = registry.get(StandardDeviationIndicator.class,
+                () -> new StandardDeviationIndicator(indicator, timeFrame), indicator, timeFrame);
         this.bbu = new BollingerBandsUpperIndicator(bbm, sd, k);
-        this.bbl = new BollingerBandsLowerIndicator(bbm, sd, k);;
+        this.bbl = new BollingerBandsLowerIndicator(bbm, sd, k);
     }
 
     @Override
@@ -25,14 +25,14 @@ package eu.verdelhan.ta4j.indicators.candles;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.BooleanCachedIndicator;
 
 /**
  * Bearish Harami pattern indicator.
  * <p>
  * @see http://www.investopedia.com/terms/b/bearishharami.asp
  */
-public class BearishHaramiIndicator extends CachedIndicator<Boolean> {
+public class BearishHaramiIndicator extends BooleanCachedIndicator {
 
     private final TimeSeries series;
     
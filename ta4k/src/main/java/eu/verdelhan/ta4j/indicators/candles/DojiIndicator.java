@@ -25,7 +25,7 @@ package eu.verdelhan.ta4j.indicators.candles;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.BooleanCachedIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.AbsoluteIndicator;
 import eu.verdelhan.ta4j.indicators.SMAIndicator;
 
@@ -35,7 +35,7 @@ import eu.verdelhan.ta4j.indicators.SMAIndicator;
  * A candle/tick is considered Doji if its body height is lower than the average multiplied by a factor.
  * @see http://stockcharts.com/school/doku.php?id=chart_school:chart_analysis:introduction_to_candlesticks#doji
  */
-public class DojiIndicator extends CachedIndicator<Boolean> {
+public class DojiIndicator extends BooleanCachedIndicator {
 
     /** Body height */
     private final Indicator<Decimal> bodyHeightInd;
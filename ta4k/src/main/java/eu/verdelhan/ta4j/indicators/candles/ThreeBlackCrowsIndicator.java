@@ -25,7 +25,7 @@ package eu.verdelhan.ta4j.indicators.candles;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.BooleanCachedIndicator;
 import eu.verdelhan.ta4j.indicators.SMAIndicator;
 
 /**
@@ -33,7 +33,7 @@ import eu.verdelhan.ta4j.indicators.SMAIndicator;
  * <p>
  * @see http://www.investopedia.com/terms/t/three_black_crows.asp
  */
-public class ThreeBlackCrowsIndicator extends CachedIndicator<Boolean> {
+public class ThreeBlackCrowsIndicator extends BooleanCachedIndicator {
 
     private final TimeSeries series;
     
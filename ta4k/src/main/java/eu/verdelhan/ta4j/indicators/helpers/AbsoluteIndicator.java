@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Absolute indicator.
  * <p>
  */
-public class AbsoluteIndicator extends CachedIndicator<Decimal> {
+public class AbsoluteIndicator extends DecimalCachedIndicator {
 
     private Indicator<Decimal> indicator;
     
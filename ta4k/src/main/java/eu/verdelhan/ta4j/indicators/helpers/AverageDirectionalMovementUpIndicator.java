@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.RecursiveCachedIndicator;
+import eu.verdelhan.ta4j.indicators.RecursiveDecimalCachedIndicator;
 
 /**
  * Average of {@link DirectionalMovementUpIndicator directional movement up indicator}.
  * <p>
  */
-public class AverageDirectionalMovementUpIndicator extends RecursiveCachedIndicator<Decimal> {
+public class AverageDirectionalMovementUpIndicator extends RecursiveDecimalCachedIndicator {
 
     private final int timeFrame;
 
@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Average gain indicator.
  * <p>
  */
-public class AverageGainIndicator extends CachedIndicator<Decimal> {
+public class AverageGainIndicator extends DecimalCachedIndicator {
 
     private final CumulatedGainsIndicator cumulatedGains;
 
@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Average loss indicator.
  * <p>
  */
-public class AverageLossIndicator extends CachedIndicator<Decimal> {
+public class AverageLossIndicator extends DecimalCachedIndicator {
 
     private final CumulatedLossesIndicator cumulatedLosses;
 
@@ -24,13 +24,14 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.RecursiveCachedIndicator;
+import eu.verdelhan.ta4j.indicators.RecursiveDecimalCachedIndicator;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 
 /**
  * Average true range indicator.
  * <p>
  */
-public class AverageTrueRangeIndicator extends RecursiveCachedIndicator<Decimal> {
+public class AverageTrueRangeIndicator extends RecursiveDecimalCachedIndicator {
 
     private final int timeFrame;
     private final TrueRangeIndicator tr;
@@ -38,7 +39,7 @@ public class AverageTrueRangeIndicator extends RecursiveCachedIndicator<Decimal>
     public AverageTrueRangeIndicator(TimeSeries series, int timeFrame) {
         super(series);
         this.timeFrame = timeFrame;
-        this.tr = new TrueRangeIndicator(series);
+        this.tr = IndicatorRegistry.of(series).get(TrueRangeIndicator.class, () -> new TrueRangeIndicator(series));
     }
     
     @Override
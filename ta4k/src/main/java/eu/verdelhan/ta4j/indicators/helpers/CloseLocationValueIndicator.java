@@ -26,14 +26,14 @@ package eu.verdelhan.ta4j.indicators.helpers;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Close Location Value (CLV) indicator.
  * <p>
  * @see http://www.investopedia.com/terms/c/close_location_value.asp
  */
-public class CloseLocationValueIndicator extends CachedIndicator<Decimal> {
+public class CloseLocationValueIndicator extends DecimalCachedIndicator {
 
     private TimeSeries series;
 
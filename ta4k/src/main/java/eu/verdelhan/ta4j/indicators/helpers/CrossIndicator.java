@@ -24,14 +24,14 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.BooleanCachedIndicator;
 
 /**
  * Cross indicator.
  * <p>
  * Boolean indicator which monitors two-indicators crossings.
  */
-public class CrossIndicator extends CachedIndicator<Boolean> {
+public class CrossIndicator extends BooleanCachedIndicator {
 
     /** Upper indicator */
     private final Indicator<Decimal> up;
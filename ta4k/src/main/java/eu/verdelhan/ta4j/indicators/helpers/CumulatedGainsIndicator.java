@@ -24,32 +24,40 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Cumulated gains indicator.
  * <p>
  */
-public class CumulatedGainsIndicator extends CachedIndicator<Decimal> {
+public class CumulatedGainsIndicator extends DecimalCachedIndicator {
 
     private final Indicator<Decimal> indicator;
 
     private final int timeFrame;
 
+    private final RunningSum sumOfGains;
+
     public CumulatedGainsIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
         this.indicator = indicator;
         this.timeFrame = timeFrame;
+        this.sumOfGains = new RunningSum(indicator.getTimeSeries(), timeFrame, 1, this::gain);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        Decimal sumOfGains = Decimal.ZERO;
-        for (int i = Math.max(1, index - timeFrame + 1); i <= index; i++) {
-            if (indicator.getValue(i).isGreaterThan(indicator.getValue(i - 1))) {
-                sumOfGains = sumOfGains.plus(indicator.getValue(i).minus(indicator.getValue(i - 1)));
-            }
+        return sumOfGains.getSum(index);
+    }
+
+    /**
+     * @param index the index
+     * @return the gain between the previous index and the index (zero if there is no gain)
+     */
+    private Decimal gain(int index) {
+        if (indicator.getValue(index).isGreaterThan(indicator.getValue(index - 1))) {
+            return indicator.getValue(index).minus(indicator.getValue(index - 1));
         }
-        return sumOfGains;
+        return Decimal.ZERO;
     }
 }
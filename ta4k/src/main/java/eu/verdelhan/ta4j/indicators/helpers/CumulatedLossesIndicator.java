@@ -24,32 +24,40 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Cumulated losses indicator.
  * <p>
  */
-public class CumulatedLossesIndicator extends CachedIndicator<Decimal> {
+public class CumulatedLossesIndicator extends DecimalCachedIndicator {
 
     private final Indicator<Decimal> indicator;
 
     private final int timeFrame;
 
+    private final RunningSum sumOfLosses;
+
     public CumulatedLossesIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
         this.indicator = indicator;
         this.timeFrame = timeFrame;
+        this.sumOfLosses = new RunningSum(indicator.getTimeSeries(), timeFrame, 1, this::loss);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        Decimal sumOfLosses = Decimal.ZERO;
-        for (int i = Math.max(1, index - timeFrame + 1); i <= index; i++) {
-            if (indicator.getValue(i).isLessThan(indicator.getValue(i - 1))) {
-                sumOfLosses = sumOfLosses.plus(indicator.getValue(i - 1).minus(indicator.getValue(i)));
-            }
+        return sumOfLosses.getSum(index);
+    }
+
+    /**
+     * @param index the index
+     * @return the loss between the previous index and the index (zero if there is no loss)
+     */
+    private Decimal loss(int index) {
+        if (indicator.getValue(index).isLessThan(indicator.getValue(index - 1))) {
+            return indicator.getValue(index - 1).minus(indicator.getValue(index));
         }
-        return sumOfLosses;
+        return Decimal.ZERO;
     }
 }
@@ -24,14 +24,14 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Difference indicator.
  * <p>
  * I.e.: first - second
  */
-public class DifferenceIndicator extends CachedIndicator<Decimal> {
+public class DifferenceIndicator extends DecimalCachedIndicator {
 
     private Indicator<Decimal> first;
     
@@ -54,4 +54,18 @@ public class DifferenceIndicator extends CachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         return first.getValue(index).minus(second.getValue(index));
     }
+
+    /**
+     * @return the first indicator
+     */
+    public Indicator<Decimal> getFirst() {
+        return first;
+    }
+
+    /**
+     * @return the second indicator (subtracted from the first one)
+     */
+    public Indicator<Decimal> getSecond() {
+        return second;
+    }
 }
@@ -25,13 +25,14 @@ package eu.verdelhan.ta4j.indicators.helpers;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 
 /**
  * Directional down indicator.
  * <p>
  */
-public class DirectionalDownIndicator extends CachedIndicator<Decimal>{
+public class DirectionalDownIndicator extends DecimalCachedIndicator{
 
     private final Indicator<Decimal> admdown;
     private final Indicator<Decimal> atr;
@@ -39,8 +40,10 @@ public class DirectionalDownIndicator extends CachedIndicator<Decimal>{
 
     public DirectionalDownIndicator(TimeSeries series, int timeFrame) {
         super(series);
-        this.admdown = new AverageDirectionalMovementDownIndicator(series, timeFrame);
-        this.atr = new AverageTrueRangeIndicator(series, timeFrame);
+        IndicatorRegistry registry = IndicatorRegistry.of(series);
+        this.admdown = registry.get(AverageDirectionalMovementDownIndicator.class,
+                () -> new AverageDirectionalMovementDownIndicator(series, timeFrame), timeFrame);
+        this.atr = registry.get(AverageTrueRangeIndicator.class, () -> new AverageTrueRangeIndicator(series, timeFrame), timeFrame);
         this.timeFrame = timeFrame;
     }
 
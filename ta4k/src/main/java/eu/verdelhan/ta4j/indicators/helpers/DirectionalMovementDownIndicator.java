@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Directional movement down indicator.
  * <p>
  */
-public class DirectionalMovementDownIndicator extends CachedIndicator<Decimal>{
+public class DirectionalMovementDownIndicator extends DecimalCachedIndicator{
 
     private TimeSeries series;
 
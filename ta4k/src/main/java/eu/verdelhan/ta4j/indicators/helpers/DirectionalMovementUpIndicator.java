@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Directional movement up indicator.
  * <p>
  */
-public class DirectionalMovementUpIndicator extends CachedIndicator<Decimal>
+public class DirectionalMovementUpIndicator extends DecimalCachedIndicator
 {
     private TimeSeries series;
 
@@ -25,13 +25,14 @@ package eu.verdelhan.ta4j.indicators.helpers;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 
 /**
  * Directional up indicator.
  * <p>
  */
-public class DirectionalUpIndicator extends CachedIndicator<Decimal>{
+public class DirectionalUpIndicator extends DecimalCachedIndicator{
 
     private final Indicator<Decimal> admup;
     private final Indicator<Decimal> atr;
@@ -39,8 +40,10 @@ public class DirectionalUpIndicator extends CachedIndicator<Decimal>{
 
     public DirectionalUpIndicator(TimeSeries series, int timeFrame) {
         super(series);
-        this.admup = new AverageDirectionalMovementUpIndicator(series, timeFrame);
-        this.atr = new AverageTrueRangeIndicator(series, timeFrame);
+        IndicatorRegistry registry = IndicatorRegistry.of(series);
+        this.admup = registry.get(AverageDirectionalMovementUpIndicator.class,
+                () -> new AverageDirectionalMovementUpIndicator(series, timeFrame), timeFrame);
+        this.atr = registry.get(AverageTrueRangeIndicator.class, () -> new AverageTrueRangeIndicator(series, timeFrame), timeFrame);
         this.timeFrame = timeFrame;
     }
 
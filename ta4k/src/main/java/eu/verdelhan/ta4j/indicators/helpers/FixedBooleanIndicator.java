@@ -22,16 +22,41 @@
  */
 package eu.verdelhan.ta4j.indicators.helpers;
 
+import java.util.BitSet;
+
 /**
  * A fixed boolean indicator.
+ * <p>
+ * The values are stored in a bitset.
  */
 public class FixedBooleanIndicator extends FixedIndicator<Boolean> {
 
+    private final BitSet values = new BitSet();
+
+    private int valueCount;
+
     /**
      * Constructor.
      * @param values the values to be returned by this indicator
      */
     public FixedBooleanIndicator(Boolean... values) {
-        super(values);
+        super();
+        for (Boolean value : values) {
+            addValue(value);
+        }
+    }
+
+    @Override
+    public void addValue(Boolean value) {
+        values.set(valueCount, value);
+        valueCount++;
+    }
+
+    @Override
+    public Boolean getValue(int index) {
+        if (index < 0 || index >= valueCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + valueCount);
+        }
+        return values.get(index);
     }
 }
@@ -24,34 +24,31 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Highest value indicator.
  * <p>
+ * The highest value of the time frame is tracked with a {@link SlidingWindowExtremum sliding window extremum}.
  */
-public class HighestValueIndicator extends CachedIndicator<Decimal> {
+public class HighestValueIndicator extends DecimalCachedIndicator {
 
     private final Indicator<Decimal> indicator;
 
     private final int timeFrame;
 
+    private final SlidingWindowExtremum highest;
+
     public HighestValueIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
         this.indicator = indicator;
         this.timeFrame = timeFrame;
+        this.highest = new SlidingWindowExtremum(indicator, timeFrame, true);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        int start = Math.max(0, index - timeFrame + 1);
-        Decimal highest = indicator.getValue(start);
-        for (int i = start + 1; i <= index; i++) {
-            if (highest.isLessThan(indicator.getValue(i))) {
-                highest = indicator.getValue(i);
-            }
-        }
-        return highest;
+        return highest.getValue(index);
     }
 
     @Override
@@ -24,34 +24,31 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Lowest value indicator.
  * <p>
+ * The lowest value of the time frame is tracked with a {@link SlidingWindowExtremum sliding window extremum}.
  */
-public class LowestValueIndicator extends CachedIndicator<Decimal> {
+public class LowestValueIndicator extends DecimalCachedIndicator {
 
     private final Indicator<Decimal> indicator;
 
     private final int timeFrame;
 
+    private final SlidingWindowExtremum lowest;
+
     public LowestValueIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
         this.indicator = indicator;
         this.timeFrame = timeFrame;
+        this.lowest = new SlidingWindowExtremum(indicator, timeFrame, false);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        int start = Math.max(0, index - timeFrame + 1);
-        Decimal lowest = indicator.getValue(start);
-        for (int i = start + 1; i <= index; i++) {
-            if (lowest.isGreaterThan(indicator.getValue(i))) {
-                lowest = indicator.getValue(i);
-            }
-        }
-        return lowest;
+        return lowest.getValue(index);
     }
 
     @Override
@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Maximum price indicator.
  * <p>
  */
-public class MaxPriceIndicator extends CachedIndicator<Decimal> {
+public class MaxPriceIndicator extends DecimalCachedIndicator {
 
     private TimeSeries series;
 
@@ -43,4 +43,16 @@ public class MaxPriceIndicator extends CachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         return series.getTick(index).getMaxPrice();
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The prices are read from the ticks (without caching).
+     */
+    @Override
+    public void getValues(int beginIndex, int endIndex, double[] values) {
+        for (int i = beginIndex; i <= endIndex; i++) {
+            values[i - beginIndex] = series.getTick(i).getMaxPrice().toDouble();
+        }
+    }
 }
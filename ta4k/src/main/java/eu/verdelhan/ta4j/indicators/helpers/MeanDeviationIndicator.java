@@ -24,15 +24,16 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 import eu.verdelhan.ta4j.indicators.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 
 /**
  * Mean deviation indicator.
  * <p>
  * @see http://en.wikipedia.org/wiki/Mean_absolute_deviation#Average_absolute_deviation
  */
-public class MeanDeviationIndicator extends CachedIndicator<Decimal> {
+public class MeanDeviationIndicator extends DecimalCachedIndicator {
 
     private Indicator<Decimal> indicator;
 
@@ -49,7 +50,7 @@ public class MeanDeviationIndicator extends CachedIndicator<Decimal> {
         super(indicator);
         this.indicator = indicator;
         this.timeFrame = timeFrame;
-        sma = new SMAIndicator(indicator, timeFrame);
+        sma = IndicatorRegistry.of(indicator.getTimeSeries()).get(SMAIndicator.class, () -> new SMAIndicator(indicator, timeFrame), indicator, timeFrame);
     }
 
     @Override
@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Average high-low indicator.
  * <p>
  */
-public class MedianPriceIndicator extends CachedIndicator<Decimal> {
+public class MedianPriceIndicator extends DecimalCachedIndicator {
 
     private TimeSeries series;
 
@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Simple multiplier indicator.
  * <p>
  */
-public class MultiplierIndicator extends CachedIndicator<Decimal> {
+public class MultiplierIndicator extends DecimalCachedIndicator {
 
     private Indicator<Decimal> indicator;
     
@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Open price indicator.
  * <p>
  */
-public class OpenPriceIndicator extends CachedIndicator<Decimal> {
+public class OpenPriceIndicator extends DecimalCachedIndicator {
 
     private TimeSeries series;
 
@@ -43,4 +43,16 @@ public class OpenPriceIndicator extends CachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         return series.getTick(index).getOpenPrice();
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The prices are read from the ticks (without caching).
+     */
+    @Override
+    public void getValues(int beginIndex, int endIndex, double[] values) {
+        for (int i = beginIndex; i <= endIndex; i++) {
+            values[i - beginIndex] = series.getTick(i).getOpenPrice().toDouble();
+        }
+    }
 }
\ No newline at end of file
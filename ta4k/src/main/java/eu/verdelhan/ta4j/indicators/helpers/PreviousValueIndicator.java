@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Indicator;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Returns the previous (n-th) value of an indicator
  * <p>
  */
-public class PreviousValueIndicator extends CachedIndicator<Decimal> {
+public class PreviousValueIndicator extends DecimalCachedIndicator {
 
     private int n;
     private Indicator<Decimal> indicator;
@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Price variation indicator.
  * <p>
  */
-public class PriceVariationIndicator extends CachedIndicator<Decimal> {
+public class PriceVariationIndicator extends DecimalCachedIndicator {
 
     private TimeSeries series;
 
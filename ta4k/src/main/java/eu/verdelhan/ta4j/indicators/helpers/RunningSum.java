@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.helpers;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.TimeSeries;
+import java.util.function.IntFunction;
+
+/**
+ * Sum of the terms of a sliding window (time frame) of indexes.
+ * <p>
+ * When the sums are requested in ascending order of index (i.e. sequential evaluation of an indicator), the sum
+ * of an index is computed from the sum of the previous one: the entering term is added and the exiting one is
+ * subtracted (O(1) per index).
+ * Otherwise (random access, exiting term on a removed tick, not-a-number term or previous sum, etc.) all the terms
+ * of the window are summed.
+ */
+public class RunningSum {
+
+    private final TimeSeries series;
+
+    private final int timeFrame;
+
+    private final int firstIndex;
+
+    private final IntFunction<Decimal> term;
+
+    /** Index of the last computed sum */
+    private int lastIndex = -1;
+
+    /** Last computed sum */
+    private Decimal lastSum;
+
+    /**
+     * Constructor.
+     * @param series the related time series (used to detect the removed ticks, may be null)
+     * @param timeFrame the time frame
+     * @param firstIndex the index of the first term
+     * @param term the term of an index
+     */
+    public RunningSum(TimeSeries series, int timeFrame, int firstIndex, IntFunction<Decimal> term) {
+        this.series = series;
+        this.timeFrame = timeFrame;
+        this.firstIndex = firstIndex;
+        this.term = term;
+    }
+
+    /**
+     * @param index the index
+     * @return the sum of the terms from max(firstIndex, index - timeFrame + 1) to index
+     */
+    public Decimal getSum(int index) {
+        Decimal sum = null;
+        if (lastIndex >= 0 && index == lastIndex + 1 && !lastSum.isNaN()) {
+            sum = lastSum;
+            if (index >= firstIndex) {
+                sum = plusTerm(sum, index, false);
+            }
+            final int exitingIndex = index - timeFrame;
+            if (sum != null && exitingIndex >= firstIndex) {
+                if (series != null && exitingIndex < series.getRemovedTicksCount()) {
+                    // The exiting term is not available anymore
+                    sum = null;
+                } else {
+                    sum = plusTerm(sum, exitingIndex, true);
+                }
+            }
+        }
+        if (sum == null) {
+            sum = sumOfWindow(index);
+        }
+        lastIndex = index;
+        lastSum = sum;
+        return sum;
+    }
+
+    /**
+     * @param sum a sum
+     * @param index the index of a term
+     * @param exiting true to subtract the term, false to add it
+     * @return the updated sum, null if the term is not-a-number (the sum of the window must be computed, so that
+     *         a not-a-number term doesn't stick to the next sums)
+     */
+    private Decimal plusTerm(Decimal sum, int index, boolean exiting) {
+        Decimal value = term.apply(index);
+        if (value.isNaN()) {
+            return null;
+        }
+        return exiting ? sum.minus(value) : sum.plus(value);
+    }
+
+    /**
+     * @param index the index
+     * @return the sum of the terms of the window ending at index
+     */
+    private Decimal sumOfWindow(int index) {
+        Decimal sum = Decimal.ZERO;
+        for (int i = Math.max(firstIndex, index - timeFrame + 1); i <= index; i++) {
+            sum = sum.plus(term.apply(i));
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,192 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.helpers;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+
+/**
+ * Extremum (highest or lowest value) of a sliding window (time frame) of indicator values.
+ * <p>
+ * The candidates of the window are kept in a monotonic deque: each value is compared to the values entered before
+ * it, and the values which cannot be the extremum anymore are dropped. When the extrema are requested in ascending
+ * order of index (i.e. sequential evaluation of an indicator), the cost is amortized O(1) per index.
+ * Otherwise (random access) the deque is rebuilt from all the values of the window.
+ * <p>
+ * The deque keeps the values with their indexes, so the extrema remain exact when the first ticks of the window
+ * are removed from a moving time series.
+ * When several values of the window are equal to the extremum, the first one is kept (unless the last one is
+ * requested, e.g. for the number of ticks since the extremum).
+ * <p>
+ * Not-a-number values are not candidates. As in a scan of the window starting from its first value, the extremum
+ * is not-a-number if the first value of the window is.
+ */
+public class SlidingWindowExtremum {
+
+    /** Initial capacity of the deque */
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Indicator<Decimal> indicator;
+
+    private final int timeFrame;
+
+    private final boolean highest;
+
+    private final boolean lastOnTies;
+
+    /** Indexes of the candidates (circular buffer) */
+    private int[] indexes = new int[INITIAL_CAPACITY];
+
+    /** Values of the candidates (circular buffer) */
+    private Decimal[] values = new Decimal[INITIAL_CAPACITY];
+
+    /** Position of the first candidate */
+    private int head;
+
+    /** Number of candidates */
+    private int size;
+
+    /** Index of the last window */
+    private int lastIndex = -1;
+
+    /**
+     * Constructor.
+     * @param indicator the indicator
+     * @param timeFrame the time frame
+     * @param highest true to track the highest value, false to track the lowest one
+     */
+    public SlidingWindowExtremum(Indicator<Decimal> indicator, int timeFrame, boolean highest) {
+        this(indicator, timeFrame, highest, false);
+    }
+
+    /**
+     * Constructor.
+     * @param indicator the indicator
+     * @param timeFrame the time frame
+     * @param highest true to track the highest value, false to track the lowest one
+     * @param lastOnTies true to keep the last of several values equal to the extremum, false to keep the first one
+     */
+    public SlidingWindowExtremum(Indicator<Decimal> indicator, int timeFrame, boolean highest, boolean lastOnTies) {
+        this.indicator = indicator;
+        this.timeFrame = timeFrame;
+        this.highest = highest;
+        this.lastOnTies = lastOnTies;
+    }
+
+    /**
+     * @param index the index
+     * @return the extremum of the values from max(0, index - timeFrame + 1) to index (not-a-number if the first
+     *         value of the window is not-a-number)
+     */
+    public Decimal getValue(int index) {
+        moveTo(index);
+        if (size == 0 || indicator.getValue(Math.max(0, index - timeFrame + 1)).isNaN()) {
+            return Decimal.NaN;
+        }
+        return values[head];
+    }
+
+    /**
+     * @param index the index
+     * @return the index of the (first or last) extremum of the values from max(0, index - timeFrame + 1) to index
+     *         (the not-a-number values being ignored), -1 if all the values are not-a-number
+     */
+    public int getIndex(int index) {
+        moveTo(index);
+        return size == 0 ? -1 : indexes[head];
+    }
+
+    /**
+     * Moves the window so that it ends at index.
+     * @param index the last index of the window
+     */
+    private void moveTo(int index) {
+        if (index == lastIndex) {
+            return;
+        }
+        final int start = Math.max(0, index - timeFrame + 1);
+        if (lastIndex >= 0 && index == lastIndex + 1) {
+            // Sequential access
+            push(index, indicator.getValue(index));
+            while (size > 0 && indexes[head] < start) {
+                head = (head + 1) % indexes.length;
+                size--;
+            }
+        } else {
+            // Random access: rebuilding the deque
+            size = 0;
+            for (int i = start; i <= index; i++) {
+                push(i, indicator.getValue(i));
+            }
+        }
+        lastIndex = index;
+    }
+
+    /**
+     * Pushes a value at the end of the deque, dropping the candidates it supersedes.
+     * @param index the index of the value
+     * @param value the value (not pushed if not-a-number)
+     */
+    private void push(int index, Decimal value) {
+        if (value.isNaN()) {
+            return;
+        }
+        while (size > 0 && supersedes(value, values[(head + size - 1) % values.length])) {
+            size--;
+        }
+        if (size == indexes.length) {
+            increaseCapacity();
+        }
+        final int position = (head + size) % indexes.length;
+        indexes[position] = index;
+        values[position] = value;
+        size++;
+    }
+
+    /**
+     * @param value a value
+     * @param candidate a candidate entered before the value
+     * @return true if the candidate cannot be the extremum of a window including the value
+     */
+    private boolean supersedes(Decimal value, Decimal candidate) {
+        if (lastOnTies) {
+            return highest ? candidate.isLessThanOrEqual(value) : candidate.isGreaterThanOrEqual(value);
+        }
+        return highest ? candidate.isLessThan(value) : candidate.isGreaterThan(value);
+    }
+
+    /**
+     * Doubles the capacity of the deque.
+     */
+    private void increaseCapacity() {
+        int[] newIndexes = new int[indexes.length * 2];
+        Decimal[] newValues = new Decimal[values.length * 2];
+        for (int i = 0; i < size; i++) {
+            newIndexes[i] = indexes[(head + i) % indexes.length];
+            newValues[i] = values[(head + i) % values.length];
+        }
+        indexes = newIndexes;
+        values = newValues;
+        head = 0;
+    }
+}
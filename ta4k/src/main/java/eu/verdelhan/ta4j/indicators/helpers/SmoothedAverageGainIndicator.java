@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Indicator;
-import eu.verdelhan.ta4j.indicators.RecursiveCachedIndicator;
+import eu.verdelhan.ta4j.indicators.RecursiveDecimalCachedIndicator;
 
 /**
  * Average gain indicator calculated using smoothing
  * <p>
  */
-public class SmoothedAverageGainIndicator extends RecursiveCachedIndicator<Decimal> {
+public class SmoothedAverageGainIndicator extends RecursiveDecimalCachedIndicator {
 
     private final AverageGainIndicator averageGains;
     private final Indicator<Decimal> indicator;
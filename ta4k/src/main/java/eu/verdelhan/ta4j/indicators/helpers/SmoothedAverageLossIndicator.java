@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Indicator;
-import eu.verdelhan.ta4j.indicators.RecursiveCachedIndicator;
+import eu.verdelhan.ta4j.indicators.RecursiveDecimalCachedIndicator;
 
 /**
  * Average loss indicator calculated using smoothing
  * <p>
  */
-public class SmoothedAverageLossIndicator extends RecursiveCachedIndicator<Decimal> {
+public class SmoothedAverageLossIndicator extends RecursiveDecimalCachedIndicator {
 
     private final AverageLossIndicator averageLosses;
     private final Indicator<Decimal> indicator;
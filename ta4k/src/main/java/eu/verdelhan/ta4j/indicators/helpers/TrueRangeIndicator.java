@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * True range indicator.
  * <p>
  */
-public class TrueRangeIndicator extends CachedIndicator<Decimal>{
+public class TrueRangeIndicator extends DecimalCachedIndicator{
 
     private TimeSeries series;
 
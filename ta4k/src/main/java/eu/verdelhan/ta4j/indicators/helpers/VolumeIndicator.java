@@ -24,17 +24,19 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.DecimalCachedIndicator;
 
 /**
  * Volume indicator.
  * <p>
  */
-public class VolumeIndicator extends CachedIndicator<Decimal> {
+public class VolumeIndicator extends DecimalCachedIndicator {
 
     private TimeSeries series;
 
     private int timeFrame;
+
+    private final RunningSum sumOfVolume;
     
     public VolumeIndicator(TimeSeries series) {
         this(series, 1);
@@ -44,15 +46,14 @@ public class VolumeIndicator extends CachedIndicator<Decimal> {
         super(series);
         this.series = series;
         this.timeFrame = timeFrame;
+        this.sumOfVolume = new RunningSum(series, timeFrame, 0, i -> series.getTick(i).getVolume());
     }
 
     @Override
     protected Decimal calculate(int index) {
-        int startIndex = Math.max(0, index - timeFrame + 1);
-        Decimal sumOfVolume = Decimal.ZERO;
-        for (int i = startIndex; i <= index; i++) {
-            sumOfVolume = sumOfVolume.plus(series.getTick(i).getVolume());
+        if (timeFrame == 1) {
+            return series.getTick(index).getVolume();
         }
-        return sumOfVolume;
+        return sumOfVolume.getSum(index);
     }
 }
\ No newline at end of file
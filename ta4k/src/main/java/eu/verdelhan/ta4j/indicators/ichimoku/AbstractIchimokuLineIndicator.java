@@ -30,6 +30,7 @@ import eu.verdelhan.ta4j.indicators.helpers.HighestValueIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.LowestValueIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.MaxPriceIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.MinPriceIndicator;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 
 /**
  * An abstract class for Ichimoku clouds indicators.
@@ -51,8 +52,11 @@ public abstract class AbstractIchimokuLineIndicator extends CachedIndicator<Deci
      */
     public AbstractIchimokuLineIndicator(TimeSeries series, int timeFrame) {
         super(series);
-        periodHigh = new HighestValueIndicator(new MaxPriceIndicator(series), timeFrame);
-        periodLow = new LowestValueIndicator(new MinPriceIndicator(series), timeFrame);
+        IndicatorRegistry registry = IndicatorRegistry.of(series);
+        MaxPriceIndicator maxPrice = registry.get(MaxPriceIndicator.class, () -> new MaxPriceIndicator(series));
+        MinPriceIndicator minPrice = registry.get(MinPriceIndicator.class, () -> new MinPriceIndicator(series));
+        periodHigh = registry.get(HighestValueIndicator.class, () -> new HighestValueIndicator(maxPrice, timeFrame), maxPrice, timeFrame);
+        periodLow = registry.get(LowestValueIndicator.class, () -> new LowestValueIndicator(minPrice, timeFrame), minPrice, timeFrame);
     }
 
     @Override
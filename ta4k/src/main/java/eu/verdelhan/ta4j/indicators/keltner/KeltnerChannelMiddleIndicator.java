@@ -28,6 +28,7 @@ import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.TypicalPriceIndicator;
 import eu.verdelhan.ta4j.indicators.EMAIndicator;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 
 /**
  * Keltner Channel (middle line) indicator
@@ -38,12 +39,12 @@ public class KeltnerChannelMiddleIndicator extends CachedIndicator<Decimal> {
     private final EMAIndicator emaIndicator;
 
     public KeltnerChannelMiddleIndicator(TimeSeries series, int timeFrameEMA) {
-        this(new TypicalPriceIndicator(series), timeFrameEMA);
+        this(IndicatorRegistry.of(series).get(TypicalPriceIndicator.class, () -> new TypicalPriceIndicator(series)), timeFrameEMA);
     }
 
     public KeltnerChannelMiddleIndicator(Indicator<Decimal> indicator, int timeFrameEMA) {
         super(indicator);
-        emaIndicator = new EMAIndicator(indicator, timeFrameEMA);
+        emaIndicator = IndicatorRegistry.of(indicator.getTimeSeries()).get(EMAIndicator.class, () -> new EMAIndicator(indicator, timeFrameEMA), indicator, timeFrameEMA);
     }
 
     @Override
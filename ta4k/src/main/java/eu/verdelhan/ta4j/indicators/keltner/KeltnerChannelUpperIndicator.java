@@ -23,8 +23,10 @@
 package eu.verdelhan.ta4j.indicators.keltner;
 
 import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.AverageTrueRangeIndicator;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 
 /**
  * Keltner Channel (upper line) indicator
@@ -42,7 +44,8 @@ public class KeltnerChannelUpperIndicator extends CachedIndicator<Decimal> {
         super(keltnerMiddleIndicator);
         this.ratio = ratio;
         this.keltnerMiddleIndicator = keltnerMiddleIndicator;
-        averageTrueRangeIndicator = new AverageTrueRangeIndicator(keltnerMiddleIndicator.getTimeSeries(), timeFrameATR);
+        TimeSeries series = keltnerMiddleIndicator.getTimeSeries();
+        averageTrueRangeIndicator = IndicatorRegistry.of(series).get(AverageTrueRangeIndicator.class, () -> new AverageTrueRangeIndicator(series, timeFrameATR), timeFrameATR);
     }
 
     @Override
@@ -30,14 +30,12 @@ import eu.verdelhan.ta4j.indicators.CachedIndicator;
  * Correlation coefficient indicator.
  * <p>
  * See also: http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:correlation_coeffici
+ * <p>
+ * The covariance and the variances are computed from the same {@link RollingMoments rolling moments}.
  */
 public class CorrelationCoefficientIndicator extends CachedIndicator<Decimal> {
 
-    private VarianceIndicator variance1;
-    
-    private VarianceIndicator variance2;
-    
-    private CovarianceIndicator covariance;
+    private RollingMoments moments;
     
     /**
      * Constructor.
@@ -47,17 +45,16 @@ public class CorrelationCoefficientIndicator extends CachedIndicator<Decimal> {
      */
     public CorrelationCoefficientIndicator(Indicator<Decimal> indicator1, Indicator<Decimal> indicator2, int timeFrame) {
         super(indicator1);
-        variance1 = new VarianceIndicator(indicator1, timeFrame);
-        variance2 = new VarianceIndicator(indicator2, timeFrame);
-        covariance = new CovarianceIndicator(indicator1, indicator2, timeFrame);
+        moments = new RollingMoments(indicator1, indicator2, timeFrame);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        Decimal cov = covariance.getValue(index);
-        Decimal var1 = variance1.getValue(index);
-        Decimal var2 = variance2.getValue(index);
+        // cov / sqrt(var1 * var2), the number of observations cancels out
+        Decimal coMoment = moments.getCoMoment(index);
+        Decimal m2X = moments.getM2X(index);
+        Decimal m2Y = moments.getM2Y(index);
         
-        return cov.dividedBy(var1.multipliedBy(var2).sqrt());
+        return coMoment.dividedBy(m2X.multipliedBy(m2Y).sqrt());
     }
 }
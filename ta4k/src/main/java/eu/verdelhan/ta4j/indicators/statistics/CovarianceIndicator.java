@@ -25,23 +25,17 @@ package eu.verdelhan.ta4j.indicators.statistics;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
-import eu.verdelhan.ta4j.indicators.SMAIndicator;
 
 /**
  * Covariance indicator.
  * <p>
+ * The covariance is computed from the {@link RollingMoments rolling moments} of the time frame.
  */
 public class CovarianceIndicator extends CachedIndicator<Decimal> {
 
-    private Indicator<Decimal> indicator1;
-    
-    private Indicator<Decimal> indicator2;
-
     private int timeFrame;
 
-    private SMAIndicator sma1;
-    
-    private SMAIndicator sma2;
+    private RollingMoments moments;
 
     /**
      * Constructor.
@@ -51,26 +45,13 @@ public class CovarianceIndicator extends CachedIndicator<Decimal> {
      */
     public CovarianceIndicator(Indicator<Decimal> indicator1, Indicator<Decimal> indicator2, int timeFrame) {
         super(indicator1);
-        this.indicator1 = indicator1;
-        this.indicator2 = indicator2;
         this.timeFrame = timeFrame;
-        sma1 = new SMAIndicator(indicator1, timeFrame);
-        sma2 = new SMAIndicator(indicator2, timeFrame);
+        moments = new RollingMoments(indicator1, indicator2, timeFrame);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        final int startIndex = Math.max(0, index - timeFrame + 1);
-        final int numberOfObservations = index - startIndex + 1;
-        Decimal covariance = Decimal.ZERO;
-        Decimal average1 = sma1.getValue(index);
-        Decimal average2 = sma2.getValue(index);
-        for (int i = startIndex; i <= index; i++) {
-            Decimal mul = indicator1.getValue(i).minus(average1).multipliedBy(indicator2.getValue(i).minus(average2));
-            covariance = covariance.plus(mul);
-        }
-        covariance = covariance.dividedBy(Decimal.valueOf(numberOfObservations));
-        return covariance;
+        return moments.getCovariance(index);
     }
 
     @Override
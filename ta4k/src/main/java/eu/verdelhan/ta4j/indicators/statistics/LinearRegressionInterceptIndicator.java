@@ -0,0 +1,61 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.statistics;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.CachedIndicator;
+
+/**
+ * Linear regression intercept indicator.
+ * <p>
+ * Intercept (at tick index 0) of the moving (i.e. over the time frame) simple linear regression line.
+ * Indicators built on the same {@link RollingRegression rolling regression} share its computation.
+ */
+public class LinearRegressionInterceptIndicator extends CachedIndicator<Decimal> {
+
+    private final RollingRegression regression;
+
+    /**
+     * Constructor.
+     * @param indicator the indicator
+     * @param timeFrame the time frame
+     */
+    public LinearRegressionInterceptIndicator(Indicator<Decimal> indicator, int timeFrame) {
+        this(new RollingRegression(indicator, timeFrame));
+    }
+
+    /**
+     * Constructor.
+     * @param regression the (shared) rolling regression
+     */
+    public LinearRegressionInterceptIndicator(RollingRegression regression) {
+        super(regression.getIndicator());
+        this.regression = regression;
+    }
+
+    @Override
+    protected Decimal calculate(int index) {
+        return regression.getIntercept(index);
+    }
+}
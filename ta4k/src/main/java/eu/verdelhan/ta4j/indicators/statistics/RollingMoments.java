@@ -0,0 +1,279 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.statistics;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+import java.util.function.IntFunction;
+
+/**
+ * Rolling moments of a sliding window (time frame) of observations.
+ * <p>
+ * Maintains the count, the means, the sums of squared deviations and the co-moment of one or two series of
+ * observations, using Welford's (numerically stable) updates.
+ * When the moments are requested in ascending order of index (i.e. sequential evaluation of an indicator), the
+ * entering observation is added and the exiting one is removed (O(1) per index).
+ * Otherwise (random access, exiting observation on a removed tick, not-a-number moments, etc.) the moments are
+ * computed from all the observations of the window, so that a not-a-number observation only affects the windows
+ * containing it.
+ */
+public class RollingMoments {
+
+    private final TimeSeries series;
+
+    private final IntFunction<Decimal> x;
+
+    /** Second series of observations (null for univariate moments) */
+    private final IntFunction<Decimal> y;
+
+    private final int timeFrame;
+
+    /** Index of the last window */
+    private int lastIndex = -1;
+
+    private int count;
+
+    private Decimal meanX;
+
+    private Decimal meanY;
+
+    /** Sum of the squared deviations from the mean of x */
+    private Decimal m2X;
+
+    /** Sum of the squared deviations from the mean of y */
+    private Decimal m2Y;
+
+    /** Sum of the products of the deviations from the means of x and y */
+    private Decimal coMoment;
+
+    /**
+     * Constructor (univariate moments).
+     * @param indicator the observations
+     * @param timeFrame the time frame
+     */
+    public RollingMoments(Indicator<Decimal> indicator, int timeFrame) {
+        this(indicator.getTimeSeries(), indicator::getValue, null, timeFrame);
+    }
+
+    /**
+     * Constructor (bivariate moments).
+     * @param indicator1 the first observations (x)
+     * @param indicator2 the second observations (y)
+     * @param timeFrame the time frame
+     */
+    public RollingMoments(Indicator<Decimal> indicator1, Indicator<Decimal> indicator2, int timeFrame) {
+        this(indicator1.getTimeSeries(), indicator1::getValue, indicator2::getValue, timeFrame);
+    }
+
+    /**
+     * Constructor.
+     * @param series the related time series (used to detect the removed ticks, may be null)
+     * @param x the first observation of an index
+     * @param y the second observation of an index (null for univariate moments)
+     * @param timeFrame the time frame
+     */
+    public RollingMoments(TimeSeries series, IntFunction<Decimal> x, IntFunction<Decimal> y, int timeFrame) {
+        this.series = series;
+        this.x = x;
+        this.y = y;
+        this.timeFrame = timeFrame;
+    }
+
+    /**
+     * @param index the index
+     * @return the number of observations of the window ending at index
+     */
+    public int getCount(int index) {
+        moveTo(index);
+        return count;
+    }
+
+    /**
+     * @param index the index
+     * @return the mean of the first observations of the window ending at index
+     */
+    public Decimal getMeanX(int index) {
+        moveTo(index);
+        return meanX;
+    }
+
+    /**
+     * @param index the index
+     * @return the mean of the second observations of the window ending at index
+     */
+    public Decimal getMeanY(int index) {
+        moveTo(index);
+        return meanY;
+    }
+
+    /**
+     * @param index the index
+     * @return the sum of the squared deviations of the first observations of the window ending at index
+     */
+    public Decimal getM2X(int index) {
+        moveTo(index);
+        return m2X;
+    }
+
+    /**
+     * @param index the index
+     * @return the sum of the squared deviations of the second observations of the window ending at index
+     */
+    public Decimal getM2Y(int index) {
+        moveTo(index);
+        return m2Y;
+    }
+
+    /**
+     * @param index the index
+     * @return the co-moment (sum of the products of the deviations) of the window ending at index
+     */
+    public Decimal getCoMoment(int index) {
+        moveTo(index);
+        return coMoment;
+    }
+
+    /**
+     * @param index the index
+     * @return the (population) variance of the first observations of the window ending at index
+     */
+    public Decimal getVarianceX(int index) {
+        moveTo(index);
+        return m2X.dividedBy(Decimal.valueOf(count));
+    }
+
+    /**
+     * @param index the index
+     * @return the (population) variance of the second observations of the window ending at index
+     */
+    public Decimal getVarianceY(int index) {
+        moveTo(index);
+        return m2Y.dividedBy(Decimal.valueOf(count));
+    }
+
+    /**
+     * @param index the index
+     * @return the (population) covariance of the observations of the window ending at index
+     */
+    public Decimal getCovariance(int index) {
+        moveTo(index);
+        return coMoment.dividedBy(Decimal.valueOf(count));
+    }
+
+    /**
+     * Moves the window so that it ends at index.
+     * @param index the last index of the window
+     */
+    private void moveTo(int index) {
+        if (index == lastIndex) {
+            return;
+        }
+        final int exitingIndex = index - timeFrame;
+        if (lastIndex >= 0 && index == lastIndex + 1 && !isNaN()
+                && (exitingIndex < 0 || series == null || exitingIndex >= series.getRemovedTicksCount())) {
+            // Sequential access
+            add(index);
+            if (exitingIndex >= 0) {
+                remove(exitingIndex);
+            }
+        } else {
+            // Random access: computing the moments of the window
+            reset();
+            for (int i = Math.max(0, index - timeFrame + 1); i <= index; i++) {
+                add(i);
+            }
+        }
+        lastIndex = index;
+    }
+
+    /**
+     * @return true if the moments are not-a-number (i.e. a not-a-number observation entered the window), false
+     *         otherwise
+     */
+    private boolean isNaN() {
+        return meanX.isNaN() || m2X.isNaN() || meanY.isNaN() || m2Y.isNaN() || coMoment.isNaN();
+    }
+
+    private void reset() {
+        count = 0;
+        meanX = Decimal.ZERO;
+        meanY = Decimal.ZERO;
+        m2X = Decimal.ZERO;
+        m2Y = Decimal.ZERO;
+        coMoment = Decimal.ZERO;
+    }
+
+    /**
+     * Adds the observations of an index to the window.
+     * @param index the index
+     */
+    private void add(int index) {
+        count++;
+        final Decimal n = Decimal.valueOf(count);
+        final Decimal valueX = x.apply(index);
+        final Decimal deltaX = valueX.minus(meanX);
+        meanX = meanX.plus(deltaX.dividedBy(n));
+        m2X = m2X.plus(deltaX.multipliedBy(valueX.minus(meanX)));
+        if (y != null) {
+            final Decimal valueY = y.apply(index);
+            final Decimal deltaY = valueY.minus(meanY);
+            meanY = meanY.plus(deltaY.dividedBy(n));
+            m2Y = m2Y.plus(deltaY.multipliedBy(valueY.minus(meanY)));
+            coMoment = coMoment.plus(deltaX.multipliedBy(valueY.minus(meanY)));
+        }
+    }
+
+    /**
+     * Removes the observations of an index from the window.
+     * @param index the index
+     */
+    private void remove(int index) {
+        if (count <= 1) {
+            reset();
+            return;
+        }
+        count--;
+        final Decimal n = Decimal.valueOf(count);
+        final Decimal valueX = x.apply(index);
+        final Decimal deltaX = valueX.minus(meanX);
+        meanX = meanX.minus(deltaX.dividedBy(n));
+        m2X = nonNegative(m2X.minus(deltaX.multipliedBy(valueX.minus(meanX))));
+        if (y != null) {
+            final Decimal valueY = y.apply(index);
+            final Decimal deltaY = valueY.minus(meanY);
+            // Co-moment updated with the mean of y before removal
+            coMoment = coMoment.minus(valueX.minus(meanX).multipliedBy(deltaY));
+            meanY = meanY.minus(deltaY.dividedBy(n));
+            m2Y = nonNegative(m2Y.minus(deltaY.multipliedBy(valueY.minus(meanY))));
+        }
+    }
+
+    /**
+     * @param sumOfSquares a sum of squared deviations
+     * @return the sum, or zero if rounding errors made it negative
+     */
+    private static Decimal nonNegative(Decimal sumOfSquares) {
+        return sumOfSquares.isNegative() ? Decimal.ZERO : sumOfSquares;
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.statistics;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+
+/**
+ * Rolling simple linear regression (least squares) of indicator values over the tick indexes.
+ * <p>
+ * y = slope * x + intercept, where x is the tick index and y the indicator value.
+ * <p>
+ * The regression is computed from the {@link RollingMoments rolling moments} of (x, y) over the time frame, so each
+ * new index costs O(1) when the indexes are requested in ascending order.
+ * A single instance can be shared by the regression indicators (slope, intercept, R², forecast) of the same
+ * indicator and time frame, so that they share one computation.
+ * The methods are synchronized: the moments are updated and read atomically.
+ */
+public class RollingRegression {
+
+    private final Indicator<Decimal> indicator;
+
+    private final int timeFrame;
+
+    private final RollingMoments moments;
+
+    /**
+     * Constructor.
+     * @param indicator the indicator (y values)
+     * @param timeFrame the time frame
+     */
+    public RollingRegression(Indicator<Decimal> indicator, int timeFrame) {
+        this.indicator = indicator;
+        this.timeFrame = timeFrame;
+        this.moments = new RollingMoments(indicator.getTimeSeries(), Decimal::valueOf, indicator::getValue, timeFrame);
+    }
+
+    /**
+     * @return the indicator (y values)
+     */
+    public Indicator<Decimal> getIndicator() {
+        return indicator;
+    }
+
+    /**
+     * @return the time frame
+     */
+    public int getTimeFrame() {
+        return timeFrame;
+    }
+
+    /**
+     * @param index the index
+     * @return the slope of the regression line of the time frame ending at index (NaN if less than 2 observations)
+     */
+    public synchronized Decimal getSlope(int index) {
+        if (moments.getCount(index) < 2) {
+            // Not enough observations to compute a regression line
+            return Decimal.NaN;
+        }
+        return moments.getCoMoment(index).dividedBy(moments.getM2X(index));
+    }
+
+    /**
+     * @param index the index
+     * @return the intercept (at tick index 0) of the regression line of the time frame ending at index
+     */
+    public synchronized Decimal getIntercept(int index) {
+        Decimal slope = getSlope(index);
+        if (slope.isNaN()) {
+            return Decimal.NaN;
+        }
+        return moments.getMeanY(index).minus(slope.multipliedBy(moments.getMeanX(index)));
+    }
+
+    /**
+     * @param index the index
+     * @return the coefficient of determination (R²) of the regression of the time frame ending at index
+     */
+    public synchronized Decimal getRSquared(int index) {
+        if (moments.getCount(index) < 2) {
+            return Decimal.NaN;
+        }
+        Decimal coMoment = moments.getCoMoment(index);
+        return coMoment.multipliedBy(coMoment).dividedBy(moments.getM2X(index).multipliedBy(moments.getM2Y(index)));
+    }
+
+    /**
+     * @param index the index
+     * @param offset the number of ticks after index
+     * @return the value of the regression line of the time frame ending at index, at tick index + offset
+     */
+    public synchronized Decimal getForecast(int index, int offset) {
+        Decimal slope = getSlope(index);
+        if (slope.isNaN()) {
+            return Decimal.NaN;
+        }
+        return slope.multipliedBy(Decimal.valueOf(index + offset)).plus(getIntercept(index));
+    }
+}
@@ -32,63 +32,30 @@ import eu.verdelhan.ta4j.indicators.CachedIndicator;
  * A moving (i.e. over the time frame) simple linear regression (least squares).
  * y = slope * x + intercept
  * See also: http://introcs.cs.princeton.edu/java/97data/LinearRegression.java.html
+ * <p>
+ * The regression line is computed by a {@link RollingRegression rolling regression}.
+ * See also: {@link LinearRegressionSlopeIndicator}, {@link LinearRegressionInterceptIndicator},
+ * {@link LinearRegressionRSquaredIndicator}, {@link LinearRegressionForecastIndicator}
  */
 public class SimpleLinearRegressionIndicator extends CachedIndicator<Decimal> {
 
-    private Indicator<Decimal> indicator;
-    
-    private int timeFrame;
-    
-    private Decimal slope;
-    
-    private Decimal intercept;
+    private final RollingRegression regression;
     
     public SimpleLinearRegressionIndicator(Indicator<Decimal> indicator, int timeFrame) {
-        super(indicator);
-        this.indicator = indicator;
-        this.timeFrame = timeFrame;
+        this(new RollingRegression(indicator, timeFrame));
     }
 
-    @Override
-    protected Decimal calculate(int index) {
-        final int startIndex = Math.max(0, index - timeFrame + 1);
-        final int endIndex = index;
-        if (endIndex - startIndex + 1 < 2) {
-            // Not enough observations to compute a regression line
-            return Decimal.NaN;
-        }
-        calculateRegressionLine(startIndex, endIndex);
-        return slope.multipliedBy(Decimal.valueOf(index)).plus(intercept);
-    }
-    
     /**
-     * Calculates the regression line.
-     * @param startIndex the start index (inclusive) in the time series
-     * @param endIndex the end index (inclusive) in the time series
+     * Constructor.
+     * @param regression the (shared) rolling regression
      */
-    private void calculateRegressionLine(int startIndex, int endIndex) {
-        // First pass: compute xBar and yBar
-        Decimal sumX = Decimal.ZERO;
-        Decimal sumY = Decimal.ZERO;
-        for (int i = startIndex; i <= endIndex; i++) {
-            sumX = sumX.plus(Decimal.valueOf(i));
-            sumY = sumY.plus(indicator.getValue(i));
-        }
-        Decimal nbObservations = Decimal.valueOf(endIndex - startIndex + 1);
-        Decimal xBar = sumX.dividedBy(nbObservations);
-        Decimal yBar = sumY.dividedBy(nbObservations);
-        
-        // Second pass: compute slope and intercept
-        Decimal xxBar = Decimal.ZERO;
-        Decimal xyBar = Decimal.ZERO;
-        for (int i = startIndex; i <= endIndex; i++) {
-            Decimal dX = Decimal.valueOf(i).minus(xBar);
-            Decimal dY = indicator.getValue(i).minus(yBar);
-            xxBar = xxBar.plus(dX.multipliedBy(dX));
-            xyBar = xyBar.plus(dX.multipliedBy(dY));
-        }
-        
-        slope = xyBar.dividedBy(xxBar);
-        intercept = yBar.minus(slope.multipliedBy(xBar));
+    public SimpleLinearRegressionIndicator(RollingRegression regression) {
+        super(regression.getIndicator());
+        this.regression = regression;
+    }
+
+    @Override
+    protected Decimal calculate(int index) {
+        return regression.getForecast(index, 0);
     }
 }
@@ -26,6 +26,7 @@ import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
 import eu.verdelhan.ta4j.indicators.statistics.VarianceIndicator;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 
 /**
  * Standard deviation indicator.
@@ -43,7 +44,7 @@ public class StandardDeviationIndicator extends CachedIndicator<Decimal> {
      */
     public StandardDeviationIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
-        variance = new VarianceIndicator(indicator, timeFrame);
+        variance = IndicatorRegistry.of(indicator.getTimeSeries()).get(VarianceIndicator.class, () -> new VarianceIndicator(indicator, timeFrame), indicator, timeFrame);
     }
 
     @Override
@@ -25,6 +25,7 @@ package eu.verdelhan.ta4j.indicators.statistics;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 
 /**
  * Standard error indicator.
@@ -44,7 +45,8 @@ public class StandardErrorIndicator extends CachedIndicator<Decimal> {
     public StandardErrorIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
         this.timeFrame = timeFrame;
-        sdev = new StandardDeviationIndicator(indicator, timeFrame);
+        sdev = IndicatorRegistry.of(indicator.getTimeSeries()).get(StandardDeviationIndicator.class,
+                () -> new StandardDeviationIndicator(indicator, timeFrame), indicator, timeFrame);
     }
 
     @Override
@@ -25,19 +25,17 @@ package eu.verdelhan.ta4j.indicators.statistics;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
-import eu.verdelhan.ta4j.indicators.SMAIndicator;
 
 /**
  * Variance indicator.
  * <p>
+ * The variance is computed from the {@link RollingMoments rolling moments} of the time frame.
  */
 public class VarianceIndicator extends CachedIndicator<Decimal> {
 
-    private Indicator<Decimal> indicator;
-
     private int timeFrame;
 
-    private SMAIndicator sma;
+    private RollingMoments moments;
 
     /**
      * Constructor.
@@ -46,23 +44,13 @@ public class VarianceIndicator extends CachedIndicator<Decimal> {
      */
     public VarianceIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
-        this.indicator = indicator;
         this.timeFrame = timeFrame;
-        sma = new SMAIndicator(indicator, timeFrame);
+        moments = new RollingMoments(indicator, timeFrame);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        final int startIndex = Math.max(0, index - timeFrame + 1);
-        final int numberOfObservations = index - startIndex + 1;
-        Decimal variance = Decimal.ZERO;
-        Decimal average = sma.getValue(index);
-        for (int i = startIndex; i <= index; i++) {
-            Decimal pow = indicator.getValue(i).minus(average).pow(2);
-            variance = variance.plus(pow);
-        }
-        variance = variance.dividedBy(Decimal.valueOf(numberOfObservations));
-        return variance;
+        return moments.getVarianceX(index);
     }
 
     @Override
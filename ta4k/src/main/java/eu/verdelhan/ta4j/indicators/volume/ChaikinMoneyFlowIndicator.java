@@ -27,6 +27,7 @@ import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.CloseLocationValueIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.RunningSum;
 import eu.verdelhan.ta4j.indicators.helpers.VolumeIndicator;
 
 /**
@@ -34,6 +35,9 @@ import eu.verdelhan.ta4j.indicators.helpers.VolumeIndicator;
  * <p>
  * @see http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:chaikin_money_flow_cmf
  * @see http://www.fmlabs.com/reference/default.htm?url=ChaikinMoneyFlow.htm
+ * <p>
+ * The sum of money flow volume and the sum of volume are {@link RunningSum running sums}. The close location value
+ * of a flat tick (high == low) is not-a-number: only the values of the windows containing it are not-a-number.
  */
 public class ChaikinMoneyFlowIndicator extends CachedIndicator<Decimal> {
 
@@ -45,24 +49,22 @@ public class ChaikinMoneyFlowIndicator extends CachedIndicator<Decimal> {
     
     private int timeFrame;
 
+    private RunningSum sumOfMoneyFlowVolume;
+
     public ChaikinMoneyFlowIndicator(TimeSeries series, int timeFrame) {
         super(series);
         this.series = series;
         this.timeFrame = timeFrame;
         this.clvIndicator = new CloseLocationValueIndicator(series);
         this.volumeIndicator = new VolumeIndicator(series, timeFrame);
+        this.sumOfMoneyFlowVolume = new RunningSum(series, timeFrame, 0, this::getMoneyFlowVolume);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        int startIndex = Math.max(0, index - timeFrame + 1);
-        Decimal sumOfMoneyFlowVolume = Decimal.ZERO;
-        for (int i = startIndex; i <= index; i++) {
-            sumOfMoneyFlowVolume = sumOfMoneyFlowVolume.plus(getMoneyFlowVolume(i));
-        }
         Decimal sumOfVolume = volumeIndicator.getValue(index);
         
-        return sumOfMoneyFlowVolume.dividedBy(sumOfVolume);
+        return sumOfMoneyFlowVolume.getSum(index).dividedBy(sumOfVolume);
     }
     
     /**
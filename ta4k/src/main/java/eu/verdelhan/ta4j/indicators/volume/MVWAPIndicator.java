@@ -26,10 +26,13 @@ import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
 import eu.verdelhan.ta4j.indicators.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 
 /**
  * The Moving volume weighted average price (MVWAP) Indicator.
  * @see http://www.investopedia.com/articles/trading/11/trading-with-vwap-mvwap.asp
+ * <p>
+ * Both the VWAP and its moving average are computed from running sums (O(1) per index in sequential evaluation).
  */
 public class MVWAPIndicator extends CachedIndicator<Decimal> {
 
@@ -42,7 +45,7 @@ public class MVWAPIndicator extends CachedIndicator<Decimal> {
      */
     public MVWAPIndicator(VWAPIndicator vwap, int timeFrame) {
         super(vwap);
-        sma = new SMAIndicator(vwap, timeFrame);
+        sma = IndicatorRegistry.of(vwap.getTimeSeries()).get(SMAIndicator.class, () -> new SMAIndicator(vwap, timeFrame), vwap, timeFrame);
     }
 
     @Override
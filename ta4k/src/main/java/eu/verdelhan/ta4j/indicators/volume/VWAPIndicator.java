@@ -26,6 +26,7 @@ import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.RunningSum;
 import eu.verdelhan.ta4j.indicators.helpers.TypicalPriceIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.VolumeIndicator;
 
@@ -34,6 +35,8 @@ import eu.verdelhan.ta4j.indicators.helpers.VolumeIndicator;
  * @see http://www.investopedia.com/articles/trading/11/trading-with-vwap-mvwap.asp
  * @see http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:vwap_intraday
  * @see https://en.wikipedia.org/wiki/Volume-weighted_average_price
+ * <p>
+ * The cumulated typical price x volume and the cumulated volume are {@link RunningSum running sums}.
  */
 public class VWAPIndicator extends CachedIndicator<Decimal> {
 
@@ -42,6 +45,10 @@ public class VWAPIndicator extends CachedIndicator<Decimal> {
     private final Indicator<Decimal> typicalPrice;
     
     private final Indicator<Decimal> volume;
+
+    private final RunningSum cumulativeTPV;
+
+    private final RunningSum cumulativeVolume;
     
     /**
      * Constructor.
@@ -53,6 +60,8 @@ public class VWAPIndicator extends CachedIndicator<Decimal> {
         this.timeFrame = timeFrame;
         typicalPrice = new TypicalPriceIndicator(series);
         volume = new VolumeIndicator(series);
+        cumulativeTPV = new RunningSum(series, timeFrame, 0, i -> typicalPrice.getValue(i).multipliedBy(volume.getValue(i)));
+        cumulativeVolume = new RunningSum(series, timeFrame, 0, volume::getValue);
     }
 
     @Override
@@ -60,14 +69,6 @@ public class VWAPIndicator extends CachedIndicator<Decimal> {
         if (index <= 0) {
             return typicalPrice.getValue(index);
         }
-        int startIndex = Math.max(0, index - timeFrame + 1);
-        Decimal cumulativeTPV = Decimal.ZERO;
-        Decimal cumulativeVolume = Decimal.ZERO;
-        for (int i = startIndex; i <= index; i++) {
-            Decimal currentVolume = volume.getValue(i);
-            cumulativeTPV = cumulativeTPV.plus(typicalPrice.getValue(i).multipliedBy(currentVolume));
-            cumulativeVolume = cumulativeVolume.plus(currentVolume);
-        }
-        return cumulativeTPV.dividedBy(cumulativeVolume);
+        return cumulativeTPV.getSum(index).dividedBy(cumulativeVolume.getSum(index));
     }
 }
@@ -0,0 +1,65 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.optimization;
+
+/**
+ * Result of a parameter combination (see {@link StrategyOptimizer}).
+ * <p>
+ * The result does not keep the strategy of the combination (nor its indicators): it can be built again from the
+ * parameter values (see {@link StrategyOptimizer#buildStrategy(Parameters)}).
+ */
+public class OptimizationResult {
+
+    private final Parameters parameters;
+
+    private final double criterionValue;
+
+    /**
+     * Constructor.
+     * @param parameters the parameter values
+     * @param criterionValue the criterion value of the strategy built with the parameter values
+     */
+    public OptimizationResult(Parameters parameters, double criterionValue) {
+        this.parameters = parameters;
+        this.criterionValue = criterionValue;
+    }
+
+    /**
+     * @return the parameter values
+     */
+    public Parameters getParameters() {
+        return parameters;
+    }
+
+    /**
+     * @return the criterion value of the strategy built with the parameter values
+     */
+    public double getCriterionValue() {
+        return criterionValue;
+    }
+
+    @Override
+    public String toString() {
+        return parameters + ": " + criterionValue;
+    }
+}
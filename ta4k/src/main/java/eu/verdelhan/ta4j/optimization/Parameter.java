@@ -0,0 +1,96 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.optimization;
+
+import java.util.Arrays;
+
+/**
+ * An optimization parameter.
+ * <p>
+ * A named integer parameter (e.g. the time frame of a moving average) and the values it can take.
+ */
+public class Parameter {
+
+    private final String name;
+
+    private final int[] values;
+
+    /**
+     * Constructor.
+     * @param name the name of the parameter
+     * @param values the values of the parameter
+     */
+    public Parameter(String name, int... values) {
+        if (values.length == 0) {
+            throw new IllegalArgumentException("No value for parameter " + name);
+        }
+        this.name = name;
+        this.values = values.clone();
+    }
+
+    /**
+     * @param name the name of the parameter
+     * @param from the first value
+     * @param to the last value (included if reached by the step)
+     * @param step the step between two values
+     * @return a parameter taking the values from, from + step, ... up to to
+     */
+    public static Parameter range(String name, int from, int to, int step) {
+        if (step <= 0 || to < from) {
+            throw new IllegalArgumentException("Invalid range for parameter " + name + ": " + from + " to " + to
+                    + " by " + step);
+        }
+        int[] values = new int[(to - from) / step + 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = from + i * step;
+        }
+        return new Parameter(name, values);
+    }
+
+    /**
+     * @return the name of the parameter
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the number of values of the parameter
+     */
+    public int getValueCount() {
+        return values.length;
+    }
+
+    /**
+     * @param i the position of the value
+     * @return the i-th value of the parameter
+     */
+    public int getValue(int i) {
+        return values[i];
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + Arrays.toString(values);
+    }
+}
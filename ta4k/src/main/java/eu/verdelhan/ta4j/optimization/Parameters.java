@@ -0,0 +1,70 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.optimization;
+
+import java.util.List;
+
+/**
+ * A combination of parameter values.
+ */
+public class Parameters {
+
+    private final List<Parameter> parameters;
+
+    private final int[] values;
+
+    /**
+     * Constructor.
+     * @param parameters the parameters
+     * @param values the values of the parameters (in the same order)
+     */
+    Parameters(List<Parameter> parameters, int[] values) {
+        this.parameters = parameters;
+        this.values = values;
+    }
+
+    /**
+     * @param name the name of a parameter
+     * @return the value of the parameter
+     */
+    public int get(String name) {
+        for (int i = 0; i < values.length; i++) {
+            if (parameters.get(i).getName().equals(name)) {
+                return values[i];
+            }
+        }
+        throw new IllegalArgumentException("Unknown parameter: " + name);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(parameters.get(i).getName()).append('=').append(values[i]);
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,266 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.optimization;
+
+import eu.verdelhan.ta4j.AnalysisCriterion;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.TimeSeriesManager;
+import eu.verdelhan.ta4j.TradingRecord;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * Parameter-sweep optimizer.
+ * <p>
+ * Builds a strategy for each combination of parameter values (grid search) or for random combinations (random
+ * search), runs them concurrently over a time series and ranks them according to an analysis criterion.
+ * <p>
+ * The strategies are run by batches (see {@link TimeSeriesManager#run(List, ForkJoinPool)}): the indicators shared
+ * by several combinations are computed once. During a search the series has an
+ * {@link IndicatorRegistry indicator registry} (a new one, unless the series already has one). The strategy factory
+ * should build its indicators on shared instances (e.g. a single close price indicator) and through
+ * {@link IndicatorRegistry#of(TimeSeries)}, so that the indicators with the same parameters (e.g. the SMA of a given
+ * time frame) are reused across combinations.
+ * <p>
+ * The results only keep the parameter values of the combinations: the strategies (and the caches of their
+ * indicators) are released after their runs. The strategy of a result can be built again with
+ * {@link #buildStrategy(Parameters)}.
+ */
+public class StrategyOptimizer {
+
+    /** Number of strategies run together */
+    private static final int BATCH_SIZE = 1024;
+
+    private final TimeSeriesManager manager;
+
+    private final AnalysisCriterion criterion;
+
+    private final Function<Parameters, Strategy> strategyFactory;
+
+    private final List<Parameter> parameters;
+
+    /** Combinations to be evaluated */
+    private Predicate<Parameters> filter = parameters -> true;
+
+    /**
+     * Constructor.
+     * @param series the time series the strategies are run on
+     * @param criterion the criterion ranking the strategies
+     * @param strategyFactory the strategy factory (called with the parameter values of each combination)
+     * @param parameters the parameters (the first one varies the slowest in the grid)
+     */
+    public StrategyOptimizer(TimeSeries series, AnalysisCriterion criterion,
+            Function<Parameters, Strategy> strategyFactory, Parameter... parameters) {
+        if (parameters.length == 0) {
+            throw new IllegalArgumentException("At least one parameter is needed");
+        }
+        this.manager = new TimeSeriesManager(series);
+        this.criterion = criterion;
+        this.strategyFactory = strategyFactory;
+        this.parameters = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(parameters)));
+    }
+
+    /**
+     * @param filter the predicate selecting the combinations to be evaluated (e.g. short time frame lower than the
+     *            long one)
+     */
+    public void setFilter(Predicate<Parameters> filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * @return the number of combinations of the grid (before filtering)
+     */
+    public long getCombinationCount() {
+        long count = 1;
+        for (Parameter parameter : parameters) {
+            count = Math.multiplyExact(count, parameter.getValueCount());
+        }
+        return count;
+    }
+
+    /**
+     * Evaluates all the combinations of parameter values.
+     * @param pool the pool running the strategies
+     * @return the results, best first (ties in grid order)
+     */
+    public List<OptimizationResult> gridSearch(ForkJoinPool pool) {
+        long[] combinations = LongStream.range(0, getCombinationCount()).toArray();
+        return withIndicatorRegistry(() -> evaluate(combinations, pool));
+    }
+
+    /**
+     * Evaluates random combinations of parameter values.
+     * @param combinationCount the number of combinations to draw (before filtering)
+     * @param seed the seed of the random draw
+     * @param pool the pool running the strategies
+     * @return the results, best first (ties in grid order)
+     */
+    public List<OptimizationResult> randomSearch(int combinationCount, long seed, ForkJoinPool pool) {
+        final long gridCombinationCount = getCombinationCount();
+        if (combinationCount >= gridCombinationCount) {
+            return gridSearch(pool);
+        }
+        Random random = new Random(seed);
+        Set<Long> drawn = new HashSet<>();
+        while (drawn.size() < combinationCount) {
+            drawn.add(Math.floorMod(random.nextLong(), gridCombinationCount));
+        }
+        long[] combinations = drawn.stream().mapToLong(Long::longValue).sorted().toArray();
+        return withIndicatorRegistry(() -> evaluate(combinations, pool));
+    }
+
+    /**
+     * @return the time series the strategies are run on
+     */
+    public TimeSeries getTimeSeries() {
+        return manager.getTimeSeries();
+    }
+
+    /**
+     * @return the criterion ranking the strategies
+     */
+    public AnalysisCriterion getCriterion() {
+        return criterion;
+    }
+
+    /**
+     * @return the parameter values of the (filtered) combinations of the grid, in grid order
+     */
+    List<Parameters> getGridParameters() {
+        List<Parameters> combinations = new ArrayList<>();
+        final long combinationCount = getCombinationCount();
+        for (long i = 0; i < combinationCount; i++) {
+            Parameters combination = getParameters(i);
+            if (filter.test(combination)) {
+                combinations.add(combination);
+            }
+        }
+        return combinations;
+    }
+
+    /**
+     * @param parameters parameter values (e.g. the ones of an {@link OptimizationResult optimization result})
+     * @return the strategy built with the parameter values
+     */
+    public Strategy buildStrategy(Parameters parameters) {
+        return strategyFactory.apply(parameters);
+    }
+
+    /**
+     * Runs a search with an indicator registry on the series (unless the series already has one).
+     * <p>
+     * The registry is removed from the series afterwards, so that the indicators of the search can be released.
+     * @param search the search
+     * @return the result of the search
+     */
+    <R> R withIndicatorRegistry(Supplier<R> search) {
+        TimeSeries series = manager.getTimeSeries();
+        if (series.getIndicatorRegistry() != null) {
+            return search.get();
+        }
+        series.setIndicatorRegistry(new IndicatorRegistry());
+        try {
+            return search.get();
+        } finally {
+            series.setIndicatorRegistry(null);
+        }
+    }
+
+    /**
+     * @param combination the number of a combination in the grid
+     * @return the parameter values of the combination
+     */
+    private Parameters getParameters(long combination) {
+        int[] values = new int[parameters.size()];
+        long remainder = combination;
+        for (int i = values.length - 1; i >= 0; i--) {
+            Parameter parameter = parameters.get(i);
+            values[i] = parameter.getValue((int) (remainder % parameter.getValueCount()));
+            remainder /= parameter.getValueCount();
+        }
+        return new Parameters(parameters, values);
+    }
+
+    /**
+     * Runs and ranks combinations.
+     * @param combinations the numbers of the combinations in the grid, in ascending order
+     * @param pool the pool running the strategies
+     * @return the results, best first (ties in the order of the combinations)
+     */
+    private List<OptimizationResult> evaluate(long[] combinations, ForkJoinPool pool) {
+        List<OptimizationResult> results = new ArrayList<>();
+        List<Parameters> batchParameters = new ArrayList<>(BATCH_SIZE);
+        List<Strategy> batchStrategies = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < combinations.length; i++) {
+            Parameters combination = getParameters(combinations[i]);
+            if (filter.test(combination)) {
+                batchParameters.add(combination);
+                batchStrategies.add(buildStrategy(combination));
+            }
+            if (batchStrategies.size() == BATCH_SIZE || (i == combinations.length - 1 && !batchStrategies.isEmpty())) {
+                List<TradingRecord> tradingRecords = manager.run(batchStrategies, pool);
+                for (int j = 0; j < tradingRecords.size(); j++) {
+                    double criterionValue = criterion.calculate(manager.getTimeSeries(), tradingRecords.get(j));
+                    results.add(new OptimizationResult(batchParameters.get(j), criterionValue));
+                }
+                batchParameters.clear();
+                batchStrategies.clear();
+            }
+        }
+        // Stable sort: ties kept in the order of the combinations
+        results.sort(this::compare);
+        return results;
+    }
+
+    private int compare(OptimizationResult result1, OptimizationResult result2) {
+        return compare(result1.getCriterionValue(), result2.getCriterionValue());
+    }
+
+    /**
+     * @param value1 the first criterion value
+     * @param value2 the second criterion value
+     * @return a negative value if the first value is better than the second one (not-a-number values last)
+     */
+    int compare(double value1, double value2) {
+        if (Double.isNaN(value1) || Double.isNaN(value2)) {
+            return Boolean.compare(Double.isNaN(value1), Double.isNaN(value2));
+        }
+        if (criterion.betterThan(value1, value2)) {
+            return -1;
+        }
+        return criterion.betterThan(value2, value1) ? 1 : 0;
+    }
+}
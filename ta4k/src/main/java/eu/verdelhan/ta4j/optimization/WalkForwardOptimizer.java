@@ -0,0 +1,185 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.optimization;
+
+import eu.verdelhan.ta4j.AnalysisCriterion;
+import eu.verdelhan.ta4j.BaseTimeSeries;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.TimeSeriesManager;
+import eu.verdelhan.ta4j.TradingRecord;
+import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Walk-forward optimizer.
+ * <p>
+ * Splits the time series into successive windows, each made of an in-sample period followed by an out-of-sample
+ * period. For each window, the parameter combinations of a {@link StrategyOptimizer strategy optimizer} are ranked on
+ * the in-sample period, then the best one is validated on the out-of-sample period.
+ * <p>
+ * The strategies are built once, on the whole series (so that their indicators have all the previous ticks), and
+ * shared by the windows, which are run as a {@link CachedIndicator#concurrently(java.util.function.Supplier)
+ * concurrent computation}. The window boundaries are found by binary search on the tick end times.
+ */
+public class WalkForwardOptimizer {
+
+    private final StrategyOptimizer optimizer;
+
+    /**
+     * Constructor.
+     * @param optimizer the optimizer defining the series, the criterion and the parameter combinations
+     */
+    public WalkForwardOptimizer(StrategyOptimizer optimizer) {
+        this.optimizer = optimizer;
+    }
+
+    /**
+     * Runs the walk-forward optimization with contiguous out-of-sample periods.
+     * @param inSampleDuration the duration of the in-sample periods
+     * @param outOfSampleDuration the duration of the out-of-sample periods (and the step between two windows)
+     * @param pool the pool running the windows
+     * @return the walk-forward report
+     */
+    public WalkForwardReport run(Duration inSampleDuration, Duration outOfSampleDuration, ForkJoinPool pool) {
+        return run(inSampleDuration, outOfSampleDuration, outOfSampleDuration, pool);
+    }
+
+    /**
+     * Runs the walk-forward optimization.
+     * @param inSampleDuration the duration of the in-sample periods
+     * @param outOfSampleDuration the duration of the out-of-sample periods
+     * @param step the duration between the beginnings of two windows
+     * @param pool the pool running the windows
+     * @return the walk-forward report
+     */
+    public WalkForwardReport run(Duration inSampleDuration, Duration outOfSampleDuration, Duration step,
+            ForkJoinPool pool) {
+        if (inSampleDuration.isNegative() || inSampleDuration.isZero() || outOfSampleDuration.isNegative()
+                || outOfSampleDuration.isZero() || step.isNegative() || step.isZero()) {
+            throw new IllegalArgumentException("Walk-forward durations must be positive");
+        }
+        final TimeSeries series = optimizer.getTimeSeries();
+        final List<Parameters> combinations = optimizer.getGridParameters();
+        // Indicators shared by the strategies (through the registry of the series)
+        final List<Strategy> strategies = optimizer.withIndicatorRegistry(() -> {
+            List<Strategy> combinationStrategies = new ArrayList<>(combinations.size());
+            for (Parameters combination : combinations) {
+                combinationStrategies.add(optimizer.buildStrategy(combination));
+            }
+            return combinationStrategies;
+        });
+        if (strategies.isEmpty() || series.isEmpty()) {
+            return new WalkForwardReport(new ArrayList<>());
+        }
+        List<CompletableFuture<WalkForwardWindow>> windows = new ArrayList<>();
+        try {
+            CachedIndicator.concurrently(() -> {
+                ZonedDateTime firstWindowStart = series.getFirstTick().getEndTime();
+                for (ZonedDateTime windowStart = firstWindowStart; ; windowStart = windowStart.plus(step)) {
+                    ZonedDateTime outOfSampleStart = windowStart.plus(inSampleDuration);
+                    final int inSampleBeginIndex = getIndexAtOrAfter(series, windowStart);
+                    final int outOfSampleBeginIndex = getIndexAtOrAfter(series, outOfSampleStart);
+                    if (outOfSampleBeginIndex > series.getEndIndex()) {
+                        // No more out-of-sample ticks
+                        break;
+                    }
+                    final int outOfSampleEndIndex =
+                            getIndexAtOrAfter(series, outOfSampleStart.plus(outOfSampleDuration)) - 1;
+                    if (inSampleBeginIndex < outOfSampleBeginIndex) {
+                        windows.add(CompletableFuture.supplyAsync(() -> runWindow(series, combinations, strategies,
+                                inSampleBeginIndex, outOfSampleBeginIndex, outOfSampleEndIndex), pool));
+                    }
+                }
+                return CompletableFuture.allOf(windows.toArray(new CompletableFuture<?>[windows.size()])).join();
+            });
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+
+        List<WalkForwardWindow> results = new ArrayList<>(windows.size());
+        for (CompletableFuture<WalkForwardWindow> window : windows) {
+            results.add(window.join());
+        }
+        return new WalkForwardReport(results);
+    }
+
+    /**
+     * Optimizes the strategy on an in-sample period and validates it on the next out-of-sample period.
+     * @param series the time series
+     * @param combinations the parameter combinations
+     * @param strategies the strategies of the combinations
+     * @param inSampleBeginIndex the first index of the in-sample period
+     * @param outOfSampleBeginIndex the first index of the out-of-sample period (i.e. after the in-sample period)
+     * @param outOfSampleEndIndex the last index of the out-of-sample period
+     * @return the result of the window
+     */
+    private WalkForwardWindow runWindow(TimeSeries series, List<Parameters> combinations, List<Strategy> strategies,
+            int inSampleBeginIndex, int outOfSampleBeginIndex, int outOfSampleEndIndex) {
+        final AnalysisCriterion criterion = optimizer.getCriterion();
+        TimeSeries inSample = new BaseTimeSeries(series, inSampleBeginIndex, outOfSampleBeginIndex - 1);
+        TimeSeriesManager inSampleManager = new TimeSeriesManager(inSample);
+        int best = -1;
+        double bestValue = Double.NaN;
+        for (int i = 0; i < strategies.size(); i++) {
+            double value = criterion.calculate(inSample, inSampleManager.run(strategies.get(i)));
+            if (best < 0 || optimizer.compare(value, bestValue) < 0) {
+                best = i;
+                bestValue = value;
+            }
+        }
+
+        TimeSeries outOfSample = new BaseTimeSeries(series, outOfSampleBeginIndex, outOfSampleEndIndex);
+        TradingRecord outOfSampleRecord = new TimeSeriesManager(outOfSample).run(strategies.get(best));
+        return new WalkForwardWindow(inSample, outOfSample, combinations.get(best), strategies.get(best), bestValue,
+                outOfSampleRecord, criterion.calculate(outOfSample, outOfSampleRecord));
+    }
+
+    /**
+     * @param series a time series
+     * @param time a date time
+     * @return the index of the first tick ending at or after the date time (end index + 1 if none)
+     */
+    public static int getIndexAtOrAfter(TimeSeries series, ZonedDateTime time) {
+        int low = series.getBeginIndex();
+        int high = series.getEndIndex() + 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (series.getTick(middle).getEndTime().isBefore(time)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
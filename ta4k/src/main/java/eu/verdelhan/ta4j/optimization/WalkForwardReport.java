@@ -0,0 +1,71 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.optimization;
+
+import eu.verdelhan.ta4j.Trade;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Report of a walk-forward optimization (see {@link WalkForwardOptimizer}).
+ */
+public class WalkForwardReport {
+
+    private final List<WalkForwardWindow> windows;
+
+    /**
+     * Constructor.
+     * @param windows the results of the windows, in chronological order
+     */
+    WalkForwardReport(List<WalkForwardWindow> windows) {
+        this.windows = Collections.unmodifiableList(windows);
+    }
+
+    /**
+     * @return the results of the windows, in chronological order
+     */
+    public List<WalkForwardWindow> getWindows() {
+        return windows;
+    }
+
+    /**
+     * @return the trades of the out-of-sample periods, in chronological order
+     */
+    public List<Trade> getOutOfSampleTrades() {
+        List<Trade> trades = new ArrayList<>();
+        for (WalkForwardWindow window : windows) {
+            trades.addAll(window.getOutOfSampleTradingRecord().getTrades());
+        }
+        return trades;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Walk-forward report (").append(windows.size()).append(" windows)");
+        for (WalkForwardWindow window : windows) {
+            sb.append(System.lineSeparator()).append("  ").append(window);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.optimization;
+
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.TradingRecord;
+
+/**
+ * Result of a walk-forward window (see {@link WalkForwardOptimizer}).
+ */
+public class WalkForwardWindow {
+
+    private final TimeSeries inSample;
+
+    private final TimeSeries outOfSample;
+
+    private final Parameters bestParameters;
+
+    private final Strategy bestStrategy;
+
+    private final double inSampleCriterionValue;
+
+    private final TradingRecord outOfSampleTradingRecord;
+
+    private final double outOfSampleCriterionValue;
+
+    /**
+     * Constructor.
+     * @param inSample the in-sample sub-series
+     * @param outOfSample the out-of-sample sub-series
+     * @param bestParameters the best parameter values on the in-sample period
+     * @param bestStrategy the strategy built with the best parameter values
+     * @param inSampleCriterionValue the criterion value of the best strategy on the in-sample period
+     * @param outOfSampleTradingRecord the trading record of the best strategy on the out-of-sample period
+     * @param outOfSampleCriterionValue the criterion value of the best strategy on the out-of-sample period
+     */
+    WalkForwardWindow(TimeSeries inSample, TimeSeries outOfSample, Parameters bestParameters, Strategy bestStrategy,
+            double inSampleCriterionValue, TradingRecord outOfSampleTradingRecord, double outOfSampleCriterionValue) {
+        this.inSample = inSample;
+        this.outOfSample = outOfSample;
+        this.bestParameters = bestParameters;
+        this.bestStrategy = bestStrategy;
+        this.inSampleCriterionValue = inSampleCriterionValue;
+        this.outOfSampleTradingRecord = outOfSampleTradingRecord;
+        this.outOfSampleCriterionValue = outOfSampleCriterionValue;
+    }
+
+    /**
+     * @return the in-sample sub-series
+     */
+    public TimeSeries getInSample() {
+        return inSample;
+    }
+
+    /**
+     * @return the out-of-sample sub-series
+     */
+    public TimeSeries getOutOfSample() {
+        return outOfSample;
+    }
+
+    /**
+     * @return the best parameter values on the in-sample period
+     */
+    public Parameters getBestParameters() {
+        return bestParameters;
+    }
+
+    /**
+     * @return the strategy built with the best parameter values
+     */
+    public Strategy getBestStrategy() {
+        return bestStrategy;
+    }
+
+    /**
+     * @return the criterion value of the best strategy on the in-sample period
+     */
+    public double getInSampleCriterionValue() {
+        return inSampleCriterionValue;
+    }
+
+    /**
+     * @return the trading record of the best strategy on the out-of-sample period
+     */
+    public TradingRecord getOutOfSampleTradingRecord() {
+        return outOfSampleTradingRecord;
+    }
+
+    /**
+     * @return the criterion value of the best strategy on the out-of-sample period
+     */
+    public double getOutOfSampleCriterionValue() {
+        return outOfSampleCriterionValue;
+    }
+
+    @Override
+    public String toString() {
+        return "in-sample " + inSample.getSeriesPeriodDescription() + ": " + bestParameters + " -> "
+                + inSampleCriterionValue + ", out-of-sample " + outOfSample.getSeriesPeriodDescription() + ": "
+                + outOfSampleCriterionValue;
+    }
+}
@@ -0,0 +1,266 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.portfolio;
+
+import eu.verdelhan.ta4j.BaseTradingRecord;
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Order.OrderType;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.TimeSeriesManager;
+import eu.verdelhan.ta4j.TradingRecord;
+import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A manager for portfolios (several symbols, each with its {@link TimeSeries time series} and its
+ * {@link Strategy trading strategy}).
+ * <p>
+ * Used for portfolio backtesting: the strategies are run over their series in timestamp order (k-way merge of the
+ * ticks of all the series), under a portfolio-level limit on the number of open positions. On each tick, a symbol
+ * enters, exits or does nothing exactly as in a {@link TimeSeriesManager#run(Strategy) single-series run}, except
+ * that an entry opening a new position is rejected when the limit is reached. The ticks ending at the same time are
+ * processed together: the exits first (freeing positions), then the entries in the order of the symbols. The trades
+ * still open at the end of their series are left open.
+ * <p>
+ * Without a limit on the open positions the symbols are independent, and they are run by contiguous shards on a
+ * fork-join pool, as a {@link CachedIndicator#concurrently(java.util.function.Supplier) concurrent computation} (the
+ * strategies may share indicators). The series and the strategies
+ * must not be modified during the runs.
+ */
+public class PortfolioManager {
+
+    /** The symbols, with their time series */
+    private final Map<String, TimeSeries> timeSeries = new LinkedHashMap<>();
+
+    /** The symbols, with their strategies */
+    private final Map<String, Strategy> strategies = new LinkedHashMap<>();
+
+    /** Maximum number of open positions (i.e. of symbols with an open trade) */
+    private int maximumOpenPositions = Integer.MAX_VALUE;
+
+    /**
+     * Adds a symbol to the portfolio.
+     * @param symbol the symbol
+     * @param series the time series of the symbol
+     * @param strategy the trading strategy of the symbol
+     */
+    public void addSymbol(String symbol, TimeSeries series, Strategy strategy) {
+        if (timeSeries.containsKey(symbol)) {
+            throw new IllegalArgumentException("Symbol " + symbol + " already in the portfolio");
+        }
+        timeSeries.put(symbol, series);
+        strategies.put(symbol, strategy);
+    }
+
+    /**
+     * @return the symbols of the portfolio
+     */
+    public List<String> getSymbols() {
+        return new ArrayList<>(timeSeries.keySet());
+    }
+
+    /**
+     * @param maximumOpenPositions the maximum number of open positions (i.e. of symbols with an open trade)
+     */
+    public void setMaximumOpenPositions(int maximumOpenPositions) {
+        if (maximumOpenPositions <= 0) {
+            throw new IllegalArgumentException("Maximum number of open positions must be strictly positive");
+        }
+        this.maximumOpenPositions = maximumOpenPositions;
+    }
+
+    /**
+     * @return the maximum number of open positions (i.e. of symbols with an open trade)
+     */
+    public int getMaximumOpenPositions() {
+        return maximumOpenPositions;
+    }
+
+    /**
+     * Runs the strategies of the portfolio over their time series.
+     * <p>
+     * Opens the trades with {@link OrderType.BUY} orders.
+     * @param pool the pool running the symbols when they are independent
+     * @return the trading records of the portfolio
+     */
+    public PortfolioTradingRecord run(ForkJoinPool pool) {
+        final List<TimeSeries> seriesList = new ArrayList<>(timeSeries.values());
+        final List<Strategy> strategyList = new ArrayList<>(strategies.values());
+
+        final TradingRecord[] tradingRecords = new TradingRecord[seriesList.size()];
+        for (int i = 0; i < tradingRecords.length; i++) {
+            tradingRecords[i] = new BaseTradingRecord(OrderType.BUY);
+        }
+        int rejectedEntryCount = 0;
+        if (maximumOpenPositions == Integer.MAX_VALUE) {
+            runShards(seriesList, strategyList, tradingRecords, pool);
+        } else {
+            rejectedEntryCount = runMerged(seriesList, strategyList, tradingRecords);
+        }
+
+        Map<String, TradingRecord> symbolRecords = new LinkedHashMap<>();
+        int position = 0;
+        for (String symbol : timeSeries.keySet()) {
+            TradingRecord tradingRecord = tradingRecords[position++];
+            if (tradingRecord.getCurrentTrade().canBeClosed()) {
+                tradingRecord.closeCurrent();
+            }
+            symbolRecords.put(symbol, tradingRecord);
+        }
+        return new PortfolioTradingRecord(new LinkedHashMap<>(timeSeries), symbolRecords, rejectedEntryCount);
+    }
+
+    /**
+     * Runs independent symbols, by contiguous shards (one per worker thread of the pool).
+     * @param seriesList the time series of the symbols
+     * @param strategyList the strategies of the symbols
+     * @param tradingRecords the trading records of the symbols
+     * @param pool the pool running the shards
+     */
+    private static void runShards(List<TimeSeries> seriesList, List<Strategy> strategyList,
+            TradingRecord[] tradingRecords, ForkJoinPool pool) {
+        final int symbolCount = seriesList.size();
+        final int shardCount = Math.min(symbolCount, pool.getParallelism());
+        List<CompletableFuture<Void>> shards = new ArrayList<>(shardCount);
+        try {
+            CachedIndicator.concurrently(() -> {
+                for (int shard = 0; shard < shardCount; shard++) {
+                    final int beginPosition = shard * symbolCount / shardCount;
+                    final int endPosition = (shard + 1) * symbolCount / shardCount;
+                    shards.add(CompletableFuture.runAsync(() -> {
+                        for (int position = beginPosition; position < endPosition; position++) {
+                            TimeSeries series = seriesList.get(position);
+                            if (series.isEmpty()) {
+                                continue;
+                            }
+                            for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+                                step(series, strategyList.get(position), tradingRecords[position], i);
+                            }
+                        }
+                    }, pool));
+                }
+                return CompletableFuture.allOf(shards.toArray(new CompletableFuture<?>[shards.size()])).join();
+            });
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Runs the symbols in timestamp order, under the limit on the open positions.
+     * @param seriesList the time series of the symbols
+     * @param strategyList the strategies of the symbols
+     * @param tradingRecords the trading records of the symbols
+     * @return the number of rejected entries
+     */
+    private int runMerged(List<TimeSeries> seriesList, List<Strategy> strategyList, TradingRecord[] tradingRecords) {
+        TickMerger merger = new TickMerger(seriesList);
+        final int[] group = new int[seriesList.size()];
+        final boolean[] entries = new boolean[seriesList.size()];
+        int openPositions = 0;
+        int rejectedEntryCount = 0;
+        while (!merger.isEmpty()) {
+            // Ticks ending at the same time
+            int groupSize = 0;
+            final int first = merger.peek();
+            do {
+                group[groupSize++] = merger.poll();
+            } while (!merger.isEmpty() && merger.isSameTime(merger.peek(), first));
+
+            // Exits first...
+            for (int k = 0; k < groupSize; k++) {
+                final int position = group[k];
+                final int index = merger.getIndex(position);
+                TradingRecord tradingRecord = tradingRecords[position];
+                entries[k] = strategyList.get(position).shouldEnter(index, tradingRecord);
+                if (!entries[k]) {
+                    boolean wasOpened = tradingRecord.getCurrentTrade().isOpened();
+                    if (strategyList.get(position).shouldExit(index, tradingRecord)) {
+                        tradingRecord.exit(index, seriesList.get(position).getTick(index).getClosePrice(), Decimal.NaN);
+                        openPositions += openPositionDelta(wasOpened, tradingRecord);
+                    }
+                }
+            }
+            // ...then the entries, in the order of the symbols
+            for (int k = 0; k < groupSize; k++) {
+                if (!entries[k]) {
+                    continue;
+                }
+                final int position = group[k];
+                final int index = merger.getIndex(position);
+                TradingRecord tradingRecord = tradingRecords[position];
+                boolean wasOpened = tradingRecord.getCurrentTrade().isOpened();
+                if (wasOpened || openPositions < maximumOpenPositions) {
+                    tradingRecord.enter(index, seriesList.get(position).getTick(index).getClosePrice(), Decimal.NaN);
+                    openPositions += openPositionDelta(wasOpened, tradingRecord);
+                } else {
+                    rejectedEntryCount++;
+                    // Entry rejected: same as a strategy not entering
+                    if (strategyList.get(position).shouldExit(index, tradingRecord)) {
+                        tradingRecord.exit(index, seriesList.get(position).getTick(index).getClosePrice(), Decimal.NaN);
+                    }
+                }
+            }
+
+            for (int k = 0; k < groupSize; k++) {
+                merger.push(group[k]);
+            }
+        }
+        return rejectedEntryCount;
+    }
+
+    /**
+     * @param wasOpened true if the current trade of the record was opened before the order
+     * @param tradingRecord the trading record (after the order)
+     * @return 1 if a position has been opened, -1 if a position has been closed, 0 otherwise
+     */
+    private static int openPositionDelta(boolean wasOpened, TradingRecord tradingRecord) {
+        boolean isOpened = tradingRecord.getCurrentTrade().isOpened();
+        return (isOpened ? 1 : 0) - (wasOpened ? 1 : 0);
+    }
+
+    /**
+     * Runs a strategy on a tick (same as the {@link TimeSeriesManager} runs).
+     * @param series the time series
+     * @param strategy the trading strategy
+     * @param tradingRecord the trading record of the strategy
+     * @param index the tick index
+     */
+    private static void step(TimeSeries series, Strategy strategy, TradingRecord tradingRecord, int index) {
+        if (strategy.shouldEnter(index, tradingRecord)) {
+            tradingRecord.enter(index, series.getTick(index).getClosePrice(), Decimal.NaN);
+        } else if (strategy.shouldExit(index, tradingRecord)) {
+            tradingRecord.exit(index, series.getTick(index).getClosePrice(), Decimal.NaN);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.portfolio;
+
+import eu.verdelhan.ta4j.Trade;
+import java.time.ZonedDateTime;
+
+/**
+ * A trade of a portfolio (see {@link PortfolioTradingRecord#getTrades()}).
+ */
+public class PortfolioTrade {
+
+    private final String symbol;
+
+    private final Trade trade;
+
+    private final ZonedDateTime entryTime;
+
+    private final ZonedDateTime exitTime;
+
+    /**
+     * Constructor.
+     * @param symbol the symbol of the trade
+     * @param trade the trade
+     * @param entryTime the end time of the tick of the first entry
+     * @param exitTime the end time of the tick of the first exit (closing the position)
+     */
+    PortfolioTrade(String symbol, Trade trade, ZonedDateTime entryTime, ZonedDateTime exitTime) {
+        this.symbol = symbol;
+        this.trade = trade;
+        this.entryTime = entryTime;
+        this.exitTime = exitTime;
+    }
+
+    /**
+     * @return the symbol of the trade
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * @return the trade (with the tick indexes of the time series of the symbol)
+     */
+    public Trade getTrade() {
+        return trade;
+    }
+
+    /**
+     * @return the end time of the tick of the first entry
+     */
+    public ZonedDateTime getEntryTime() {
+        return entryTime;
+    }
+
+    /**
+     * @return the end time of the tick of the first exit (closing the position)
+     */
+    public ZonedDateTime getExitTime() {
+        return exitTime;
+    }
+
+    @Override
+    public String toString() {
+        return symbol + " " + entryTime + " -> " + exitTime + ": " + trade;
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.portfolio;
+
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.Trade;
+import eu.verdelhan.ta4j.TradingRecord;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Trading records of a portfolio run (see {@link PortfolioManager}).
+ * <p>
+ * Holds the trading record of each symbol and the aggregate list of the trades of all the symbols.
+ */
+public class PortfolioTradingRecord {
+
+    private final Map<String, TimeSeries> timeSeries;
+
+    private final Map<String, TradingRecord> tradingRecords;
+
+    private final int rejectedEntryCount;
+
+    private List<PortfolioTrade> trades;
+
+    /**
+     * Constructor.
+     * @param timeSeries the time series of the symbols (in the order of the symbols)
+     * @param tradingRecords the trading records of the symbols (in the order of the symbols)
+     * @param rejectedEntryCount the number of entries rejected by the portfolio constraints
+     */
+    PortfolioTradingRecord(Map<String, TimeSeries> timeSeries, Map<String, TradingRecord> tradingRecords,
+            int rejectedEntryCount) {
+        this.timeSeries = timeSeries;
+        this.tradingRecords = tradingRecords;
+        this.rejectedEntryCount = rejectedEntryCount;
+    }
+
+    /**
+     * @return the symbols of the portfolio
+     */
+    public List<String> getSymbols() {
+        return Collections.unmodifiableList(new ArrayList<>(tradingRecords.keySet()));
+    }
+
+    /**
+     * @param symbol a symbol of the portfolio
+     * @return the time series of the symbol
+     */
+    public TimeSeries getTimeSeries(String symbol) {
+        return timeSeries.get(symbol);
+    }
+
+    /**
+     * @param symbol a symbol of the portfolio
+     * @return the trading record of the symbol
+     */
+    public TradingRecord getTradingRecord(String symbol) {
+        return tradingRecords.get(symbol);
+    }
+
+    /**
+     * @return the number of entries rejected by the portfolio constraints
+     */
+    public int getRejectedEntryCount() {
+        return rejectedEntryCount;
+    }
+
+    /**
+     * @return the number of trades of all the symbols
+     */
+    public int getTradeCount() {
+        int tradeCount = 0;
+        for (TradingRecord tradingRecord : tradingRecords.values()) {
+            tradeCount += tradingRecord.getTradeCount();
+        }
+        return tradeCount;
+    }
+
+    /**
+     * @return the trades of all the symbols, by entry time (then by symbol order)
+     */
+    public synchronized List<PortfolioTrade> getTrades() {
+        if (trades == null) {
+            List<PortfolioTrade> allTrades = new ArrayList<>(getTradeCount());
+            for (Map.Entry<String, TradingRecord> entry : tradingRecords.entrySet()) {
+                TimeSeries series = timeSeries.get(entry.getKey());
+                for (Trade trade : entry.getValue().getTrades()) {
+                    allTrades.add(new PortfolioTrade(entry.getKey(), trade,
+                            series.getTick(trade.getFirstEntryIndex()).getEndTime(),
+                            series.getTick(trade.getExits().get(0).getIndex()).getEndTime()));
+                }
+            }
+            // Stable sort: symbol order kept for the same entry time
+            allTrades.sort(Comparator.comparing(trade -> trade.getEntryTime().toInstant()));
+            trades = Collections.unmodifiableList(allTrades);
+        }
+        return trades;
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.portfolio;
+
+import eu.verdelhan.ta4j.TimeSeries;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * K-way merge of the ticks of several time series, in end time order.
+ * <p>
+ * Binary min-heap of the series, keyed by the end time of their current tick (ties broken by series position, so
+ * that the order is deterministic). The series are polled at their current tick, then pushed back at their next one.
+ */
+final class TickMerger {
+
+    private final TimeSeries[] series;
+
+    /** Current tick index of each series */
+    private final int[] indexes;
+
+    /** End time of the current tick of each series (epoch seconds and nanoseconds) */
+    private final long[] epochSeconds;
+
+    private final int[] nanos;
+
+    /** Heap of series positions */
+    private final int[] heap;
+
+    private int size;
+
+    /**
+     * Constructor.
+     * @param series the time series (the empty ones are ignored)
+     */
+    TickMerger(List<? extends TimeSeries> series) {
+        this.series = series.toArray(new TimeSeries[series.size()]);
+        indexes = new int[this.series.length];
+        epochSeconds = new long[this.series.length];
+        nanos = new int[this.series.length];
+        heap = new int[this.series.length];
+        for (int i = 0; i < this.series.length; i++) {
+            indexes[i] = this.series[i].getBeginIndex() - 1;
+            push(i);
+        }
+    }
+
+    /**
+     * @return true if all the ticks have been polled, false otherwise
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the position of the series of the next tick (-1 if empty)
+     */
+    int peek() {
+        return size == 0 ? -1 : heap[0];
+    }
+
+    /**
+     * @param position the position of a series
+     * @param other the position of another series
+     * @return true if the current ticks of both series end at the same time, false otherwise
+     */
+    boolean isSameTime(int position, int other) {
+        return epochSeconds[position] == epochSeconds[other] && nanos[position] == nanos[other];
+    }
+
+    /**
+     * Removes the series of the next tick from the merge.
+     * @return the position of the series
+     */
+    int poll() {
+        final int position = heap[0];
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            siftDown(0);
+        }
+        return position;
+    }
+
+    /**
+     * @param position the position of a series
+     * @return the index of the current tick of the series
+     */
+    int getIndex(int position) {
+        return indexes[position];
+    }
+
+    /**
+     * Moves a polled series to its next tick and puts it back in the merge (if it has a next tick).
+     * @param position the position of the series
+     */
+    void push(int position) {
+        final int index = ++indexes[position];
+        if (series[position].isEmpty() || index > series[position].getEndIndex()) {
+            return;
+        }
+        ZonedDateTime endTime = series[position].getTick(index).getEndTime();
+        epochSeconds[position] = endTime.toEpochSecond();
+        nanos[position] = endTime.getNano();
+        heap[size] = position;
+        siftUp(size++);
+    }
+
+    private boolean isBefore(int position, int other) {
+        if (epochSeconds[position] != epochSeconds[other]) {
+            return epochSeconds[position] < epochSeconds[other];
+        }
+        if (nanos[position] != nanos[other]) {
+            return nanos[position] < nanos[other];
+        }
+        return position < other;
+    }
+
+    private void siftUp(int node) {
+        final int position = heap[node];
+        while (node > 0) {
+            final int parent = (node - 1) >>> 1;
+            if (!isBefore(position, heap[parent])) {
+                break;
+            }
+            heap[node] = heap[parent];
+            node = parent;
+        }
+        heap[node] = position;
+    }
+
+    private void siftDown(int node) {
+        final int position = heap[node];
+        final int half = size >>> 1;
+        while (node < half) {
+            int child = 2 * node + 1;
+            if (child + 1 < size && isBefore(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!isBefore(heap[child], position)) {
+                break;
+            }
+            heap[node] = heap[child];
+            node = child;
+        }
+        heap[node] = position;
+    }
+}
@@ -48,4 +48,11 @@ public class BooleanIndicatorRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    /**
+     * @return the boolean indicator
+     */
+    public Indicator<Boolean> getIndicator() {
+        return indicator;
+    }
 }
@@ -62,4 +62,11 @@ public class CrossedUpIndicatorRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    /**
+     * @return the cross indicator
+     */
+    public CrossIndicator getCross() {
+        return cross;
+    }
 }
@@ -49,4 +49,11 @@ public class NotRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    /**
+     * @return the negated rule
+     */
+    public Rule getRule() {
+        return rule;
+    }
 }
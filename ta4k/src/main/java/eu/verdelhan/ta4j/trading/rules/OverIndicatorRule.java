@@ -64,4 +64,18 @@ public class OverIndicatorRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    /**
+     * @return the first indicator
+     */
+    public Indicator<Decimal> getFirst() {
+        return first;
+    }
+
+    /**
+     * @return the second indicator
+     */
+    public Indicator<Decimal> getSecond() {
+        return second;
+    }
 }
@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import eu.verdelhan.ta4j.mocks.MockTick;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CircularTickListTest {
+
+    private List<Tick> ticks;
+
+    @Before
+    public void setUp() {
+        ticks = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            ticks.add(new MockTick(i));
+        }
+    }
+
+    @Test
+    public void keepsLastTicksOfInitialCollection() {
+        CircularTickList list = new CircularTickList(3, ticks);
+        assertEquals(3, list.size());
+        assertEquals(ticks.subList(37, 40), list);
+    }
+
+    @Test
+    public void appendAndRemoveFirstWrapAround() {
+        CircularTickList list = new CircularTickList(4, ticks.subList(0, 3));
+        for (int i = 3; i < 40; i++) {
+            list.add(ticks.get(i));
+            list.removeFirst(1);
+            assertEquals(ticks.subList(i - 2, i + 1), list);
+        }
+        assertSame(ticks.get(37), list.remove(0));
+        assertEquals(Arrays.asList(ticks.get(38), ticks.get(39)), list);
+    }
+
+    @Test
+    public void growsUpToMaximumCapacity() {
+        CircularTickList list = new CircularTickList(100, new ArrayList<>());
+        list.addAll(ticks);
+        assertEquals(ticks, list);
+        list.removeFirst(10);
+        assertEquals(ticks.subList(10, 40), list);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void appendToFullList() {
+        CircularTickList list = new CircularTickList(2, ticks.subList(0, 2));
+        list.add(ticks.get(2));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void insertInTheMiddle() {
+        CircularTickList list = new CircularTickList(10, ticks.subList(0, 2));
+        list.add(1, ticks.get(2));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void removeInTheMiddle() {
+        CircularTickList list = new CircularTickList(10, ticks.subList(0, 2));
+        list.remove(1);
+    }
+}
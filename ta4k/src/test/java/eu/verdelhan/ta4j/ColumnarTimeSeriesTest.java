@@ -0,0 +1,174 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.indicators.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.MaxPriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ColumnarTimeSeriesTest {
+
+    private List<Tick> ticks;
+
+    private ColumnarTimeSeries series;
+
+    @Before
+    public void setUp() {
+        ticks = new ArrayList<>();
+        ZonedDateTime time = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 6; i++) {
+            ticks.add(new MockTick(time.plusDays(i), i, i + 1, i + 2, i - 1, 10 * i, 100 + i, i + 3));
+        }
+        series = new ColumnarTimeSeries("columnar", ticks);
+    }
+
+    @Test
+    public void ticksAreCopiedIntoColumns() {
+        assertEquals("columnar", series.getName());
+        assertEquals(0, series.getBeginIndex());
+        assertEquals(5, series.getEndIndex());
+        assertEquals(6, series.getTickCount());
+        assertEquals(6, series.getTickData().size());
+        for (int i = 0; i < ticks.size(); i++) {
+            Tick expected = ticks.get(i);
+            Tick actual = series.getTick(i);
+            assertEquals(expected.getOpenPrice(), actual.getOpenPrice());
+            assertEquals(expected.getClosePrice(), actual.getClosePrice());
+            assertEquals(expected.getMaxPrice(), actual.getMaxPrice());
+            assertEquals(expected.getMinPrice(), actual.getMinPrice());
+            assertEquals(expected.getVolume(), actual.getVolume());
+            assertEquals(expected.getAmount(), actual.getAmount());
+            assertEquals(expected.getTrades(), actual.getTrades());
+            assertEquals(expected.getTimePeriod(), actual.getTimePeriod());
+            assertTrue(expected.getBeginTime().isEqual(actual.getBeginTime()));
+            assertTrue(expected.getEndTime().isEqual(actual.getEndTime()));
+            assertEquals(Decimal.Backend.DOUBLE, actual.getClosePrice().getBackend());
+        }
+    }
+
+    @Test
+    public void addPrimitiveTick() {
+        ZonedDateTime endTime = series.getLastTick().getEndTime().plusDays(1);
+        series.addTick(Duration.ofDays(1), endTime, 1, 4, 0.5, 3, 42);
+        assertEquals(6, series.getEndIndex());
+        Tick tick = series.getLastTick();
+        assertDecimalEquals(tick.getOpenPrice(), 1);
+        assertDecimalEquals(tick.getMaxPrice(), 4);
+        assertDecimalEquals(tick.getMinPrice(), 0.5);
+        assertDecimalEquals(tick.getClosePrice(), 3);
+        assertDecimalEquals(tick.getVolume(), 42);
+        assertTrue(endTime.isEqual(tick.getEndTime()));
+        assertTrue(endTime.minusDays(1).isEqual(tick.getBeginTime()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addTickWithEndTimePriorToSeriesEndTime() {
+        series.addTick(new MockTick(series.getLastTick().getEndTime().minusMinutes(1), 1d));
+    }
+
+    @Test
+    public void addTradeWritesIntoColumns() {
+        ColumnarTimeSeries tradeSeries = new ColumnarTimeSeries("trades");
+        tradeSeries.addTick(new BaseTick(Duration.ofHours(1), ZonedDateTime.now()));
+        Tick tick = tradeSeries.getTick(0);
+        assertTrue(tick.getOpenPrice().isNaN());
+
+        tick.addTrade(3.0, 200.0);
+        tick.addTrade(4.0, 201.0);
+        tick.addTrade(2.0, 198.0);
+
+        Tick reread = tradeSeries.getTick(0);
+        assertEquals(3, reread.getTrades());
+        assertDecimalEquals(reread.getAmount(), 3 * 200 + 4 * 201 + 2 * 198);
+        assertDecimalEquals(reread.getOpenPrice(), 200);
+        assertDecimalEquals(reread.getClosePrice(), 198);
+        assertDecimalEquals(reread.getMinPrice(), 198);
+        assertDecimalEquals(reread.getMaxPrice(), 201);
+        assertDecimalEquals(reread.getVolume(), 9);
+    }
+
+    @Test
+    public void maximumTickCount() {
+        series.setMaximumTickCount(3);
+        assertEquals(3, series.getRemovedTicksCount());
+        assertEquals(3, series.getTickCount());
+        assertEquals(3, series.getTickData().size());
+        assertDecimalEquals(series.getTick(3).getClosePrice(), 4);
+        // Removed ticks: the first remaining one is returned
+        assertDecimalEquals(series.getTick(1).getClosePrice(), 4);
+
+        // Many more ticks than the capacity of the columns
+        ZonedDateTime time = series.getLastTick().getEndTime();
+        for (int i = 6; i < 1000; i++) {
+            series.addTick(Duration.ofDays(1), time.plusDays(i), i, i, i, 10 * i, 1);
+        }
+        assertEquals(997, series.getRemovedTicksCount());
+        assertEquals(999, series.getEndIndex());
+        assertEquals(3, series.getTickCount());
+        assertDecimalEquals(series.getTick(997).getClosePrice(), 9970);
+        assertDecimalEquals(series.getTick(999).getClosePrice(), 9990);
+        assertDecimalEquals(series.getTickData().get(0).getClosePrice(), 9970);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void removedTickViewCannotBeRead() {
+        Tick first = series.getTick(0);
+        series.setMaximumTickCount(2);
+        first.getClosePrice();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getTickAfterEnd() {
+        series.getTick(6);
+    }
+
+    @Test
+    public void indicatorsOnColumnarSeries() {
+        TimeSeries baseSeries = new BaseTimeSeries(ticks);
+        SMAIndicator baseSma = new SMAIndicator(new ClosePriceIndicator(baseSeries), 3);
+        SMAIndicator columnarSma = new SMAIndicator(new ClosePriceIndicator(series), 3);
+        MaxPriceIndicator baseMax = new MaxPriceIndicator(baseSeries);
+        MaxPriceIndicator columnarMax = new MaxPriceIndicator(series);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertDecimalEquals(columnarSma.getValue(i), baseSma.getValue(i).toDouble());
+            assertDecimalEquals(columnarMax.getValue(i), baseMax.getValue(i).toDouble());
+        }
+    }
+
+    @Test
+    public void constrainedSeriesOverColumnarSeries() {
+        TimeSeries constrained = new BaseTimeSeries(series, 2, 4);
+        assertEquals(3, constrained.getTickCount());
+        assertDecimalEquals(constrained.getTick(2).getClosePrice(), 3);
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import eu.verdelhan.ta4j.Decimal.Backend;
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.indicators.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class DecimalTest {
+
+    @Test
+    public void backends() {
+        assertEquals(Backend.PRECISE, Decimal.valueOf(1.5).getBackend());
+        assertEquals(Backend.PRECISE, Backend.PRECISE.decimalOf(1.5).getBackend());
+        assertEquals(Backend.DOUBLE, Backend.DOUBLE.decimalOf(1.5).getBackend());
+        assertEquals(Backend.DOUBLE, Backend.DOUBLE.decimalOf("1.5").getBackend());
+        assertEquals(Backend.DOUBLE, Backend.DOUBLE.convert(Decimal.TEN).getBackend());
+        assertEquals(Backend.PRECISE, Backend.PRECISE.convert(Backend.DOUBLE.decimalOf(2)).getBackend());
+        assertSame(Decimal.NaN, Backend.DOUBLE.decimalOf(Double.NaN));
+        assertSame(Decimal.NaN, Backend.DOUBLE.decimalOf("NaN"));
+    }
+
+    @Test
+    public void doubleArithmetic() {
+        Decimal a = Backend.DOUBLE.decimalOf(6);
+        Decimal b = Backend.DOUBLE.decimalOf(4);
+        assertDecimalEquals(a.plus(b), 10);
+        assertDecimalEquals(a.minus(b), 2);
+        assertDecimalEquals(a.multipliedBy(b), 24);
+        assertDecimalEquals(a.dividedBy(b), 1.5);
+        assertDecimalEquals(a.remainder(b), 2);
+        assertDecimalEquals(b.pow(3), 64);
+        assertDecimalEquals(b.sqrt(), 2);
+        assertDecimalEquals(Backend.DOUBLE.decimalOf(-4).abs(), 4);
+        assertEquals(Backend.DOUBLE, a.plus(b).getBackend());
+        assertTrue(a.dividedBy(Backend.DOUBLE.decimalOf(0)).isNaN());
+        assertTrue(Backend.DOUBLE.decimalOf(-1).sqrt().isNaN());
+    }
+
+    @Test
+    public void mixedBackendsResultsAreDoubleBacked() {
+        Decimal precise = Decimal.valueOf(3);
+        Decimal fast = Backend.DOUBLE.decimalOf(2);
+        assertEquals(Backend.DOUBLE, precise.plus(fast).getBackend());
+        assertEquals(Backend.DOUBLE, fast.multipliedBy(precise).getBackend());
+        assertEquals(Backend.PRECISE, precise.plus(precise).getBackend());
+        assertDecimalEquals(precise.minus(fast), 1);
+        assertSame(Decimal.NaN, fast.plus(Decimal.NaN));
+    }
+
+    @Test
+    public void comparisonsAndEqualityAcrossBackends() {
+        Decimal precise = Decimal.valueOf("2.5");
+        Decimal fast = Backend.DOUBLE.decimalOf(2.5);
+        assertEquals(precise, fast);
+        assertEquals(fast, precise);
+        assertEquals(precise.hashCode(), fast.hashCode());
+        assertEquals(0, precise.compareTo(fast));
+        assertTrue(fast.isLessThan(Decimal.THREE));
+        assertTrue(Decimal.THREE.isGreaterThan(fast));
+        assertTrue(Backend.DOUBLE.decimalOf(0).isZero());
+        assertTrue(Backend.DOUBLE.decimalOf(-0.1).isNegative());
+        assertSame(fast, fast.max(Decimal.ONE));
+        assertNotEquals(fast, Decimal.NaN);
+        // Same value, different scales
+        assertEquals(Decimal.valueOf("1.0").hashCode(), Decimal.valueOf("1").hashCode());
+        // Negative zero
+        Decimal negativeZero = Backend.DOUBLE.decimalOf(-0d);
+        assertEquals(Backend.DOUBLE.decimalOf(0), negativeZero);
+        assertEquals(Backend.DOUBLE.decimalOf(0).hashCode(), negativeZero.hashCode());
+        assertEquals(Decimal.ZERO.hashCode(), negativeZero.hashCode());
+    }
+
+    @Test
+    public void indicatorOnDoubleBackedSeries() {
+        List<Tick> ticks = new ArrayList<>();
+        ZonedDateTime time = ZonedDateTime.now();
+        double[] closePrices = { 1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2 };
+        for (int i = 0; i < closePrices.length; i++) {
+            Decimal price = Backend.DOUBLE.decimalOf(closePrices[i]);
+            ticks.add(new BaseTick(time.plusDays(i), price, price, price, price, Backend.DOUBLE.decimalOf(1)));
+        }
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(new BaseTimeSeries(ticks)), 3);
+
+        assertEquals(Backend.DOUBLE, sma.getValue(5).getBackend());
+        assertDecimalEquals(sma.getValue(0), 1);
+        assertDecimalEquals(sma.getValue(1), 1.5);
+        assertDecimalEquals(sma.getValue(5), 3.6666);
+        assertDecimalEquals(sma.getValue(12), 3);
+    }
+}
@@ -23,9 +23,15 @@
 package eu.verdelhan.ta4j;
 
 import eu.verdelhan.ta4j.Order.OrderType;
+import eu.verdelhan.ta4j.indicators.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import eu.verdelhan.ta4j.trading.rules.CrossedDownIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.CrossedUpIndicatorRule;
 import eu.verdelhan.ta4j.trading.rules.FixedRule;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -172,4 +178,80 @@ public class TimeSeriesManagerTest {
         trades = manager.run(aStrategy, 9, 9).getTrades();
         assertTrue(trades.isEmpty());
     }
+
+    @Test
+    public void runStrategiesConcurrently() {
+        double[] closePrices = new double[300];
+        for (int i = 0; i < closePrices.length; i++) {
+            closePrices[i] = 100 + 10 * Math.sin(i / 7d) + 5 * Math.sin(i / 3d);
+        }
+        // Constrained series: the trades left open are closed after its end
+        TimeSeries series = new BaseTimeSeries(new MockTimeSeries(closePrices), 0, 200);
+        manager.setTimeSeries(series);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        List<Strategy> strategies = new ArrayList<>();
+        for (int shortTimeFrame = 2; shortTimeFrame <= 6; shortTimeFrame++) {
+            for (int longTimeFrame = 8; longTimeFrame <= 14; longTimeFrame += 2) {
+                SMAIndicator shortSma = new SMAIndicator(closePrice, shortTimeFrame);
+                SMAIndicator longSma = new SMAIndicator(closePrice, longTimeFrame);
+                strategies.add(new BaseStrategy(new CrossedUpIndicatorRule(shortSma, longSma),
+                        new CrossedDownIndicatorRule(shortSma, longSma)));
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<TradingRecord> tradingRecords;
+        List<TradingRecord> sellTradingRecords;
+        try {
+            tradingRecords = manager.run(strategies, pool);
+            // Between two indexes, opening the trades with sell orders
+            sellTradingRecords = manager.run(strategies, OrderType.SELL, Decimal.TEN, 20, 150, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(strategies.size(), tradingRecords.size());
+        assertEquals(strategies.size(), sellTradingRecords.size());
+        for (int i = 0; i < strategies.size(); i++) {
+            assertEquals(manager.run(strategies.get(i)).getTrades(), tradingRecords.get(i).getTrades());
+            TradingRecord expectedRecord = manager.run(strategies.get(i), OrderType.SELL, Decimal.TEN, 20, 150);
+            assertEquals(expectedRecord.getTrades(), sellTradingRecords.get(i).getTrades());
+            assertEquals(expectedRecord.isClosed(), sellTradingRecords.get(i).isClosed());
+        }
+    }
+
+    @Test
+    public void runStrategiesInSinglePass() {
+        double[] closePrices = new double[900];
+        for (int i = 0; i < closePrices.length; i++) {
+            closePrices[i] = 100 + 10 * Math.sin(i / 7d) + 5 * Math.sin(i / 3d);
+        }
+        TimeSeries series = new MockTimeSeries(closePrices);
+        manager.setTimeSeries(series);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        List<Strategy> strategies = new ArrayList<>();
+        for (int shortTimeFrame = 2; shortTimeFrame <= 6; shortTimeFrame++) {
+            for (int longTimeFrame = 8; longTimeFrame <= 14; longTimeFrame += 2) {
+                SMAIndicator shortSma = new SMAIndicator(closePrice, shortTimeFrame);
+                SMAIndicator longSma = new SMAIndicator(closePrice, longTimeFrame);
+                strategies.add(new BaseStrategy(new CrossedUpIndicatorRule(shortSma, longSma),
+                        new CrossedDownIndicatorRule(shortSma, longSma)));
+            }
+        }
+        strategies.add(strategy);
+
+        // Over the whole series
+        List<TradingRecord> tradingRecords = manager.run(strategies);
+        assertEquals(strategies.size(), tradingRecords.size());
+        for (int i = 0; i < strategies.size(); i++) {
+            assertEquals(manager.run(strategies.get(i)).getTrades(), tradingRecords.get(i).getTrades());
+        }
+
+        // Between two indexes, opening the trades with sell orders (the trades left open are closed after the finish index)
+        tradingRecords = manager.run(strategies, OrderType.SELL, Decimal.TEN, 50, 800);
+        for (int i = 0; i < strategies.size(); i++) {
+            TradingRecord expectedRecord = manager.run(strategies.get(i), OrderType.SELL, Decimal.TEN, 50, 800);
+            assertEquals(expectedRecord.getTrades(), tradingRecords.get(i).getTrades());
+            assertEquals(expectedRecord.isClosed(), tradingRecords.get(i).isClosed());
+        }
+    }
 }
@@ -198,6 +198,57 @@ public class TimeSeriesTest {
         assertEquals(3, defaultSeries.getTickCount());
     }
 
+    @Test
+    public void addTickOnMovingSeries() {
+        defaultSeries.setMaximumTickCount(3);
+        ZonedDateTime endTime = defaultSeries.getLastTick().getEndTime();
+        for (int i = 1; i <= 100; i++) {
+            Tick tick = new MockTick(endTime.plusDays(i), 6d + i);
+            defaultSeries.addTick(tick);
+            assertSame(tick, defaultSeries.getLastTick());
+        }
+        assertEquals(103, defaultSeries.getRemovedTicksCount());
+        assertEquals(105, defaultSeries.getEndIndex());
+        assertEquals(3, defaultSeries.getTickCount());
+        assertEquals(3, defaultSeries.getTickData().size());
+        assertEquals(104d, defaultSeries.getTick(103).getClosePrice().toDouble(), 0);
+        assertEquals(106d, defaultSeries.getTick(105).getClosePrice().toDouble(), 0);
+        // Removed ticks: the first remaining one is returned
+        assertSame(defaultSeries.getTick(103), defaultSeries.getTick(50));
+
+        // Changing the maximum tick count of a moving series
+        defaultSeries.setMaximumTickCount(2);
+        assertEquals(104, defaultSeries.getRemovedTicksCount());
+        defaultSeries.setMaximumTickCount(10);
+        defaultSeries.addTick(new MockTick(endTime.plusDays(101), 107d));
+        assertEquals(3, defaultSeries.getTickCount());
+        assertEquals(107d, defaultSeries.getLastTick().getClosePrice().toDouble(), 0);
+    }
+
+    @Test
+    public void shrinkMaximumTickCountOnFullMovingSeries() {
+        defaultSeries.setMaximumTickCount(100);
+        ZonedDateTime endTime = defaultSeries.getLastTick().getEndTime();
+        for (int i = 1; i <= 94; i++) {
+            defaultSeries.addTick(new MockTick(endTime.plusDays(i), 6d + i));
+        }
+        assertEquals(100, defaultSeries.getTickCount());
+        assertEquals(0, defaultSeries.getRemovedTicksCount());
+
+        defaultSeries.setMaximumTickCount(10);
+        assertEquals(90, defaultSeries.getRemovedTicksCount());
+        assertEquals(99, defaultSeries.getEndIndex());
+        assertEquals(10, defaultSeries.getTickCount());
+        assertEquals(96d, defaultSeries.getTick(95).getClosePrice().toDouble(), 0);
+        assertEquals(100d, defaultSeries.getLastTick().getClosePrice().toDouble(), 0);
+
+        // The shrunk series keeps moving
+        defaultSeries.addTick(new MockTick(endTime.plusDays(95), 101d));
+        assertEquals(91, defaultSeries.getRemovedTicksCount());
+        assertEquals(10, defaultSeries.getTickCount());
+        assertEquals(92d, defaultSeries.getTick(91).getClosePrice().toDouble(), 0);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void addNullTickShouldThrowException() {
         defaultSeries.addTick(null);
@@ -31,8 +31,10 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class AbstractAnalysisCriterionTest {
 
@@ -87,6 +89,24 @@ public class AbstractAnalysisCriterionTest {
         assertEquals(buyAndHoldStrategy, bestStrategy);
     }
 
+    @Test
+    public void parallelChooseBest() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            TimeSeriesManager manager = new TimeSeriesManager(new MockTimeSeries(6.0, 9.0, 6.0, 6.0));
+            assertEquals(alwaysBuyThenSellStrategy, new TotalProfitCriterion().chooseBest(manager, strategies, pool));
+            manager.setTimeSeries(new MockTimeSeries(6.0, 3.0, 6.0, 6.0));
+            assertEquals(buyAndHoldStrategy, new TotalProfitCriterion().chooseBest(manager, strategies, pool));
+
+            // Tie: first strategy
+            Strategy otherBuyAndHoldStrategy = new BaseStrategy(new FixedRule(0), new FixedRule(4));
+            List<Strategy> tiedStrategies = Arrays.asList(otherBuyAndHoldStrategy, buyAndHoldStrategy);
+            assertSame(otherBuyAndHoldStrategy, new TotalProfitCriterion().chooseBest(manager, tiedStrategies, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test
     public void toStringMethod() {
         AbstractAnalysisCriterion c1 = new AverageProfitCriterion();
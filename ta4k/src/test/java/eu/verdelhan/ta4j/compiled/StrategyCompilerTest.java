@@ -0,0 +1,168 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.compiled;
+
+import eu.verdelhan.ta4j.BaseStrategy;
+import eu.verdelhan.ta4j.ColumnarTimeSeries;
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Rule;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.TimeSeriesManager;
+import eu.verdelhan.ta4j.TradingRecord;
+import eu.verdelhan.ta4j.indicators.EMAIndicator;
+import eu.verdelhan.ta4j.indicators.MACDIndicator;
+import eu.verdelhan.ta4j.indicators.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.ConstantIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.DifferenceIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.MaxPriceIndicator;
+import eu.verdelhan.ta4j.trading.rules.BooleanRule;
+import eu.verdelhan.ta4j.trading.rules.CrossedDownIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.CrossedUpIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.OverIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.StopLossRule;
+import eu.verdelhan.ta4j.trading.rules.UnderIndicatorRule;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class StrategyCompilerTest {
+
+    /**
+     * @param tickCount the number of ticks
+     * @return a random walk series (close prices rounded to integers, in order to get equal values)
+     */
+    private static TimeSeries randomWalkSeries(int tickCount) {
+        ColumnarTimeSeries series = new ColumnarTimeSeries("random walk", tickCount);
+        Random random = new Random(42);
+        ZonedDateTime time = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        double price = 100;
+        for (int i = 0; i < tickCount; i++) {
+            price = Math.max(1, price + random.nextGaussian());
+            double close = Math.rint(price);
+            series.addTick(Duration.ofMinutes(1), time.plusMinutes(i), price, close + 1, close - 1, close, 1000);
+        }
+        return series;
+    }
+
+    private static Strategy buildStrategy(TimeSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator shortSma = new SMAIndicator(closePrice, 5);
+        EMAIndicator longEma = new EMAIndicator(closePrice, 20);
+        MACDIndicator macd = new MACDIndicator(closePrice, 12, 26);
+        EMAIndicator signal = new EMAIndicator(macd, 9);
+        ConstantIndicator<Decimal> level = new ConstantIndicator<>(Decimal.valueOf(100));
+
+        Rule entryRule = new CrossedUpIndicatorRule(shortSma, longEma)
+                .and(new OverIndicatorRule(macd, signal))
+                .or(new CrossedUpIndicatorRule(closePrice, level).xor(BooleanRule.FALSE));
+        Rule exitRule = new CrossedDownIndicatorRule(new DifferenceIndicator(macd, signal), Decimal.ZERO)
+                .or(new UnderIndicatorRule(new MaxPriceIndicator(series), shortSma).and(new CrossedDownIndicatorRule(closePrice, level)))
+                .and(new OverIndicatorRule(closePrice, Decimal.valueOf(1000)).negation());
+        return new BaseStrategy(entryRule, exitRule, 10);
+    }
+
+    @Test
+    public void compiledStrategyGivesSameTrades() {
+        TimeSeries series = randomWalkSeries(5000);
+        Strategy strategy = buildStrategy(series);
+        CompiledStrategy compiled = StrategyCompiler.compile(series, buildStrategy(series));
+
+        TimeSeriesManager manager = new TimeSeriesManager(series);
+        TradingRecord expected = manager.run(strategy);
+        TradingRecord actual = manager.run(compiled);
+        assertTrue(expected.getTradeCount() > 10);
+        assertEquals(expected.getTrades(), actual.getTrades());
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertEquals(strategy.shouldEnter(i), compiled.shouldEnter(i));
+            assertEquals(strategy.shouldExit(i), compiled.shouldExit(i));
+        }
+    }
+
+    @Test
+    public void compiledStrategyGivesSameSignalsOnMovingSeries() {
+        TimeSeries ticks = randomWalkSeries(3000);
+        ColumnarTimeSeries series = new ColumnarTimeSeries("moving random walk");
+        series.setMaximumTickCount(200);
+        for (int i = 0; i < 1000; i++) {
+            series.addTick(ticks.getTick(i));
+        }
+        // Built after the removal of ticks
+        assertEquals(800, series.getRemovedTicksCount());
+        Strategy strategy = buildStrategy(series);
+        CompiledStrategy compiled = StrategyCompiler.compile(series, buildStrategy(series));
+        int signalCount = 0;
+        for (int index = series.getRemovedTicksCount(); index <= series.getEndIndex(); index++) {
+            assertEquals(strategy.shouldEnter(index), compiled.shouldEnter(index));
+            assertEquals(strategy.shouldExit(index), compiled.shouldExit(index));
+        }
+        for (int i = 1000; i < ticks.getTickCount(); i++) {
+            series.addTick(ticks.getTick(i));
+            int index = series.getEndIndex();
+            assertEquals(strategy.shouldEnter(index), compiled.shouldEnter(index));
+            assertEquals(strategy.shouldExit(index), compiled.shouldExit(index));
+            if (strategy.shouldEnter(index) || strategy.shouldExit(index)) {
+                signalCount++;
+            }
+        }
+        assertTrue(signalCount > 10);
+    }
+
+    @Test
+    public void sharedNodesAreCompiledOnce() {
+        TimeSeries series = randomWalkSeries(10);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        EMAIndicator ema = new EMAIndicator(closePrice, 3);
+        Strategy strategy = new BaseStrategy(new OverIndicatorRule(closePrice, ema), new UnderIndicatorRule(closePrice, ema));
+        // Close price, EMA, over, under
+        assertEquals(4, StrategyCompiler.compile(series, strategy).getNodeCount());
+    }
+
+    @Test
+    public void unstablePeriodOfSourceStrategy() {
+        TimeSeries series = randomWalkSeries(10);
+        CompiledStrategy compiled = StrategyCompiler.compile(series, new BaseStrategy(BooleanRule.TRUE, BooleanRule.TRUE));
+        compiled.setUnstablePeriod(3);
+        assertFalse(compiled.shouldEnter(2));
+        assertTrue(compiled.shouldEnter(3));
+        assertTrue(compiled.getSourceStrategy().isUnstableAt(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unsupportedRuleShouldThrowException() {
+        TimeSeries series = randomWalkSeries(10);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        StrategyCompiler.compile(series, new BaseStrategy(BooleanRule.TRUE, new StopLossRule(closePrice, Decimal.ONE)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void indicatorOfAnotherSeriesShouldThrowException() {
+        TimeSeries series = randomWalkSeries(10);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(randomWalkSeries(10));
+        StrategyCompiler.compile(series, new BaseStrategy(new OverIndicatorRule(closePrice, Decimal.ONE), BooleanRule.FALSE));
+    }
+}
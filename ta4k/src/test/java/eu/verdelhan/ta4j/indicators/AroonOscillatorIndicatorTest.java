@@ -0,0 +1,107 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import static org.junit.Assert.assertTrue;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AroonOscillatorIndicatorTest {
+
+    private double[] data;
+
+    private TimeSeries series;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        data = new double[300];
+        for (int i = 0; i < data.length; i++) {
+            // Few distinct values, in order to get ties
+            data[i] = random.nextInt(20);
+        }
+        series = new MockTimeSeries(data);
+    }
+
+    /**
+     * @return the expected Aroon up (highest = true) or down (highest = false) value, walking back from index
+     */
+    private double expectedAroon(int index, int timeFrame, boolean highest) {
+        int realTimeFrame = Math.min(timeFrame, index + 1);
+        int extremumIndex = index;
+        for (int i = index - 1; i > index - realTimeFrame; i--) {
+            if (highest ? data[i] > data[extremumIndex] : data[i] < data[extremumIndex]) {
+                extremumIndex = i;
+            }
+        }
+        int nbTicks = index - extremumIndex;
+        return (realTimeFrame - nbTicks) * 100d / realTimeFrame;
+    }
+
+    @Test
+    public void aroonUpDownAndOscillator() {
+        AroonUpIndicator up = new AroonUpIndicator(series, 25);
+        AroonDownIndicator down = new AroonDownIndicator(series, 25);
+        AroonOscillatorIndicator oscillator = new AroonOscillatorIndicator(up, down);
+        for (int i = 0; i < data.length; i++) {
+            double expectedUp = expectedAroon(i, 25, true);
+            double expectedDown = expectedAroon(i, 25, false);
+            assertDecimalEquals(up.getValue(i), expectedUp);
+            assertDecimalEquals(down.getValue(i), expectedDown);
+            assertDecimalEquals(oscillator.getValue(i), expectedUp - expectedDown);
+        }
+    }
+
+    @Test
+    public void reverseAccess() {
+        AroonOscillatorIndicator oscillator = new AroonOscillatorIndicator(series, 10);
+        for (int i = data.length - 1; i >= 0; i--) {
+            assertDecimalEquals(oscillator.getValue(i), expectedAroon(i, 10, true) - expectedAroon(i, 10, false));
+        }
+    }
+
+    @Test
+    public void notANumberPrices() {
+        TimeSeries nanSeries = new MockTimeSeries(4, Double.NaN, 6, 2, Double.NaN, Double.NaN, Double.NaN, 5, 1);
+        AroonUpIndicator up = new AroonUpIndicator(nanSeries, 3);
+        AroonDownIndicator down = new AroonDownIndicator(nanSeries, 3);
+        // Missing prices are not extremums
+        assertDecimalEquals(up.getValue(1), 50);
+        assertDecimalEquals(down.getValue(1), 50);
+        assertDecimalEquals(up.getValue(3), 66.6667);
+        assertDecimalEquals(down.getValue(3), 100);
+        assertDecimalEquals(up.getValue(4), 33.3333);
+        assertDecimalEquals(down.getValue(4), 66.6667);
+        assertDecimalEquals(down.getValue(5), 33.3333);
+        // No price in the time frame
+        assertTrue(up.getValue(6).isNaN());
+        assertTrue(down.getValue(6).isNaN());
+        assertDecimalEquals(up.getValue(7), 100);
+        assertDecimalEquals(down.getValue(8), 100);
+        assertDecimalEquals(up.getValue(8), 66.6667);
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.time.ZonedDateTime;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BooleanCachedIndicatorTest {
+
+    private TimeSeries series;
+
+    private int calculations;
+
+    private BooleanCachedIndicator multipleOfThree;
+
+    @Before
+    public void setUp() {
+        double[] data = new double[200];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i;
+        }
+        series = new MockTimeSeries(data);
+        calculations = 0;
+        multipleOfThree = new BooleanCachedIndicator(series) {
+            @Override
+            protected Boolean calculate(int index) {
+                calculations++;
+                return series.getTick(index).getClosePrice().toDouble() % 3 == 0;
+            }
+        };
+    }
+
+    @Test
+    public void ifCacheWorks() {
+        for (int i = 199; i >= 0; i--) {
+            assertEquals(i % 3 == 0, multipleOfThree.getValue(i));
+        }
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i % 3 == 0, multipleOfThree.getValue(i));
+        }
+        assertEquals(200, calculations);
+    }
+
+    @Test
+    public void getValueOnMovingTimeSeries() {
+        series.setMaximumTickCount(100);
+        assertFalse(multipleOfThree.getValue(199));
+        ZonedDateTime endTime = series.getLastTick().getEndTime();
+        for (int i = 200; i < 500; i++) {
+            series.addTick(new MockTick(endTime.plusDays(i), i));
+            assertEquals(i % 3 == 0, multipleOfThree.getValue(i));
+            assertEquals((i - 70) % 3 == 0, multipleOfThree.getValue(i - 70));
+        }
+        // Result still in cache
+        int calculationsBefore = calculations;
+        assertEquals(true, multipleOfThree.getValue(450));
+        assertEquals(calculationsBefore, calculations);
+    }
+}
@@ -24,6 +24,7 @@ package eu.verdelhan.ta4j.indicators;
 
 import eu.verdelhan.ta4j.BaseStrategy;
 import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Strategy;
 import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
 import eu.verdelhan.ta4j.TimeSeries;
@@ -31,9 +32,11 @@ import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.ConstantIndicator;
 import eu.verdelhan.ta4j.indicators.SMAIndicator;
 import eu.verdelhan.ta4j.indicators.ZLEMAIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
 import eu.verdelhan.ta4j.trading.rules.OverIndicatorRule;
 import eu.verdelhan.ta4j.trading.rules.UnderIndicatorRule;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import static org.junit.Assert.*;
 import org.junit.Before;
@@ -158,4 +161,97 @@ public class CachedIndicatorTest {
             fail(t.getMessage());
         }
     }
+
+    @Test
+    public void recursiveCachedIndicatorComputesMissingValuesIteratively() {
+        final int[] depth = new int[2]; // current and maximum calculate(int) nesting
+        RecursiveCachedIndicator<Integer> counter = new RecursiveCachedIndicator<Integer>(series) {
+            @Override
+            protected Integer calculate(int index) {
+                depth[1] = Math.max(depth[1], ++depth[0]);
+                int value = index == 0 ? 0 : getValue(index - 1) + 1;
+                depth[0]--;
+                return value;
+            }
+        };
+        assertEquals(10, counter.getValue(10).intValue());
+        assertEquals(1, depth[1]);
+    }
+
+    @Test
+    public void nestedRecursiveIndicatorsShouldNotCauseStackOverflow() {
+        double[] data = new double[1000];
+        Arrays.fill(data, 5);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockTimeSeries(data));
+        // 100 nested EMAs, each value requesting the previous one (fewer than 100 missing values per EMA)
+        Indicator<Decimal> ema = closePrice;
+        for (int i = 0; i < 100; i++) {
+            ema = new EMAIndicator(ema, 2);
+        }
+        try {
+            assertDecimalEquals(ema.getValue(99), 5);
+            assertDecimalEquals(ema.getValue(999), 5);
+        } catch (StackOverflowError e) {
+            fail("StackOverflowError");
+        }
+    }
+
+    @Test
+    public void warmUp() {
+        EMAIndicator ema = new EMAIndicator(new ClosePriceIndicator(series), 3);
+        SMAIndicator sma = new SMAIndicator(ema, 2);
+        sma.warmUp(7);
+        assertEquals(7, sma.highestResultIndex);
+        // The sub-indicators are filled on the way
+        assertEquals(7, ema.highestResultIndex);
+        // Beyond the end of the series
+        sma.warmUp(100);
+        assertEquals(series.getEndIndex(), sma.highestResultIndex);
+        EMAIndicator expectedEma = new EMAIndicator(new ClosePriceIndicator(series), 3);
+        for (int i = series.getEndIndex(); i >= 0; i--) {
+            assertDecimalEquals(ema.getValue(i), expectedEma.getValue(i).toDouble());
+        }
+    }
+
+    @Test
+    public void getValueOnMovingTimeSeriesWhileAddingTicks() {
+        series = new MockTimeSeries(1, 2, 3);
+        series.setMaximumTickCount(20);
+        TimeSeries fullSeries = new MockTimeSeries(1, 2, 3);
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(series), 5);
+        SMAIndicator fullSma = new SMAIndicator(new ClosePriceIndicator(fullSeries), 5);
+
+        ZonedDateTime endTime = series.getLastTick().getEndTime();
+        for (int i = 1; i <= 500; i++) {
+            double price = 3 + (i % 7);
+            series.addTick(new MockTick(endTime.plusDays(i), price));
+            fullSeries.addTick(new MockTick(endTime.plusDays(i), price));
+            int endIndex = series.getEndIndex();
+            assertEquals(fullSma.getValue(endIndex), sma.getValue(endIndex));
+            if (endIndex >= 25) {
+                // Index still in the series and in the cache
+                assertEquals(fullSma.getValue(endIndex - 15), sma.getValue(endIndex - 15));
+            }
+        }
+        assertEquals(20, series.getTickCount());
+    }
+
+    @Test
+    public void getValueAfterMaximumTickCountIncrease() {
+        series = new MockTimeSeries(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        series.setMaximumTickCount(4);
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(series), 2);
+        assertDecimalEquals(sma.getValue(9), 9.5);
+        assertDecimalEquals(sma.getValue(7), 7.5);
+
+        series.setMaximumTickCount(40);
+        ZonedDateTime endTime = series.getLastTick().getEndTime();
+        for (int i = 1; i <= 30; i++) {
+            series.addTick(new MockTick(endTime.plusDays(i), 10 + i));
+            assertDecimalEquals(sma.getValue(series.getEndIndex()), 9.5 + i);
+        }
+        // Results calculated before the increase
+        assertDecimalEquals(sma.getValue(7), 7.5);
+        assertDecimalEquals(sma.getValue(12), 12.5);
+    }
 }
@@ -0,0 +1,212 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.BaseTick;
+import eu.verdelhan.ta4j.BaseTimeSeries;
+import eu.verdelhan.ta4j.ColumnarTimeSeries;
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.FixedIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.OpenPriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DecimalCachedIndicatorTest {
+
+    private ColumnarTimeSeries doubleSeries;
+
+    private TimeSeries preciseSeries;
+
+    @Before
+    public void setUp() {
+        preciseSeries = new MockTimeSeries(1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2);
+        doubleSeries = new ColumnarTimeSeries("double_series");
+        ZonedDateTime endTime = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < preciseSeries.getTickCount(); i++) {
+            double price = preciseSeries.getTick(i).getClosePrice().toDouble();
+            doubleSeries.addTick(Duration.ofDays(1), endTime.plusDays(i), price, price, price, price, 1);
+        }
+    }
+
+    @Test
+    public void doubleBackedResultsAreReadFromPrimitiveCache() {
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(doubleSeries), 3);
+        SMAIndicator preciseSma = new SMAIndicator(new ClosePriceIndicator(preciseSeries), 3);
+        for (int i = 0; i <= doubleSeries.getEndIndex(); i++) {
+            Decimal result = sma.getValue(i);
+            assertEquals(Decimal.Backend.DOUBLE, result.getBackend());
+            assertDecimalEquals(result, preciseSma.getValue(i).toDouble());
+        }
+        // Cached results
+        for (int i = 0; i <= doubleSeries.getEndIndex(); i++) {
+            Decimal result = sma.getValue(i);
+            assertEquals(Decimal.Backend.DOUBLE, result.getBackend());
+            assertDecimalEquals(result, preciseSma.getValue(i).toDouble());
+        }
+    }
+
+    @Test
+    public void preciseResultsAreCachedWithoutPrecisionLoss() {
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(preciseSeries), 3);
+        Decimal result = sma.getValue(2);
+        assertEquals(Decimal.Backend.PRECISE, result.getBackend());
+        assertSame(result, sma.getValue(2));
+        assertEquals("2", result.toString());
+    }
+
+    @Test
+    public void storageFollowsBackendOfSeries() {
+        assertEquals(Decimal.Backend.DOUBLE, doubleSeries.getBackend());
+        assertEquals(Decimal.Backend.PRECISE, preciseSeries.getBackend());
+        // Precise results stored as doubles on a series with double prices
+        DecimalCachedIndicator onDoubleSeries = new DecimalCachedIndicator(doubleSeries) {
+            @Override
+            protected Decimal calculate(int index) {
+                return Decimal.valueOf(index).dividedBy(Decimal.valueOf(4));
+            }
+        };
+        onDoubleSeries.getValue(5);
+        Decimal result = onDoubleSeries.getValue(5);
+        assertEquals(Decimal.Backend.DOUBLE, result.getBackend());
+        assertDecimalEquals(result, 1.25);
+        // Read again: same decimal, not converted again
+        onDoubleSeries.getValue(6);
+        assertSame(result, onDoubleSeries.getValue(5));
+        // Double-backed results stored as references on a series with precise prices
+        DecimalCachedIndicator onPreciseSeries = new DecimalCachedIndicator(preciseSeries) {
+            @Override
+            protected Decimal calculate(int index) {
+                return Decimal.Backend.DOUBLE.decimalOf(index / 4d);
+            }
+        };
+        result = onPreciseSeries.getValue(5);
+        for (int i = 0; i <= preciseSeries.getEndIndex(); i++) {
+            onPreciseSeries.getValue(i);
+        }
+        assertSame(result, onPreciseSeries.getValue(5));
+    }
+
+    @Test
+    public void nanResultsAreCached() {
+        final int[] calculations = { 0 };
+        DecimalCachedIndicator nanIndicator = new DecimalCachedIndicator(doubleSeries) {
+            @Override
+            protected Decimal calculate(int index) {
+                calculations[0]++;
+                return index % 2 == 0 ? Decimal.NaN : Decimal.Backend.DOUBLE.decimalOf(index);
+            }
+        };
+        for (int i = 0; i < 2; i++) {
+            assertSame(Decimal.NaN, nanIndicator.getValue(4));
+            assertDecimalEquals(nanIndicator.getValue(5), 5);
+        }
+        assertEquals(2, calculations[0]);
+    }
+
+    @Test
+    public void nullResultsAreNotCached() {
+        // Tick without trade: no prices
+        TimeSeries series = new BaseTimeSeries();
+        ZonedDateTime endTime = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.systemDefault());
+        series.addTick(new BaseTick(Duration.ofMinutes(1), endTime));
+        OpenPriceIndicator openPrice = new OpenPriceIndicator(series);
+        assertNull(openPrice.getValue(0));
+        assertNull(openPrice.getValue(0));
+    }
+
+    /**
+     * Asserts that the values filled by getValues(Indicator, int, int, double[]) are the ones returned by
+     * getValue(int).
+     */
+    private static void assertValuesEqual(Indicator<Decimal> indicator, Indicator<Decimal> expected,
+            int beginIndex, int endIndex) {
+        double[] values = new double[endIndex - beginIndex + 1];
+        DecimalCachedIndicator.getValues(indicator, beginIndex, endIndex, values);
+        for (int i = beginIndex; i <= endIndex; i++) {
+            assertEquals(expected.getValue(i).toDouble(), values[i - beginIndex], 0);
+        }
+    }
+
+    @Test
+    public void getValues() {
+        for (TimeSeries series : new TimeSeries[] { doubleSeries, preciseSeries }) {
+            final ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+            int endIndex = series.getEndIndex();
+            assertValuesEqual(closePrice, closePrice, 0, endIndex);
+            assertValuesEqual(new SMAIndicator(closePrice, 3), new SMAIndicator(closePrice, 3), 0, endIndex);
+            assertValuesEqual(new EMAIndicator(closePrice, 3), new EMAIndicator(closePrice, 3), 2, endIndex);
+            // Partially cached results
+            SMAIndicator sma = new SMAIndicator(closePrice, 4);
+            sma.getValue(3);
+            sma.getValue(8);
+            assertValuesEqual(sma, new SMAIndicator(closePrice, 4), 1, endIndex);
+            // NaN results
+            DecimalCachedIndicator nanIndicator = new DecimalCachedIndicator(series) {
+                @Override
+                protected Decimal calculate(int index) {
+                    return index % 3 == 0 ? Decimal.NaN : closePrice.getValue(index);
+                }
+            };
+            assertValuesEqual(nanIndicator, nanIndicator, 0, endIndex);
+            // Cached indicator with object results, indicator without cache
+            assertValuesEqual(new WMAIndicator(closePrice, 3), new WMAIndicator(closePrice, 3), 0, endIndex);
+            assertValuesEqual(new FixedIndicator<>(closePrice.getValue(0), closePrice.getValue(1)), closePrice, 0, 1);
+        }
+    }
+
+    @Test
+    public void getValuesOnMovingSeries() {
+        doubleSeries.setMaximumTickCount(5);
+        ZonedDateTime endTime = doubleSeries.getLastTick().getEndTime();
+        for (int i = 1; i <= 10; i++) {
+            doubleSeries.addTick(Duration.ofDays(1), endTime.plusDays(i), i, i, i, i, 1);
+        }
+        EMAIndicator ema = new EMAIndicator(new ClosePriceIndicator(doubleSeries), 3);
+        assertValuesEqual(ema, new EMAIndicator(new ClosePriceIndicator(doubleSeries), 3), 15, doubleSeries.getEndIndex());
+        // Removed ticks
+        assertValuesEqual(ema, ema, 10, doubleSeries.getEndIndex());
+    }
+
+    @Test
+    public void getValueOnMovingSeries() {
+        doubleSeries.setMaximumTickCount(5);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(doubleSeries);
+        EMAIndicator ema = new EMAIndicator(closePrice, 2);
+        ZonedDateTime endTime = doubleSeries.getLastTick().getEndTime();
+        for (int i = 1; i <= 100; i++) {
+            doubleSeries.addTick(Duration.ofDays(1), endTime.plusDays(i), 10, 10, 10, 10, 1);
+            assertDecimalEquals(closePrice.getValue(doubleSeries.getEndIndex()), 10);
+        }
+        assertDecimalEquals(ema.getValue(doubleSeries.getEndIndex()), 10);
+        assertDecimalEquals(ema.getValue(doubleSeries.getEndIndex() - 2), 10);
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndicatorRegistryTest {
+
+    private TimeSeries series;
+
+    private IndicatorRegistry registry;
+
+    @Before
+    public void setUp() {
+        series = new MockTimeSeries(1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2, 4, 6, 5, 7, 8, 6, 5, 4, 5, 6);
+        registry = new IndicatorRegistry();
+        series.setIndicatorRegistry(registry);
+    }
+
+    @Test
+    public void registryPerSeries() {
+        assertSame(registry, IndicatorRegistry.of(series));
+        assertNotSame(registry, IndicatorRegistry.of(new MockTimeSeries(1, 2, 3)));
+        // Registry without sharing
+        assertSame(IndicatorRegistry.of(null), IndicatorRegistry.of(null));
+        assertSame(IndicatorRegistry.of(null), IndicatorRegistry.of(new MockTimeSeries(1, 2, 3)));
+    }
+
+    @Test
+    public void sharingIsOptIn() {
+        TimeSeries otherSeries = new MockTimeSeries(1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2);
+        IndicatorRegistry otherRegistry = IndicatorRegistry.of(otherSeries);
+        ClosePriceIndicator closePrice = otherRegistry.get(ClosePriceIndicator.class,
+                () -> new ClosePriceIndicator(otherSeries));
+        assertNotSame(closePrice, otherRegistry.get(ClosePriceIndicator.class,
+                () -> new ClosePriceIndicator(otherSeries)));
+        CCIIndicator cci = new CCIIndicator(otherSeries, 5);
+        CCIIndicator otherCci = new CCIIndicator(otherSeries, 5);
+        assertEquals(0, otherRegistry.getIndicatorCount());
+        for (int i = 0; i <= otherSeries.getEndIndex(); i++) {
+            assertDecimalEquals(otherCci.getValue(i), cci.getValue(i).toDouble());
+        }
+
+        // Sharing stopped
+        series.setIndicatorRegistry(null);
+        assertNotSame(registry, IndicatorRegistry.of(series));
+        int indicatorCount = registry.getIndicatorCount();
+        new CCIIndicator(series, 5);
+        assertEquals(indicatorCount, registry.getIndicatorCount());
+    }
+
+    @Test
+    public void indicatorsSharedByTypeAndParameters() {
+        ClosePriceIndicator closePrice = registry.get(ClosePriceIndicator.class, () -> new ClosePriceIndicator(series));
+        SMAIndicator sma = registry.get(SMAIndicator.class, () -> new SMAIndicator(closePrice, 5), closePrice, 5);
+
+        assertSame(closePrice, registry.get(ClosePriceIndicator.class, () -> new ClosePriceIndicator(series)));
+        assertSame(sma, registry.get(SMAIndicator.class, () -> new SMAIndicator(closePrice, 5), closePrice, 5));
+        SMAIndicator otherSma = registry.get(SMAIndicator.class, () -> new SMAIndicator(closePrice, 6), closePrice, 6);
+        EMAIndicator ema = registry.get(EMAIndicator.class, () -> new EMAIndicator(closePrice, 5), closePrice, 5);
+        // Same parameters, other sub-indicator instance
+        ClosePriceIndicator otherClosePrice = new ClosePriceIndicator(series);
+        SMAIndicator otherClosePriceSma = registry.get(SMAIndicator.class,
+                () -> new SMAIndicator(otherClosePrice, 5), otherClosePrice, 5);
+        assertNotSame(sma, otherSma);
+        assertNotSame(sma, ema);
+        assertNotSame(sma, otherClosePriceSma);
+
+        // The EMA takes its starting point from the SMA
+        assertSame(sma, registry.get(SMAIndicator.class, () -> new SMAIndicator(closePrice, 5), closePrice, 5));
+        assertEquals(4, registry.getSharedCount());
+        assertEquals(5, registry.getIndicatorCount());
+    }
+
+    @Test
+    public void compositeIndicatorsShareSubIndicators() {
+        CCIIndicator cci = new CCIIndicator(series, 5);
+        int indicatorCount = registry.getIndicatorCount();
+        int sharedCount = registry.getSharedCount();
+        CCIIndicator otherCci = new CCIIndicator(series, 5);
+        // Typical price, SMA and mean deviation (with the SMA of its own) reused
+        assertEquals(indicatorCount, registry.getIndicatorCount());
+        assertEquals(sharedCount + 3, registry.getSharedCount());
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertDecimalEquals(otherCci.getValue(i), cci.getValue(i).toDouble());
+        }
+
+        // Stochastic oscillator and Williams %R on the same window extremes
+        StochasticOscillatorKIndicator sof = new StochasticOscillatorKIndicator(series, 5);
+        sharedCount = registry.getSharedCount();
+        new WilliamsRIndicator(series, 5);
+        assertEquals(sharedCount + 5, registry.getSharedCount());
+        assertDecimalEquals(sof.getValue(10), new StochasticOscillatorKIndicator(series, 5).getValue(10).toDouble());
+    }
+}
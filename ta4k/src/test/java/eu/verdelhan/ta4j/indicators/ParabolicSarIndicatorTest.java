@@ -25,13 +25,16 @@ package eu.verdelhan.ta4j.indicators;
 import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
 import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalNotEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import org.junit.Test;
 
 public class ParabolicSarIndicatorTest {
@@ -88,4 +91,50 @@ public class ParabolicSarIndicatorTest {
         assertDecimalEquals(sar.getValue(20), 74.913289886525645818855027337894);
     }
 
-}
\ No newline at end of file
+    /**
+     * @param tickCount the number of ticks
+     * @return a random walk series
+     */
+    private static TimeSeries randomWalkSeries(int tickCount) {
+        Random random = new Random(42);
+        List<Tick> ticks = new ArrayList<Tick>();
+        double close = 100;
+        for (int i = 0; i < tickCount; i++) {
+            double open = close;
+            close = open + random.nextGaussian();
+            ticks.add(new MockTick(open, close, Math.max(open, close) + random.nextDouble(), Math.min(open, close) - random.nextDouble()));
+        }
+        return new MockTimeSeries(ticks);
+    }
+
+    @Test
+    public void valuesDoNotDependOnEvaluationOrder() {
+        TimeSeries series = randomWalkSeries(500);
+        ParabolicSarIndicator sequentialSar = new ParabolicSarIndicator(series);
+        ParabolicSarIndicator reverseSar = new ParabolicSarIndicator(series);
+        Decimal[] expected = new Decimal[500];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = sequentialSar.getValue(i);
+        }
+        for (int i = expected.length - 1; i > 0; i--) {
+            assertEquals(expected[i], reverseSar.getValue(i));
+        }
+        // Evaluation again, on a new series object with the same ticks
+        ParabolicSarIndicator otherSar = new ParabolicSarIndicator(new MockTimeSeries(series.getTickData()));
+        assertEquals(expected[321], otherSar.getValue(321));
+        assertEquals(expected[123], otherSar.getValue(123));
+    }
+
+    @Test
+    public void longTrend() {
+        List<Tick> ticks = new ArrayList<Tick>();
+        for (int i = 0; i < 20000; i++) {
+            ticks.add(new MockTick(i, i + 1, i + 1.5, i - 0.5));
+        }
+        ParabolicSarIndicator sar = new ParabolicSarIndicator(new MockTimeSeries(ticks));
+        // Up trend from start to end: the SAR stays under the min price
+        for (int i = 2; i < ticks.size(); i++) {
+            assertTrue(sar.getValue(i).isLessThan(ticks.get(i).getMinPrice()));
+        }
+    }
+}
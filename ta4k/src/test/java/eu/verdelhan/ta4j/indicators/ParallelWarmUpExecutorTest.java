@@ -0,0 +1,167 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.ColumnarTimeSeries;
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.ichimoku.IchimokuSenkouSpanAIndicator;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class ParallelWarmUpExecutorTest {
+
+    private static TimeSeries randomWalkSeries(int tickCount) {
+        ColumnarTimeSeries series = new ColumnarTimeSeries("random walk", tickCount);
+        Random random = new Random(42);
+        ZonedDateTime time = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        double close = 100;
+        for (int i = 0; i < tickCount; i++) {
+            double open = close;
+            close = Math.max(1, open + random.nextGaussian());
+            series.addTick(Duration.ofMinutes(1), time.plusMinutes(i), open, Math.max(open, close) + random.nextDouble(),
+                    Math.min(open, close) - random.nextDouble(), close, 1 + random.nextInt(100));
+        }
+        return series;
+    }
+
+    private static List<Indicator<Decimal>> buildIndicators(TimeSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        List<Indicator<Decimal>> indicators = new ArrayList<>();
+        for (int timeFrame : new int[] { 5, 10, 20, 50 }) {
+            StochasticOscillatorKIndicator stochasticK = new StochasticOscillatorKIndicator(series, timeFrame);
+            indicators.addAll(Arrays.asList(
+                    new SMAIndicator(closePrice, timeFrame),
+                    new EMAIndicator(closePrice, timeFrame),
+                    new MACDIndicator(closePrice, timeFrame, 2 * timeFrame),
+                    new RSIIndicator(closePrice, timeFrame),
+                    new CCIIndicator(series, timeFrame),
+                    stochasticK,
+                    new StochasticOscillatorDIndicator(stochasticK),
+                    new WilliamsRIndicator(series, timeFrame),
+                    new KAMAIndicator(closePrice, timeFrame, 2, 30),
+                    new DoubleEMAIndicator(closePrice, timeFrame),
+                    new TripleEMAIndicator(closePrice, timeFrame),
+                    new ZLEMAIndicator(closePrice, timeFrame),
+                    new HMAIndicator(closePrice, timeFrame),
+                    new AroonOscillatorIndicator(series, timeFrame),
+                    new IchimokuSenkouSpanAIndicator(series, timeFrame, 2 * timeFrame)));
+        }
+        indicators.add(new ParabolicSarIndicator(series));
+        return indicators;
+    }
+
+    @Test
+    public void parallelWarmUpGivesSameValues() {
+        TimeSeries series = randomWalkSeries(2000);
+        List<Indicator<Decimal>> indicators = buildIndicators(series);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            new ParallelWarmUpExecutor(pool).warmUp(series.getEndIndex(), indicators);
+        } finally {
+            pool.shutdown();
+        }
+        MACDIndicator macd = (MACDIndicator) indicators.get(2);
+        assertEquals(series.getEndIndex(), macd.highestResultIndex);
+        assertEquals(series.getEndIndex(), macd.getShortTermEma().highestResultIndex);
+
+        // Same series, sequential evaluation
+        TimeSeries otherSeries = new ColumnarTimeSeries("random walk", series.getTickData());
+        List<Indicator<Decimal>> expectedIndicators = buildIndicators(otherSeries);
+        for (int i = 0; i < indicators.size(); i++) {
+            for (int index = 0; index <= series.getEndIndex(); index++) {
+                assertEquals(expectedIndicators.get(i).getValue(index).toDouble(),
+                        indicators.get(i).getValue(index).toDouble(), 0);
+            }
+        }
+    }
+
+    @Test
+    public void concurrentReadsOfSharedIndicators() {
+        TimeSeries series = randomWalkSeries(2000);
+        ParabolicSarIndicator sar = new ParabolicSarIndicator(series);
+        EMAIndicator ema = new EMAIndicator(new ClosePriceIndicator(series), 20);
+        List<CompletableFuture<Void>> readers = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // Locked caches while the readers run
+            CachedIndicator.concurrently(() -> {
+                for (int reader = 0; reader < 8; reader++) {
+                    final Random random = new Random(reader);
+                    readers.add(CompletableFuture.runAsync(() -> {
+                        for (int i = 0; i < 500; i++) {
+                            int index = random.nextInt(series.getTickCount());
+                            sar.getValue(index);
+                            ema.getValue(index);
+                        }
+                    }, pool));
+                }
+                return CompletableFuture.allOf(readers.toArray(new CompletableFuture<?>[readers.size()])).join();
+            });
+        } finally {
+            pool.shutdown();
+        }
+
+        // Same series, sequential evaluation
+        TimeSeries otherSeries = new ColumnarTimeSeries("random walk", series.getTickData());
+        ParabolicSarIndicator expectedSar = new ParabolicSarIndicator(otherSeries);
+        EMAIndicator expectedEma = new EMAIndicator(new ClosePriceIndicator(otherSeries), 20);
+        for (int index = 0; index <= series.getEndIndex(); index++) {
+            assertEquals(expectedSar.getValue(index).toDouble(), sar.getValue(index).toDouble(), 0);
+            assertEquals(expectedEma.getValue(index).toDouble(), ema.getValue(index).toDouble(), 0);
+        }
+    }
+
+    @Test
+    public void warmUpCappedToEndIndex() {
+        TimeSeries series = randomWalkSeries(100);
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(series), 5);
+        new ParallelWarmUpExecutor().warmUp(50, sma);
+        assertEquals(50, sma.highestResultIndex);
+        new ParallelWarmUpExecutor().warmUp(1000, sma);
+        assertEquals(99, sma.highestResultIndex);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void exceptionOfAnIndicatorShouldBeRethrown() {
+        TimeSeries series = randomWalkSeries(10);
+        Indicator<Decimal> failing = new DecimalCachedIndicator(series) {
+            @Override
+            protected Decimal calculate(int index) {
+                throw new IllegalStateException("failure");
+            }
+        };
+        new ParallelWarmUpExecutor().warmUp(series.getEndIndex(), new SMAIndicator(failing, 3));
+    }
+}
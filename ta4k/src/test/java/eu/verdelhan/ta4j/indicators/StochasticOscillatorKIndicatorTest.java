@@ -27,6 +27,11 @@ import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
 import eu.verdelhan.ta4j.BaseTimeSeries;
 import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.HighestValueIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.LowestValueIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.MaxPriceIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.MinPriceIndicator;
 import eu.verdelhan.ta4j.mocks.MockTick;
 import java.util.ArrayList;
 import java.util.List;
@@ -68,4 +73,31 @@ public class StochasticOscillatorKIndicatorTest {
         assertDecimalEquals(sof.getValue(12), 1000/10.81);
         assertDecimalEquals(sof.getValue(13), 57.8168);
     }
+
+    @Test
+    public void sequentialAndReverseAccessGiveSameValues() {
+        StochasticOscillatorKIndicator sequential = new StochasticOscillatorKIndicator(data, 5);
+        StochasticOscillatorKIndicator reverse = new StochasticOscillatorKIndicator(data, 5);
+        for (int i = data.getEndIndex(); i >= 0; i--) {
+            reverse.getValue(i);
+        }
+        for (int i = 0; i <= data.getEndIndex(); i++) {
+            assertDecimalEquals(reverse.getValue(i), sequential.getValue(i).toDouble());
+        }
+    }
+
+    @Test
+    public void sharedExtremes() {
+        HighestValueIndicator highestHigh = new HighestValueIndicator(new MaxPriceIndicator(data), 5);
+        LowestValueIndicator lowestMin = new LowestValueIndicator(new MinPriceIndicator(data), 5);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(data);
+        StochasticOscillatorKIndicator sof = new StochasticOscillatorKIndicator(data, 5);
+        StochasticOscillatorKIndicator sharedSof = new StochasticOscillatorKIndicator(closePrice, 5, highestHigh, lowestMin);
+        WilliamsRIndicator wr = new WilliamsRIndicator(data, 5);
+        WilliamsRIndicator sharedWr = new WilliamsRIndicator(closePrice, 5, highestHigh, lowestMin);
+        for (int i = 0; i <= data.getEndIndex(); i++) {
+            assertDecimalEquals(sharedSof.getValue(i), sof.getValue(i).toDouble());
+            assertDecimalEquals(sharedWr.getValue(i), wr.getValue(i).toDouble());
+        }
+    }
 }
@@ -27,7 +27,11 @@ import eu.verdelhan.ta4j.Decimal;
 import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 public class WMAIndicatorTest {
@@ -88,4 +92,67 @@ public class WMAIndicatorTest {
         assertDecimalEquals(wma.getValue(19), 78.1504);
         assertDecimalEquals(wma.getValue(20), 77.6133);
     }
+
+    /**
+     * @return the WMA of the data at index (weights from 1 to the window length)
+     */
+    private static double expectedWma(double[] data, int index, int timeFrame) {
+        int windowLength = Math.min(timeFrame, index + 1);
+        double weightedSum = 0;
+        for (int i = 0; i < windowLength; i++) {
+            weightedSum += (i + 1) * data[index - windowLength + 1 + i];
+        }
+        return weightedSum / (windowLength * (windowLength + 1) / 2);
+    }
+
+    @Test
+    public void sequentialAndRandomAccess() {
+        Random random = new Random(42);
+        double[] data = new double[300];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = 50 + random.nextInt(100) / 4d;
+        }
+        WMAIndicator wma = new WMAIndicator(new ClosePriceIndicator(new MockTimeSeries(data)), 14);
+        for (int i = 0; i < data.length; i++) {
+            assertDecimalEquals(wma.getValue(i), expectedWma(data, i, 14));
+        }
+        wma = new WMAIndicator(new ClosePriceIndicator(new MockTimeSeries(data)), 14);
+        for (int n = 0; n < 100; n++) {
+            int index = random.nextInt(data.length);
+            assertDecimalEquals(wma.getValue(index), expectedWma(data, index, 14));
+        }
+    }
+
+    @Test
+    public void wmaOnMovingSeries() {
+        TimeSeries series = new MockTimeSeries(1d, 2d, 3d);
+        series.setMaximumTickCount(4);
+        WMAIndicator wma = new WMAIndicator(new ClosePriceIndicator(series), 3);
+        ZonedDateTime endTime = series.getLastTick().getEndTime();
+        for (int i = 4; i <= 100; i++) {
+            series.addTick(new MockTick(endTime.plusDays(i), i));
+            // (1 * (i - 2) + 2 * (i - 1) + 3 * i) / 6
+            assertDecimalEquals(wma.getValue(series.getEndIndex()), i - 4d / 6);
+        }
+    }
+
+    @Test
+    public void notANumberValueReadInOrder() {
+        MockTimeSeries series = new MockTimeSeries(1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2, 3, 4, 5, 6, 5, 4, 3);
+        ClosePriceIndicator close = new ClosePriceIndicator(series);
+        // Not-a-number value at index 8: only the windows containing it are not-a-number
+        Indicator<Decimal> values = new CachedIndicator<Decimal>(series) {
+            @Override
+            protected Decimal calculate(int index) {
+                return index == 8 ? Decimal.NaN : close.getValue(index);
+            }
+        };
+        WMAIndicator wma = new WMAIndicator(values, 3);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertEquals(i >= 8 && i <= 10, wma.getValue(i).isNaN());
+            if (!wma.getValue(i).isNaN()) {
+                assertDecimalEquals(wma.getValue(i), new WMAIndicator(values, 3).getValue(i).toDouble());
+            }
+        }
+    }
 }
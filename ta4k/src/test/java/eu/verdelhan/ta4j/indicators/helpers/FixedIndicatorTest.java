@@ -55,4 +55,21 @@ public class FixedIndicatorTest {
         Assert.assertFalse(fixedBooleanIndicator.getValue(3));
         Assert.assertTrue(fixedBooleanIndicator.getValue(4));
     }
+
+    @Test
+    public void addValueOnFixedBooleanIndicator() {
+        fixedBooleanIndicator = new FixedBooleanIndicator(true);
+        for (int i = 1; i < 200; i++) {
+            fixedBooleanIndicator.addValue(i % 3 == 0);
+        }
+        for (int i = 0; i < 200; i++) {
+            Assert.assertEquals(i % 3 == 0, fixedBooleanIndicator.getValue(i));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getValueAfterLastValueOnFixedBooleanIndicatorShouldThrowException() {
+        fixedBooleanIndicator = new FixedBooleanIndicator(false, true);
+        fixedBooleanIndicator.getValue(2);
+    }
 }
@@ -0,0 +1,113 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.helpers;
+
+import eu.verdelhan.ta4j.Decimal;
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.time.ZonedDateTime;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RunningSumTest {
+
+    private TimeSeries series;
+
+    private ClosePriceIndicator closePrice;
+
+    @Before
+    public void setUp() {
+        series = new MockTimeSeries(1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2);
+        closePrice = new ClosePriceIndicator(series);
+    }
+
+    /**
+     * @return the sum of the close prices from max(firstIndex, index - timeFrame + 1) to index
+     */
+    private double expectedSum(int index, int timeFrame, int firstIndex) {
+        double sum = 0;
+        for (int i = Math.max(firstIndex, index - timeFrame + 1); i <= index; i++) {
+            sum += closePrice.getValue(i).toDouble();
+        }
+        return sum;
+    }
+
+    @Test
+    public void getSumInAscendingOrder() {
+        RunningSum sum = new RunningSum(series, 3, 0, closePrice::getValue);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertDecimalEquals(sum.getSum(i), expectedSum(i, 3, 0));
+        }
+    }
+
+    @Test
+    public void getSumWithFirstIndex() {
+        RunningSum sum = new RunningSum(series, 4, 2, closePrice::getValue);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertDecimalEquals(sum.getSum(i), expectedSum(i, 4, 2));
+        }
+    }
+
+    @Test
+    public void getSumWithRandomAccess() {
+        RunningSum sum = new RunningSum(series, 3, 0, closePrice::getValue);
+        int[] indexes = { 12, 5, 6, 7, 2, 0, 1, 11, 12, 3 };
+        for (int index : indexes) {
+            assertDecimalEquals(sum.getSum(index), expectedSum(index, 3, 0));
+        }
+    }
+
+    @Test
+    public void getSumOnMovingSeries() {
+        series.setMaximumTickCount(3);
+        RunningSum sum = new RunningSum(series, 5, 0, closePrice::getValue);
+        ZonedDateTime endTime = series.getLastTick().getEndTime();
+        for (int i = 1; i < 100; i++) {
+            series.addTick(new MockTick(endTime.plusDays(i), i));
+            int index = series.getEndIndex();
+            Decimal expected = Decimal.ZERO;
+            for (int j = index - 4; j <= index; j++) {
+                expected = expected.plus(closePrice.getValue(j));
+            }
+            assertDecimalEquals(sum.getSum(index), expected.toDouble());
+        }
+    }
+
+    @Test
+    public void getSumWithNaNTermInAscendingOrder() {
+        // Not-a-number term at index 5: only the windows containing it are not-a-number
+        RunningSum sum = new RunningSum(series, 3, 0, i -> i == 5 ? Decimal.NaN : closePrice.getValue(i));
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            if (i >= 5 && i <= 7) {
+                assertTrue(sum.getSum(i).isNaN());
+            } else {
+                assertDecimalEquals(sum.getSum(i), expectedSum(i, 3, 0));
+            }
+        }
+        assertDecimalEquals(new RunningSum(series, 3, 0, i -> i == 5 ? Decimal.NaN : closePrice.getValue(i)).getSum(12),
+                sum.getSum(12).toDouble());
+    }
+}
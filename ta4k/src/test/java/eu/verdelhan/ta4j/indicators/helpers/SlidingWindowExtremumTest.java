@@ -0,0 +1,190 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.helpers;
+
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SlidingWindowExtremumTest {
+
+    private double[] data;
+
+    private ClosePriceIndicator closePrice;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        data = new double[500];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextInt(50);
+        }
+        closePrice = new ClosePriceIndicator(new MockTimeSeries(data));
+    }
+
+    /**
+     * @return the index of the first extremum of the data from max(0, index - timeFrame + 1) to index
+     */
+    private int expectedIndex(int index, int timeFrame, boolean highest) {
+        int extremumIndex = Math.max(0, index - timeFrame + 1);
+        for (int i = extremumIndex + 1; i <= index; i++) {
+            if (highest ? data[i] > data[extremumIndex] : data[i] < data[extremumIndex]) {
+                extremumIndex = i;
+            }
+        }
+        return extremumIndex;
+    }
+
+    /**
+     * @return the index of the last extremum of the data from max(0, index - timeFrame + 1) to index
+     */
+    private int expectedLastIndex(int index, int timeFrame, boolean highest) {
+        int extremumIndex = Math.max(0, index - timeFrame + 1);
+        for (int i = extremumIndex + 1; i <= index; i++) {
+            if (highest ? data[i] >= data[extremumIndex] : data[i] <= data[extremumIndex]) {
+                extremumIndex = i;
+            }
+        }
+        return extremumIndex;
+    }
+
+    @Test
+    public void sequentialAccess() {
+        for (int timeFrame : new int[] { 1, 2, 7, 30 }) {
+            SlidingWindowExtremum highest = new SlidingWindowExtremum(closePrice, timeFrame, true);
+            SlidingWindowExtremum lowest = new SlidingWindowExtremum(closePrice, timeFrame, false);
+            for (int i = 0; i < data.length; i++) {
+                assertEquals(expectedIndex(i, timeFrame, true), highest.getIndex(i));
+                assertEquals(expectedIndex(i, timeFrame, false), lowest.getIndex(i));
+                assertDecimalEquals(highest.getValue(i), data[expectedIndex(i, timeFrame, true)]);
+                assertDecimalEquals(lowest.getValue(i), data[expectedIndex(i, timeFrame, false)]);
+            }
+        }
+    }
+
+    @Test
+    public void lastExtremumOnTies() {
+        for (int timeFrame : new int[] { 1, 2, 7, 30 }) {
+            SlidingWindowExtremum highest = new SlidingWindowExtremum(closePrice, timeFrame, true, true);
+            SlidingWindowExtremum lowest = new SlidingWindowExtremum(closePrice, timeFrame, false, true);
+            for (int i = 0; i < data.length; i++) {
+                assertEquals(expectedLastIndex(i, timeFrame, true), highest.getIndex(i));
+                assertEquals(expectedLastIndex(i, timeFrame, false), lowest.getIndex(i));
+            }
+        }
+        // Random access
+        SlidingWindowExtremum highest = new SlidingWindowExtremum(closePrice, 20, true, true);
+        for (int i = data.length - 1; i >= 0; i -= 3) {
+            assertEquals(expectedLastIndex(i, 20, true), highest.getIndex(i));
+        }
+    }
+
+    @Test
+    public void randomAccess() {
+        Random random = new Random(7);
+        SlidingWindowExtremum highest = new SlidingWindowExtremum(closePrice, 20, true);
+        for (int n = 0; n < 200; n++) {
+            int index = random.nextInt(data.length);
+            assertEquals(expectedIndex(index, 20, true), highest.getIndex(index));
+            if (index + 1 < data.length) {
+                assertEquals(expectedIndex(index + 1, 20, true), highest.getIndex(index + 1));
+            }
+        }
+    }
+
+    /**
+     * @return the extremum of the values from max(0, index - timeFrame + 1) to index, scanned from the first one
+     */
+    private static Decimal scanExtremum(Decimal[] values, int index, int timeFrame, boolean highest) {
+        int start = Math.max(0, index - timeFrame + 1);
+        Decimal extremum = values[start];
+        for (int i = start + 1; i <= index; i++) {
+            if (highest ? extremum.isLessThan(values[i]) : extremum.isGreaterThan(values[i])) {
+                extremum = values[i];
+            }
+        }
+        return extremum;
+    }
+
+    @Test
+    public void notANumberValues() {
+        Decimal nan = Decimal.NaN;
+        Decimal[] values = { Decimal.valueOf(5), nan, Decimal.valueOf(7), Decimal.valueOf(3), nan, Decimal.ONE,
+                nan, nan, nan, Decimal.valueOf(4), Decimal.TWO, nan, Decimal.valueOf(6) };
+        FixedIndicator<Decimal> indicator = new FixedIndicator<>(values);
+
+        // Not-a-number in the middle of the window
+        assertDecimalEquals(new SlidingWindowExtremum(indicator, 3, true).getValue(2), 7);
+        assertDecimalEquals(new SlidingWindowExtremum(indicator, 3, false).getValue(5), 1);
+        SlidingWindowExtremum lastHighest = new SlidingWindowExtremum(indicator, 3, true, true);
+        assertEquals(2, lastHighest.getIndex(2));
+        assertEquals(-1, lastHighest.getIndex(8));
+
+        for (int timeFrame : new int[] { 1, 2, 3, 5 }) {
+            SlidingWindowExtremum highest = new SlidingWindowExtremum(indicator, timeFrame, true);
+            SlidingWindowExtremum lowest = new SlidingWindowExtremum(indicator, timeFrame, false);
+            for (int i = 0; i < values.length; i++) {
+                assertSameExtremum(scanExtremum(values, i, timeFrame, true), highest.getValue(i));
+                assertSameExtremum(scanExtremum(values, i, timeFrame, false), lowest.getValue(i));
+            }
+            // Random access
+            SlidingWindowExtremum randomHighest = new SlidingWindowExtremum(indicator, timeFrame, true);
+            for (int i = values.length - 1; i >= 0; i -= 2) {
+                assertSameExtremum(scanExtremum(values, i, timeFrame, true), randomHighest.getValue(i));
+            }
+        }
+    }
+
+    private static void assertSameExtremum(Decimal expected, Decimal actual) {
+        if (expected.isNaN()) {
+            assertTrue(actual.isNaN());
+        } else {
+            assertDecimalEquals(actual, expected.toDouble());
+        }
+    }
+
+    @Test
+    public void sequentialAccessOnMovingSeries() {
+        TimeSeries series = new MockTimeSeries(10, 1, 1);
+        series.setMaximumTickCount(3);
+        SlidingWindowExtremum highest = new SlidingWindowExtremum(new ClosePriceIndicator(series), 5, true);
+        assertDecimalEquals(highest.getValue(2), 10);
+        ZonedDateTime endTime = series.getLastTick().getEndTime();
+        series.addTick(new MockTick(endTime.plusDays(1), 2));
+        series.addTick(new MockTick(endTime.plusDays(2), 3));
+        // First tick removed from the series but still in the window
+        assertEquals(2, series.getRemovedTicksCount());
+        assertDecimalEquals(highest.getValue(3), 10);
+        assertDecimalEquals(highest.getValue(4), 10);
+        assertEquals(0, highest.getIndex(4));
+        series.addTick(new MockTick(endTime.plusDays(3), 1));
+        assertDecimalEquals(highest.getValue(5), 3);
+    }
+}
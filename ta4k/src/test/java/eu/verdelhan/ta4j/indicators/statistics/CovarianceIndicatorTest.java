@@ -83,7 +83,7 @@ public class CovarianceIndicatorTest {
 		assertDecimalEquals(covar.getValue(5), 60.8);
 		assertDecimalEquals(covar.getValue(6), 15.2);
 		assertDecimalEquals(covar.getValue(7), -17.6);
-		assertDecimalEquals(covar.getValue(8), 4);
+		assertDecimalEquals(covar.getValue(8), 4.0);
 		assertDecimalEquals(covar.getValue(9), 11.6);
 		assertDecimalEquals(covar.getValue(10), -14.4);
 		assertDecimalEquals(covar.getValue(11), -100.2);
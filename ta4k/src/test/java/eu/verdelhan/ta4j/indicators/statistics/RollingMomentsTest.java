@@ -0,0 +1,175 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.statistics;
+
+import eu.verdelhan.ta4j.BaseTick;
+import eu.verdelhan.ta4j.Decimal;
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.VolumeIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class RollingMomentsTest {
+
+    /**
+     * @return the (population) covariance of the values from max(0, index - timeFrame + 1) to index (two passes)
+     */
+    private static double twoPassCovariance(double[] x, double[] y, int index, int timeFrame) {
+        int start = Math.max(0, index - timeFrame + 1);
+        int n = index - start + 1;
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = start; i <= index; i++) {
+            meanX += x[i] / n;
+            meanY += y[i] / n;
+        }
+        double covariance = 0;
+        for (int i = start; i <= index; i++) {
+            covariance += (x[i] - meanX) * (y[i] - meanY) / n;
+        }
+        return covariance;
+    }
+
+    private static TimeSeries series(double[] closePrices, double[] volumes) {
+        List<Tick> ticks = new ArrayList<>();
+        ZonedDateTime endTime = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < closePrices.length; i++) {
+            ticks.add(new MockTick(endTime.plusDays(i), 0, closePrices[i], 0, 0, 0, volumes[i], 0));
+        }
+        return new MockTimeSeries(ticks);
+    }
+
+    @Test
+    public void sequentialAndRandomAccess() {
+        Random random = new Random(42);
+        double[] x = new double[300];
+        double[] y = new double[300];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = random.nextInt(1000) / 10d;
+            y[i] = x[i] * 2 + random.nextInt(100);
+        }
+        TimeSeries series = series(x, y);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        VolumeIndicator volume = new VolumeIndicator(series);
+
+        RollingMoments moments = new RollingMoments(closePrice, volume, 20);
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(Math.min(i + 1, 20), moments.getCount(i));
+            assertDecimalEquals(moments.getVarianceX(i), twoPassCovariance(x, x, i, 20));
+            assertDecimalEquals(moments.getVarianceY(i), twoPassCovariance(y, y, i, 20));
+            assertDecimalEquals(moments.getCovariance(i), twoPassCovariance(x, y, i, 20));
+        }
+        for (int n = 0; n < 100; n++) {
+            int index = random.nextInt(x.length);
+            assertDecimalEquals(moments.getCovariance(index), twoPassCovariance(x, y, index, 20));
+        }
+    }
+
+    @Test
+    public void varianceOfLargeValuesWithDoubleBackend() {
+        // Naive sum of squares would lose all the significant digits
+        double[] x = new double[10000];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = 1e9 + (i % 4);
+        }
+        TimeSeries series = series(x, x);
+        RollingMoments moments = new RollingMoments(series,
+                i -> Decimal.Backend.DOUBLE.decimalOf(series.getTick(i).getClosePrice().toDouble()), null, 4);
+        for (int i = 3; i < x.length; i++) {
+            assertDecimalEquals(moments.getVarianceX(i), 1.25);
+        }
+    }
+
+    @Test
+    public void sequentialAccessOnMovingSeries() {
+        TimeSeries series = new MockTimeSeries(1, 2, 3, 4);
+        series.setMaximumTickCount(3);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        RollingMoments moments = new RollingMoments(closePrice, 5);
+        ZonedDateTime endTime = series.getLastTick().getEndTime();
+        for (int i = 1; i <= 50; i++) {
+            series.addTick(new MockTick(endTime.plusDays(i), 4 + i));
+            int index = series.getEndIndex();
+            // Windowed computation on the same (partly removed) ticks
+            RollingMoments windowed = new RollingMoments(closePrice, 5);
+            assertDecimalEquals(moments.getVarianceX(index), windowed.getVarianceX(index).toDouble());
+            assertDecimalEquals(moments.getMeanX(index), windowed.getMeanX(index).toDouble());
+        }
+    }
+
+    @Test
+    public void notANumberObservationReadInOrder() {
+        double[] x = new double[40];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = 10 + (i * 7) % 11;
+        }
+        // Not-a-number observation at index 10: only the windows containing it are not-a-number
+        RollingMoments moments = new RollingMoments(null, i -> i == 10 ? Decimal.NaN : Decimal.valueOf(x[i]),
+                i -> Decimal.valueOf(2 * x[i]), 4);
+        for (int i = 0; i < x.length; i++) {
+            boolean inWindow = i >= 10 && i <= 13;
+            assertEquals(inWindow, moments.getVarianceX(i).isNaN());
+            assertEquals(inWindow, moments.getCovariance(i).isNaN());
+            if (!inWindow) {
+                assertDecimalEquals(moments.getCovariance(i), twoPassCovariance(x, doubled(x), i, 4));
+            }
+        }
+    }
+
+    @Test
+    public void standardDeviationWithNotANumberPriceReadInOrder() {
+        List<Tick> ticks = new ArrayList<>();
+        ZonedDateTime endTime = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 30; i++) {
+            Decimal close = i == 10 ? Decimal.NaN : Decimal.valueOf(40 + (i * 3) % 7);
+            ticks.add(new BaseTick(endTime.plusDays(i), Decimal.ZERO, Decimal.ZERO, Decimal.ZERO, close, Decimal.ONE));
+        }
+        TimeSeries series = new MockTimeSeries(ticks);
+        StandardDeviationIndicator sd = new StandardDeviationIndicator(new ClosePriceIndicator(series), 3);
+        for (int i = 0; i < ticks.size(); i++) {
+            assertEquals(i >= 10 && i <= 12, sd.getValue(i).isNaN());
+            if (!sd.getValue(i).isNaN()) {
+                assertDecimalEquals(sd.getValue(i),
+                        new StandardDeviationIndicator(new ClosePriceIndicator(series), 3).getValue(i).toDouble());
+            }
+        }
+    }
+
+    private static double[] doubled(double[] values) {
+        double[] doubled = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            doubled[i] = 2 * values[i];
+        }
+        return doubled;
+    }
+}
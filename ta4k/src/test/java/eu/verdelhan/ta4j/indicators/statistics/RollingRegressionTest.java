@@ -0,0 +1,98 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.statistics;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.Random;
+import org.apache.commons.math3.stat.regression.SimpleRegression;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RollingRegressionTest {
+
+    private double[] data;
+
+    private Indicator<Decimal> closePrice;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        data = new double[200];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = 100 + i * 0.5 + random.nextInt(20);
+        }
+        closePrice = new ClosePriceIndicator(new MockTimeSeries(data));
+    }
+
+    /**
+     * @return the regression of the data from max(0, index - timeFrame + 1) to index
+     */
+    private SimpleRegression expectedRegression(int index, int timeFrame) {
+        SimpleRegression regression = new SimpleRegression();
+        for (int i = Math.max(0, index - timeFrame + 1); i <= index; i++) {
+            regression.addData(i, data[i]);
+        }
+        return regression;
+    }
+
+    @Test
+    public void indicatorsSharingRegression() {
+        RollingRegression regression = new RollingRegression(closePrice, 10);
+        LinearRegressionSlopeIndicator slope = new LinearRegressionSlopeIndicator(regression);
+        LinearRegressionInterceptIndicator intercept = new LinearRegressionInterceptIndicator(regression);
+        LinearRegressionRSquaredIndicator rSquared = new LinearRegressionRSquaredIndicator(regression);
+        LinearRegressionForecastIndicator forecast = new LinearRegressionForecastIndicator(regression, 3);
+        SimpleLinearRegressionIndicator line = new SimpleLinearRegressionIndicator(regression);
+
+        assertTrue(slope.getValue(0).isNaN());
+        assertTrue(intercept.getValue(0).isNaN());
+        assertTrue(rSquared.getValue(0).isNaN());
+        assertTrue(forecast.getValue(0).isNaN());
+        for (int i = 1; i < data.length; i++) {
+            SimpleRegression expected = expectedRegression(i, 10);
+            assertDecimalEquals(slope.getValue(i), expected.getSlope());
+            assertDecimalEquals(intercept.getValue(i), expected.getIntercept());
+            assertDecimalEquals(rSquared.getValue(i), expected.getRSquare());
+            assertDecimalEquals(forecast.getValue(i), expected.predict(i + 3));
+            assertDecimalEquals(line.getValue(i), expected.predict(i));
+        }
+    }
+
+    @Test
+    public void randomAccess() {
+        LinearRegressionSlopeIndicator slope = new LinearRegressionSlopeIndicator(closePrice, 20);
+        LinearRegressionRSquaredIndicator rSquared = new LinearRegressionRSquaredIndicator(closePrice, 20);
+        Random random = new Random(7);
+        for (int n = 0; n < 100; n++) {
+            int index = 1 + random.nextInt(data.length - 1);
+            SimpleRegression expected = expectedRegression(index, 20);
+            assertDecimalEquals(slope.getValue(index), expected.getSlope());
+            assertDecimalEquals(rSquared.getValue(index), expected.getRSquare());
+        }
+    }
+}
@@ -25,12 +25,14 @@ package eu.verdelhan.ta4j.indicators.volume;
 import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
 
 import eu.verdelhan.ta4j.BaseTick;
+import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.BaseTimeSeries;
 import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 public class ChaikinMoneyFlowIndicatorTest {
@@ -89,4 +91,29 @@ public class ChaikinMoneyFlowIndicatorTest {
         assertDecimalEquals(cmf.getValue(28), -0.0574);
         assertDecimalEquals(cmf.getValue(29), -0.0148);
     }
+
+    @Test
+    public void flatTickReadInOrder() {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<Tick> ticks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            if (i == 5) {
+                // Flat tick: not-a-number close location value
+                ticks.add(new BaseTick(now, "0", "60", "60", "60", "1000"));
+            } else {
+                ticks.add(new BaseTick(now, "0", String.valueOf(61 + i % 3), String.valueOf(58 - i % 2), "60", String.valueOf(1000 + 10 * i)));
+            }
+        }
+        TimeSeries series = new BaseTimeSeries(ticks);
+
+        ChaikinMoneyFlowIndicator cmf = new ChaikinMoneyFlowIndicator(series, 3);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            Decimal value = cmf.getValue(i);
+            // Only the windows containing the flat tick are not-a-number
+            assertEquals(i >= 5 && i <= 7, value.isNaN());
+            if (!value.isNaN()) {
+                assertDecimalEquals(value, new ChaikinMoneyFlowIndicator(series, 3).getValue(i).toDouble());
+            }
+        }
+    }
 }
@@ -24,12 +24,17 @@ package eu.verdelhan.ta4j.indicators.volume;
 
 import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
 
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
+import static org.junit.Assert.assertEquals;
 import org.junit.Before;
 import org.junit.Test;
 
+import eu.verdelhan.ta4j.BaseTick;
+import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.mocks.MockTick;
@@ -86,4 +91,46 @@ public class VWAPIndicatorTest {
         assertDecimalEquals(vwap.getValue(17), 44.0840);
         assertDecimalEquals(vwap.getValue(18), 43.8247);
     }
+
+    @Test
+    public void sequentialAndReverseAccessGiveSameValues() {
+        Random random = new Random(42);
+        List<Tick> ticks = new ArrayList<Tick>();
+        ZonedDateTime endTime = ZonedDateTime.now();
+        for (int i = 0; i < 200; i++) {
+            double close = 40 + random.nextInt(100) / 10d;
+            ticks.add(new MockTick(endTime.plusMinutes(i), close, close, close + 1, close - 1, 0, 1 + random.nextInt(50), 0));
+        }
+        TimeSeries series = new MockTimeSeries(ticks);
+        VWAPIndicator sequentialVwap = new VWAPIndicator(series, 10);
+        VWAPIndicator reverseVwap = new VWAPIndicator(series, 10);
+        double[] expected = new double[ticks.size()];
+        for (int i = ticks.size() - 1; i >= 0; i--) {
+            expected[i] = reverseVwap.getValue(i).toDouble();
+        }
+        for (int i = 0; i < ticks.size(); i++) {
+            assertDecimalEquals(sequentialVwap.getValue(i), expected[i]);
+        }
+    }
+
+    @Test
+    public void notANumberPriceReadInOrder() {
+        List<Tick> ticks = new ArrayList<Tick>();
+        ZonedDateTime endTime = ZonedDateTime.now();
+        for (int i = 0; i < 30; i++) {
+            Decimal close = i == 12 ? Decimal.NaN : Decimal.valueOf(40 + i % 7);
+            ticks.add(new BaseTick(endTime.plusMinutes(i), Decimal.valueOf(40), Decimal.valueOf(50),
+                    Decimal.valueOf(35), close, Decimal.valueOf(100 + i)));
+        }
+        TimeSeries series = new MockTimeSeries(ticks);
+        VWAPIndicator vwap = new VWAPIndicator(series, 5);
+        for (int i = 1; i < ticks.size(); i++) {
+            Decimal value = vwap.getValue(i);
+            // Only the windows containing the not-a-number price are not-a-number
+            assertEquals(i >= 12 && i <= 16, value.isNaN());
+            if (!value.isNaN()) {
+                assertDecimalEquals(value, new VWAPIndicator(series, 5).getValue(i).toDouble());
+            }
+        }
+    }
 }
@@ -0,0 +1,197 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.optimization;
+
+import eu.verdelhan.ta4j.BaseStrategy;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.TimeSeriesManager;
+import eu.verdelhan.ta4j.TradingRecord;
+import eu.verdelhan.ta4j.analysis.criteria.TotalProfitCriterion;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
+import eu.verdelhan.ta4j.indicators.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import eu.verdelhan.ta4j.trading.rules.CrossedDownIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.CrossedUpIndicatorRule;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StrategyOptimizerTest {
+
+    private TimeSeries series;
+
+    private ForkJoinPool pool;
+
+    @Before
+    public void setUp() {
+        double[] closePrices = new double[500];
+        for (int i = 0; i < closePrices.length; i++) {
+            closePrices[i] = 100 + 10 * Math.sin(i / 11d) + 5 * Math.sin(i / 4d) + i / 50d;
+        }
+        series = new MockTimeSeries(closePrices);
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * @param shared true to build the moving averages through the registry of the series
+     * @return a factory of SMA crossover strategies
+     */
+    private Function<Parameters, Strategy> smaCrossFactory(boolean shared) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        return parameters -> {
+            IndicatorRegistry registry = IndicatorRegistry.of(series);
+            int shortTimeFrame = parameters.get("short");
+            int longTimeFrame = parameters.get("long");
+            SMAIndicator shortSma = shared
+                    ? registry.get(SMAIndicator.class, () -> new SMAIndicator(closePrice, shortTimeFrame), closePrice, shortTimeFrame)
+                    : new SMAIndicator(closePrice, shortTimeFrame);
+            SMAIndicator longSma = shared
+                    ? registry.get(SMAIndicator.class, () -> new SMAIndicator(closePrice, longTimeFrame), closePrice, longTimeFrame)
+                    : new SMAIndicator(closePrice, longTimeFrame);
+            return new BaseStrategy(new CrossedUpIndicatorRule(shortSma, longSma),
+                    new CrossedDownIndicatorRule(shortSma, longSma));
+        };
+    }
+
+    private StrategyOptimizer buildOptimizer(boolean shared) {
+        StrategyOptimizer optimizer = new StrategyOptimizer(series, new TotalProfitCriterion(), smaCrossFactory(shared),
+                Parameter.range("short", 2, 20, 2), Parameter.range("long", 10, 40, 5));
+        optimizer.setFilter(parameters -> parameters.get("short") < parameters.get("long"));
+        return optimizer;
+    }
+
+    @Test
+    public void parameterRange() {
+        Parameter parameter = Parameter.range("timeFrame", 5, 21, 4);
+        assertEquals(5, parameter.getValueCount());
+        assertEquals(5, parameter.getValue(0));
+        assertEquals(21, parameter.getValue(4));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidParameterRangeShouldThrowException() {
+        Parameter.range("timeFrame", 5, 1, 1);
+    }
+
+    @Test
+    public void gridSearch() {
+        StrategyOptimizer optimizer = buildOptimizer(true);
+        assertEquals(70, optimizer.getCombinationCount());
+        List<OptimizationResult> results = optimizer.gridSearch(pool);
+
+        TotalProfitCriterion criterion = new TotalProfitCriterion();
+        TimeSeriesManager manager = new TimeSeriesManager(series);
+        Function<Parameters, Strategy> independentFactory = smaCrossFactory(false);
+        int expectedCount = 0;
+        for (int shortTimeFrame = 2; shortTimeFrame <= 20; shortTimeFrame += 2) {
+            for (int longTimeFrame = 10; longTimeFrame <= 40; longTimeFrame += 5) {
+                if (shortTimeFrame < longTimeFrame) {
+                    expectedCount++;
+                }
+            }
+        }
+        assertEquals(expectedCount, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            OptimizationResult result = results.get(i);
+            double expectedValue = criterion.calculate(series, manager.run(independentFactory.apply(result.getParameters())));
+            assertEquals(expectedValue, result.getCriterionValue(), 1e-9);
+            assertTrue(result.getParameters().get("short") < result.getParameters().get("long"));
+            if (i > 0) {
+                assertFalse(criterion.betterThan(result.getCriterionValue(), results.get(i - 1).getCriterionValue()));
+            }
+        }
+    }
+
+    @Test
+    public void indicatorRegistryDuringSearch() {
+        List<IndicatorRegistry> registries = new ArrayList<>();
+        Function<Parameters, Strategy> factory = smaCrossFactory(true);
+        StrategyOptimizer optimizer = new StrategyOptimizer(series, new TotalProfitCriterion(), parameters -> {
+            registries.add(series.getIndicatorRegistry());
+            return factory.apply(parameters);
+        }, Parameter.range("short", 2, 20, 2), Parameter.range("long", 10, 40, 5));
+        optimizer.setFilter(parameters -> parameters.get("short") < parameters.get("long"));
+        List<OptimizationResult> results = optimizer.gridSearch(pool);
+        assertNotNull(registries.get(0));
+        for (IndicatorRegistry registry : registries) {
+            assertSame(registries.get(0), registry);
+        }
+        // 60 combinations, 15 distinct moving averages (10 and 20 being both short and long time frames)
+        assertEquals(2 * 60 - 15, registries.get(0).getSharedCount());
+        assertNull(series.getIndicatorRegistry());
+
+        // Strategy built again from the parameters
+        OptimizationResult best = results.get(0);
+        TradingRecord record = new TimeSeriesManager(series).run(optimizer.buildStrategy(best.getParameters()));
+        assertEquals(best.getCriterionValue(), new TotalProfitCriterion().calculate(series, record), 1e-9);
+
+        // Registry of the series kept
+        IndicatorRegistry seriesRegistry = new IndicatorRegistry();
+        series.setIndicatorRegistry(seriesRegistry);
+        registries.clear();
+        optimizer.gridSearch(pool);
+        assertSame(seriesRegistry, registries.get(0));
+        assertSame(seriesRegistry, series.getIndicatorRegistry());
+    }
+
+    @Test
+    public void randomSearch() {
+        StrategyOptimizer optimizer = buildOptimizer(true);
+        List<OptimizationResult> results = optimizer.randomSearch(20, 42, pool);
+        assertTrue(results.size() <= 20);
+        Set<String> combinations = new HashSet<>();
+        for (OptimizationResult result : results) {
+            assertTrue(combinations.add(result.getParameters().toString()));
+        }
+        // Same draw for the same seed
+        List<OptimizationResult> otherResults = buildOptimizer(true).randomSearch(20, 42, pool);
+        assertEquals(results.size(), otherResults.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(results.get(i).getParameters().toString(), otherResults.get(i).getParameters().toString());
+        }
+        // Whole grid
+        assertEquals(optimizer.gridSearch(pool).size(), optimizer.randomSearch(1000, 42, pool).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownParameterShouldThrowException() {
+        new StrategyOptimizer(series, new TotalProfitCriterion(), parameters -> {
+            parameters.get("unknown");
+            return null;
+        }, Parameter.range("timeFrame", 1, 2, 1)).gridSearch(pool);
+    }
+}
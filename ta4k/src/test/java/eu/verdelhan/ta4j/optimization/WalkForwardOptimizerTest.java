@@ -0,0 +1,151 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.optimization;
+
+import eu.verdelhan.ta4j.BaseStrategy;
+import eu.verdelhan.ta4j.BaseTimeSeries;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.TimeSeriesManager;
+import eu.verdelhan.ta4j.TradingRecord;
+import eu.verdelhan.ta4j.analysis.criteria.TotalProfitCriterion;
+import eu.verdelhan.ta4j.indicators.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import eu.verdelhan.ta4j.trading.rules.CrossedDownIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.CrossedUpIndicatorRule;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WalkForwardOptimizerTest {
+
+    private TimeSeries series;
+
+    private ForkJoinPool pool;
+
+    @Before
+    public void setUp() {
+        double[] closePrices = new double[400];
+        ZonedDateTime[] times = new ZonedDateTime[closePrices.length];
+        ZonedDateTime start = ZonedDateTime.of(2017, 1, 2, 0, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < closePrices.length; i++) {
+            closePrices[i] = 100 + 10 * Math.sin(i / 11d) + 5 * Math.sin(i / 4d) + i / 50d;
+            times[i] = start.plusDays(i);
+        }
+        series = new MockTimeSeries(closePrices, times);
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private StrategyOptimizer buildOptimizer() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        Function<Parameters, Strategy> factory = parameters -> {
+            SMAIndicator shortSma = new SMAIndicator(closePrice, parameters.get("short"));
+            SMAIndicator longSma = new SMAIndicator(closePrice, parameters.get("long"));
+            return new BaseStrategy(new CrossedUpIndicatorRule(shortSma, longSma),
+                    new CrossedDownIndicatorRule(shortSma, longSma));
+        };
+        StrategyOptimizer optimizer = new StrategyOptimizer(series, new TotalProfitCriterion(), factory,
+                Parameter.range("short", 2, 10, 2), Parameter.range("long", 10, 30, 10));
+        return optimizer;
+    }
+
+    @Test
+    public void getIndexAtOrAfter() {
+        ZonedDateTime firstTime = series.getFirstTick().getEndTime();
+        assertEquals(0, WalkForwardOptimizer.getIndexAtOrAfter(series, firstTime.minusDays(3)));
+        assertEquals(0, WalkForwardOptimizer.getIndexAtOrAfter(series, firstTime));
+        assertEquals(10, WalkForwardOptimizer.getIndexAtOrAfter(series, firstTime.plusDays(10)));
+        assertEquals(11, WalkForwardOptimizer.getIndexAtOrAfter(series, firstTime.plusDays(10).plusHours(1)));
+        assertEquals(400, WalkForwardOptimizer.getIndexAtOrAfter(series, firstTime.plusDays(500)));
+        TimeSeries subSeries = new BaseTimeSeries(series, 100, 199);
+        assertEquals(100, WalkForwardOptimizer.getIndexAtOrAfter(subSeries, firstTime));
+        assertEquals(150, WalkForwardOptimizer.getIndexAtOrAfter(subSeries, firstTime.plusDays(150)));
+        assertEquals(200, WalkForwardOptimizer.getIndexAtOrAfter(subSeries, firstTime.plusDays(300)));
+    }
+
+    @Test
+    public void walkForward() {
+        StrategyOptimizer optimizer = buildOptimizer();
+        WalkForwardReport report = new WalkForwardOptimizer(optimizer).run(Duration.ofDays(100), Duration.ofDays(50), pool);
+
+        // Windows starting every 50 days, out-of-sample periods from day 100 to day 399
+        assertEquals(6, report.getWindows().size());
+        TotalProfitCriterion criterion = new TotalProfitCriterion();
+        int tradeCount = 0;
+        for (int i = 0; i < report.getWindows().size(); i++) {
+            WalkForwardWindow window = report.getWindows().get(i);
+            assertEquals(50 * i, window.getInSample().getBeginIndex());
+            assertEquals(50 * i + 99, window.getInSample().getEndIndex());
+            assertEquals(50 * i + 100, window.getOutOfSample().getBeginIndex());
+            assertEquals(50 * i + 149, window.getOutOfSample().getEndIndex());
+
+            // Best in-sample combination (first one on ties)
+            double bestValue = Double.NaN;
+            String bestParameters = null;
+            for (Parameters parameters : optimizer.getGridParameters()) {
+                TradingRecord record = new TimeSeriesManager(window.getInSample()).run(optimizer.buildStrategy(parameters));
+                double value = criterion.calculate(window.getInSample(), record);
+                if (bestParameters == null || criterion.betterThan(value, bestValue)) {
+                    bestValue = value;
+                    bestParameters = parameters.toString();
+                }
+            }
+            assertEquals(bestParameters, window.getBestParameters().toString());
+            assertEquals(bestValue, window.getInSampleCriterionValue(), 1e-9);
+
+            // Out-of-sample validation
+            TradingRecord record = new TimeSeriesManager(window.getOutOfSample()).run(optimizer.buildStrategy(window.getBestParameters()));
+            assertEquals(record.getTradeCount(), window.getOutOfSampleTradingRecord().getTradeCount());
+            assertEquals(criterion.calculate(window.getOutOfSample(), record), window.getOutOfSampleCriterionValue(), 1e-9);
+            tradeCount += record.getTradeCount();
+        }
+        assertEquals(tradeCount, report.getOutOfSampleTrades().size());
+    }
+
+    @Test
+    public void walkForwardWithStep() {
+        WalkForwardReport report = new WalkForwardOptimizer(buildOptimizer())
+                .run(Duration.ofDays(100), Duration.ofDays(100), Duration.ofDays(150), pool);
+        assertEquals(2, report.getWindows().size());
+        assertEquals(150, report.getWindows().get(1).getInSample().getBeginIndex());
+        assertEquals(250, report.getWindows().get(1).getOutOfSample().getBeginIndex());
+        assertEquals(349, report.getWindows().get(1).getOutOfSample().getEndIndex());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroDurationShouldThrowException() {
+        new WalkForwardOptimizer(buildOptimizer()).run(Duration.ZERO, Duration.ofDays(10), pool);
+    }
+}
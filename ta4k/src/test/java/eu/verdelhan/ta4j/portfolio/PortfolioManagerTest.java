@@ -0,0 +1,165 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.portfolio;
+
+import eu.verdelhan.ta4j.BaseStrategy;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.TimeSeriesManager;
+import eu.verdelhan.ta4j.indicators.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import eu.verdelhan.ta4j.trading.rules.CrossedDownIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.CrossedUpIndicatorRule;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PortfolioManagerTest {
+
+    private static final int SYMBOL_COUNT = 6;
+
+    private ForkJoinPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * @return a portfolio of SMA crossover strategies on series with different timestamps
+     */
+    private static PortfolioManager buildPortfolio() {
+        PortfolioManager portfolio = new PortfolioManager();
+        ZonedDateTime start = ZonedDateTime.of(2017, 1, 2, 0, 0, 0, 0, ZoneId.systemDefault());
+        for (int symbol = 0; symbol < SYMBOL_COUNT; symbol++) {
+            double[] closePrices = new double[300 + 20 * symbol];
+            ZonedDateTime[] times = new ZonedDateTime[closePrices.length];
+            for (int i = 0; i < closePrices.length; i++) {
+                closePrices[i] = 100 + 10 * Math.sin((i + 13 * symbol) / 7d) + 5 * Math.sin(i / (3d + symbol));
+                // Some series every hour, others every two hours (different starts)
+                times[i] = start.plusHours(symbol + i * (1 + symbol % 2));
+            }
+            TimeSeries series = new MockTimeSeries(closePrices, times);
+            portfolio.addSymbol("S" + symbol, series, buildStrategy(series, 2 + symbol % 3, 10 + symbol));
+        }
+        return portfolio;
+    }
+
+    private static Strategy buildStrategy(TimeSeries series, int shortTimeFrame, int longTimeFrame) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator shortSma = new SMAIndicator(closePrice, shortTimeFrame);
+        SMAIndicator longSma = new SMAIndicator(closePrice, longTimeFrame);
+        return new BaseStrategy(new CrossedUpIndicatorRule(shortSma, longSma),
+                new CrossedDownIndicatorRule(shortSma, longSma));
+    }
+
+    @Test
+    public void runWithoutPositionLimit() {
+        PortfolioManager portfolio = buildPortfolio();
+        PortfolioTradingRecord record = portfolio.run(pool);
+        assertEquals(portfolio.getSymbols(), record.getSymbols());
+        assertEquals(0, record.getRejectedEntryCount());
+
+        int tradeCount = 0;
+        for (String symbol : record.getSymbols()) {
+            TimeSeries series = record.getTimeSeries(symbol);
+            int symbolIndex = Integer.parseInt(symbol.substring(1));
+            Strategy strategy = buildStrategy(series, 2 + symbolIndex % 3, 10 + symbolIndex);
+            assertEquals(new TimeSeriesManager(series).run(strategy).getTrades(),
+                    record.getTradingRecord(symbol).getTrades());
+            tradeCount += record.getTradingRecord(symbol).getTradeCount();
+        }
+        assertTrue(tradeCount > 0);
+        assertEquals(tradeCount, record.getTradeCount());
+
+        // Aggregate trades, by entry time
+        List<PortfolioTrade> trades = record.getTrades();
+        assertEquals(tradeCount, trades.size());
+        for (int i = 1; i < trades.size(); i++) {
+            assertFalse(trades.get(i).getEntryTime().isBefore(trades.get(i - 1).getEntryTime()));
+        }
+    }
+
+    @Test
+    public void runWithPositionLimit() {
+        PortfolioManager portfolio = buildPortfolio();
+        portfolio.setMaximumOpenPositions(2);
+        PortfolioTradingRecord record = portfolio.run(pool);
+        assertTrue(record.getRejectedEntryCount() > 0);
+        assertTrue(record.getTradeCount() < buildPortfolio().run(pool).getTradeCount());
+
+        // Open positions over time (exits before entries at the same time)
+        List<PortfolioTrade> events = new ArrayList<>(record.getTrades());
+        List<long[]> changes = new ArrayList<>();
+        for (PortfolioTrade trade : events) {
+            changes.add(new long[] { trade.getEntryTime().toEpochSecond(), 1 });
+            changes.add(new long[] { trade.getExitTime().toEpochSecond(), -1 });
+        }
+        changes.sort((change1, change2) -> change1[0] != change2[0] ? Long.compare(change1[0], change2[0])
+                : Long.compare(change1[1], change2[1]));
+        int openPositions = 0;
+        int maximum = 0;
+        for (long[] change : changes) {
+            openPositions += change[1];
+            maximum = Math.max(maximum, openPositions);
+        }
+        assertEquals(2, maximum);
+    }
+
+    @Test
+    public void mergedRunWithHighLimitIsSameAsShardedRun() {
+        PortfolioManager portfolio = buildPortfolio();
+        portfolio.setMaximumOpenPositions(SYMBOL_COUNT);
+        PortfolioTradingRecord merged = portfolio.run(pool);
+        PortfolioTradingRecord sharded = buildPortfolio().run(pool);
+        assertEquals(0, merged.getRejectedEntryCount());
+        for (String symbol : merged.getSymbols()) {
+            assertEquals(sharded.getTradingRecord(symbol).getTrades(), merged.getTradingRecord(symbol).getTrades());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicateSymbolShouldThrowException() {
+        PortfolioManager portfolio = new PortfolioManager();
+        TimeSeries series = new MockTimeSeries(1, 2, 3);
+        portfolio.addSymbol("A", series, buildStrategy(series, 1, 2));
+        portfolio.addSymbol("A", series, buildStrategy(series, 1, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPositionLimitShouldThrowException() {
+        new PortfolioManager().setMaximumOpenPositions(0);
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.portfolio;
+
+import eu.verdelhan.ta4j.BaseTimeSeries;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class TickMergerTest {
+
+    private static final ZonedDateTime START = ZonedDateTime.of(2017, 1, 2, 0, 0, 0, 0, ZoneId.systemDefault());
+
+    private static TimeSeries seriesAtDays(int... days) {
+        ZonedDateTime[] times = new ZonedDateTime[days.length];
+        for (int i = 0; i < days.length; i++) {
+            times[i] = START.plusDays(days[i]);
+        }
+        return new MockTimeSeries(new double[days.length], times);
+    }
+
+    @Test
+    public void mergeInTimeOrder() {
+        List<TimeSeries> series = Arrays.asList(seriesAtDays(0, 2, 4, 6), seriesAtDays(1, 2, 3), new BaseTimeSeries(),
+                seriesAtDays(5, 6, 7));
+        TickMerger merger = new TickMerger(series);
+        List<String> ticks = new ArrayList<>();
+        List<Boolean> sameTimes = new ArrayList<>();
+        while (!merger.isEmpty()) {
+            int position = merger.poll();
+            ticks.add(position + ":" + merger.getIndex(position));
+            sameTimes.add(!merger.isEmpty() && merger.isSameTime(merger.peek(), position));
+            merger.push(position);
+        }
+        // Ties broken by series position
+        assertEquals(Arrays.asList("0:0", "1:0", "0:1", "1:1", "1:2", "0:2", "3:0", "0:3", "3:1", "3:2"), ticks);
+        assertEquals(Arrays.asList(false, false, true, false, false, false, false, true, false, false), sameTimes);
+    }
+
+    @Test
+    public void mergeConstrainedSeries() {
+        TimeSeries series = seriesAtDays(0, 1, 2, 3, 4, 5);
+        TickMerger merger = new TickMerger(Arrays.asList(new BaseTimeSeries(series, 2, 4), seriesAtDays(3)));
+        List<String> ticks = new ArrayList<>();
+        while (!merger.isEmpty()) {
+            int position = merger.peek();
+            assertEquals(position, merger.poll());
+            ticks.add(position + ":" + merger.getIndex(position));
+            merger.push(position);
+        }
+        assertEquals(Arrays.asList("0:2", "0:3", "1:0", "0:4"), ticks);
+        assertEquals(-1, merger.peek());
+    }
+}